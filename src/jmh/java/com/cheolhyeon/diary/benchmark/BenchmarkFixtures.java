@@ -0,0 +1,23 @@
+package com.cheolhyeon.diary.benchmark;
+
+import com.cheolhyeon.diary.app.properties.JwtProperties;
+
+final class BenchmarkFixtures {
+    // Base64 로도 디코딩 가능하고 HS256 키 길이(32바이트 이상)를 만족하는 벤치마크 전용 값
+    static final String SECRET = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJrLW9ubHktZG8tbm90LXVzZS1pbi1wcm9k";
+
+    private BenchmarkFixtures() {
+        throw new AssertionError("No " + BenchmarkFixtures.class.getSimpleName() + " instances");
+    }
+
+    static JwtProperties jwtProperties() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccessTokenExpiration(600000);
+        jwtProperties.setRefreshTokenExpiration(1209600000);
+        jwtProperties.setIss("diary-benchmark");
+        jwtProperties.setAud("diary-benchmark");
+        jwtProperties.setRtLengthBytes(32);
+        return jwtProperties;
+    }
+}
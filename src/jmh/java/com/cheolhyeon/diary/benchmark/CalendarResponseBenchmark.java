@@ -0,0 +1,65 @@
+package com.cheolhyeon.diary.benchmark;
+
+import com.cheolhyeon.diary.app.util.UlidGenerator;
+import com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow;
+import com.cheolhyeon.diary.diary.dto.response.DiaryResponseByYearAndMonth;
+import com.cheolhyeon.diary.diary.enums.Mood;
+import com.cheolhyeon.diary.diary.enums.Weather;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별 캘린더 응답 변환 비용. S3 서명 결과는 미리 만든 Map 으로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarResponseBenchmark {
+
+    // 한 달 일기 수: 가벼운 사용자 / 매일 작성 / 하루 여러 번 작성
+    @Param({"5", "31", "150"})
+    private int diariesPerMonth;
+
+    private List<DiaryCalendarRow> calendarRows;
+    private Map<String, String> thumbnailUrls;
+
+    @Setup
+    public void setUp() {
+        calendarRows = new ArrayList<>(diariesPerMonth);
+        thumbnailUrls = new HashMap<>();
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 0, 0);
+        for (int i = 0; i < diariesPerMonth; i++) {
+            // 절반 정도만 썸네일이 있다고 가정
+            String thumbnailKey = i % 2 == 0 ? "diary/1/2025/9/" + i + "/thumbnail_" + i + ".jpg" : null;
+            if (thumbnailKey != null) {
+                thumbnailUrls.put(thumbnailKey, "https://bucket.s3.amazonaws.com/" + thumbnailKey + "?X-Amz-Signature=" + i);
+            }
+            LocalDateTime createdAt = start.plusHours(i * 4L);
+            calendarRows.add(new DiaryCalendarRow(
+                    UlidGenerator.generatorUlidAsBytes(),
+                    "벤치마크유저",
+                    "일기 제목 " + i,
+                    "일기 본문 미리보기 ".repeat(10),
+                    Mood.HAPPY,
+                    Weather.SUNNY,
+                    thumbnailKey,
+                    createdAt,
+                    createdAt
+            ));
+        }
+    }
+
+    @Benchmark
+    public List<DiaryResponseByYearAndMonth> toResponse() {
+        return DiaryResponseByYearAndMonth.toResponse(calendarRows, thumbnailUrls);
+    }
+}
@@ -0,0 +1,35 @@
+package com.cheolhyeon.diary.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 전체 벤치마크를 실행하고 릴리스 간 비교할 수 있도록 결과를 JSON 으로 남긴다.
+ * 사용법: DiaryBenchmarkRunner [결과 파일 경로] [벤치마크 include 정규식]
+ */
+public final class DiaryBenchmarkRunner {
+    private static final String DEFAULT_RESULT_PATH = "build/reports/jmh/results.json";
+
+    private DiaryBenchmarkRunner() {
+        throw new AssertionError("No " + DiaryBenchmarkRunner.class.getSimpleName() + " instances");
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String resultPath = args.length > 0 ? args[0] : DEFAULT_RESULT_PATH;
+        Files.createDirectories(Path.of(resultPath).toAbsolutePath().getParent());
+        String include = args.length > 1 ? args[1] : DiaryBenchmarkRunner.class.getPackageName() + ".*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultPath)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,41 @@
+package com.cheolhyeon.diary.benchmark;
+
+import com.cheolhyeon.diary.app.util.HashCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공유 코드 조회와 RT 해시에 쓰이는 HMAC 비용을 단일/다중 스레드에서 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCodeGeneratorBenchmark {
+    private HashCodeGenerator hashCodeGenerator;
+
+    @Param({"8", "43"})
+    private int codeLength;
+
+    private String code;
+
+    @Setup
+    public void setUp() {
+        hashCodeGenerator = new HashCodeGenerator(BenchmarkFixtures.jwtProperties().getSecret());
+        code = "a".repeat(codeLength);
+    }
+
+    @Benchmark
+    public String generateShareCodeHash() {
+        return hashCodeGenerator.generateShareCodeHash(code);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateShareCodeHash_Contended() {
+        return hashCodeGenerator.generateShareCodeHash(code);
+    }
+}
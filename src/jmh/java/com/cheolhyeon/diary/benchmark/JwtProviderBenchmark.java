@@ -0,0 +1,55 @@
+package com.cheolhyeon.diary.benchmark;
+
+import com.cheolhyeon.diary.app.properties.JwtProperties;
+import com.cheolhyeon.diary.app.util.HashCodeGenerator;
+import com.cheolhyeon.diary.auth.jwt.AccessTokenClaims;
+import com.cheolhyeon.diary.auth.jwt.JwtProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtFilter 가 거치는 토큰 검증과, 로그인/재발급 시의 토큰 생성 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+    private JwtProvider jwtProvider;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = BenchmarkFixtures.jwtProperties();
+        HashCodeGenerator hashCodeGenerator = new HashCodeGenerator(jwtProperties.getSecret());
+        jwtProvider = new JwtProvider(jwtProperties, hashCodeGenerator);
+        jwtProvider.init();
+        accessToken = jwtProvider.generateAccessToken(1L, "01K5GMK22MR1DZGJ0MD191NRJ6");
+        refreshToken = jwtProvider.generateOpaqueRT();
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateAccessToken(1L, "01K5GMK22MR1DZGJ0MD191NRJ6");
+    }
+
+    @Benchmark
+    public Optional<AccessTokenClaims> verifyAccessToken() {
+        return jwtProvider.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String generateOpaqueRT() {
+        return jwtProvider.generateOpaqueRT();
+    }
+
+    @Benchmark
+    public String hashRT() {
+        return jwtProvider.hashRT(refreshToken);
+    }
+}
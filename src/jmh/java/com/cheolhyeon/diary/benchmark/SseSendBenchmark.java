@@ -0,0 +1,119 @@
+package com.cheolhyeon.diary.benchmark;
+
+import com.cheolhyeon.diary.app.sse.SseEmitterService;
+import com.cheolhyeon.diary.app.sse.broker.InMemorySseBroker;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드에 연결된 emitter 수에 따른 sendToSid 비용. 브로커는 in-memory, heartbeat 는 호출하지 않는다.
+ * 각 emitter 는 컨트롤러가 반환할 때처럼 ResponseBodyEmitterReturnValueHandler 로 비동기 요청에 연결하고,
+ * 응답 본문은 버리는 출력 스트림으로 보내 메시지 변환과 쓰기까지 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SseSendBenchmark {
+
+    @Param({"10", "500", "1000"})
+    private int connectedEmitters;
+
+    private SseEmitterService sseEmitterService;
+    private ResponseBodyEmitterReturnValueHandler returnValueHandler;
+    private MethodParameter returnType;
+    private String[] sessionIds;
+    private final Map<String, Integer> payload = Map.of("count", 3);
+
+    @Setup
+    public void setUp() throws Exception {
+        sseEmitterService = new SseEmitterService(new InMemorySseBroker(), Runnable::run);
+        returnValueHandler = new ResponseBodyEmitterReturnValueHandler(List.of(
+                new StringHttpMessageConverter(StandardCharsets.UTF_8), new MappingJackson2HttpMessageConverter()));
+        returnType = new MethodParameter(SseSendBenchmark.class.getDeclaredMethod("subscribe", String.class, long.class), -1);
+        sessionIds = new String[connectedEmitters];
+        for (int i = 0; i < connectedEmitters; i++) {
+            sessionIds[i] = "bench-session-" + i;
+            // 사용자별 연결 수 제한(2)에 걸리지 않도록 세션마다 다른 userId 사용
+            connect(subscribe(sessionIds[i], i));
+        }
+    }
+
+    @Benchmark
+    public void sendToSid_Connected() {
+        String sessionId = sessionIds[ThreadLocalRandom.current().nextInt(connectedEmitters)];
+        sseEmitterService.sendToSid(sessionId, "pending-count", payload);
+    }
+
+    @Benchmark
+    public void sendToSid_NotConnected() {
+        sseEmitterService.sendToSid("unknown-session", "pending-count", payload);
+    }
+
+    // 반환 타입을 MethodParameter 로 넘기기 위한 컨트롤러 메서드 역할
+    private SseEmitter subscribe(String sessionId, long userId) {
+        return sseEmitterService.subscribe(sessionId, userId);
+    }
+
+    private void connect(SseEmitter emitter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sse/subscribe");
+        request.setAsyncSupported(true);
+        HttpServletResponse response = new DiscardingResponse(new MockHttpServletResponse());
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        returnValueHandler.handleReturnValue(emitter, returnType, new ModelAndViewContainer(), webRequest);
+    }
+
+    // 본문을 메모리에 쌓지 않도록 쓰기를 버리는 응답
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        DiscardingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
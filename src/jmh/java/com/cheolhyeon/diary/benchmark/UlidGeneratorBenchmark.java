@@ -0,0 +1,31 @@
+package com.cheolhyeon.diary.benchmark;
+
+import com.cheolhyeon.diary.app.util.UlidGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UlidGeneratorBenchmark {
+    private final byte[] ulidBytes = UlidGenerator.generatorUlidAsBytes();
+
+    @Benchmark
+    public byte[] generatorUlidAsBytes() {
+        return UlidGenerator.generatorUlidAsBytes();
+    }
+
+    @Benchmark
+    public String generatorUlidAsString() {
+        return UlidGenerator.generatorUlidAsString();
+    }
+
+    @Benchmark
+    public String ulidBytesToString() {
+        return UlidGenerator.ulidBytesToString(ulidBytes);
+    }
+}
@@ -0,0 +1,114 @@
+package com.cheolhyeon.diary.app.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 크기와 항목별 만료 시각을 가지는 인메모리 LRU 캐시.
+ * 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하며, null 값은 저장하지 않는다.
+ */
+public class ExpiringLruCache<K, V> {
+    private final int maxSize;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public ExpiringLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                boolean overflow = size() > ExpiringLruCache.this.maxSize;
+                if (overflow) {
+                    evictionCount.increment();
+                }
+                return overflow;
+            }
+        };
+    }
+
+    public synchronized V get(K key, long nowMillis) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= nowMillis) {
+            entries.remove(key);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new CacheEntry<>(value, expiresAtMillis));
+    }
+
+    public synchronized void invalidate(K key) {
+        if (entries.remove(key) != null) {
+            invalidationCount.increment();
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidationCount.add(entries.size());
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    // StatsSource 로 노출할 캐시 지표
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size());
+        stats.put("hitRatio", String.format("%.2f", getHitRatio()));
+        stats.put("hits", getHitCount());
+        stats.put("misses", getMissCount());
+        stats.put("evictions", getEvictionCount());
+        stats.put("invalidations", getInvalidationCount());
+        return stats;
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private CacheEntry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
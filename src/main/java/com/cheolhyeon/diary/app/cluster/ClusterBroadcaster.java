@@ -0,0 +1,16 @@
+package com.cheolhyeon.diary.app.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드마다 따로 들고 있는 메모리 상태(검색 색인, 캐시 등)의 변경을 다른 노드에 알린다.
+ * 보낸 노드 자신에게는 다시 전달되지 않으므로 로컬 반영은 호출한 쪽이 직접 한다.
+ */
+public interface ClusterBroadcaster {
+
+    // 전달은 최선 노력(best effort)이다 -> 실패해도 예외를 던지지 않고 기록만 한다
+    void broadcast(String topic, Object payload);
+
+    // 다른 노드가 topic 으로 보낸 payload 를 type 으로 읽어 handler 로 넘긴다
+    <T> void subscribe(String topic, Class<T> type, Consumer<T> handler);
+}
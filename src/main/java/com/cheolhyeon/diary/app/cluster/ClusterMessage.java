@@ -0,0 +1,15 @@
+package com.cheolhyeon.diary.app.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterMessage {
+    // 보낸 노드 -> 자신이 보낸 메시지는 무시한다
+    private String sourceNodeId;
+    private JsonNode payload;
+}
@@ -0,0 +1,22 @@
+package com.cheolhyeon.diary.app.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용. 알릴 다른 노드가 없으므로 아무것도 하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cluster.broadcast", name = "type", havingValue = "memory", matchIfMissing = true)
+public class LocalClusterBroadcaster implements ClusterBroadcaster {
+
+    @Override
+    public void broadcast(String topic, Object payload) {
+    }
+
+    @Override
+    public <T> void subscribe(String topic, Class<T> type, Consumer<T> handler) {
+    }
+}
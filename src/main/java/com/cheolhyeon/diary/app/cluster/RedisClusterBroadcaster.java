@@ -0,0 +1,81 @@
+package com.cheolhyeon.diary.app.cluster;
+
+import com.cheolhyeon.diary.app.util.UlidGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 으로 모든 노드에 브로드캐스트한다. topic 마다 채널(cluster:{topic}) 하나를 쓴다.
+ *
+ * <p>pub/sub 은 구독 중인 노드에게만 전달되고 저장되지 않는다. 연결이 끊긴 동안의 메시지는 사라지므로
+ * 받는 쪽은 TTL 이나 DB 재확인처럼 놓친 메시지를 스스로 회복할 수단을 함께 가져야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cluster.broadcast", name = "type", havingValue = "redis")
+public class RedisClusterBroadcaster implements ClusterBroadcaster {
+    private static final String CHANNEL_PREFIX = "cluster:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UlidGenerator.generatorUlidAsString();
+
+    public RedisClusterBroadcaster(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Redis cluster broadcaster started - node: {}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void broadcast(String topic, Object payload) {
+        try {
+            ClusterMessage message = new ClusterMessage(nodeId, objectMapper.valueToTree(payload));
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + topic, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast cluster message - topic: {}, error: {}", topic, e.getMessage());
+        }
+    }
+
+    @Override
+    public <T> void subscribe(String topic, Class<T> type, Consumer<T> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                ClusterMessage clusterMessage = objectMapper.readValue(body, ClusterMessage.class);
+                if (nodeId.equals(clusterMessage.getSourceNodeId())) {
+                    return;
+                }
+                handler.accept(objectMapper.treeToValue(clusterMessage.getPayload(), type));
+            } catch (Exception e) {
+                log.warn("Failed to handle cluster message - topic: {}, error: {}", topic, e.getMessage());
+            }
+        }, new ChannelTopic(CHANNEL_PREFIX + topic));
+    }
+}
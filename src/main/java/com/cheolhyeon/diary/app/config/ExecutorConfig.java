@@ -0,0 +1,73 @@
+package com.cheolhyeon.diary.app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 큐가 가득 차면 호출한 요청 스레드에서 직접 업로드하여 자연스럽게 속도를 늦춘다
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor(
+            @Value("${diary.s3.upload.pool-size:16}") int poolSize,
+            @Value("${diary.s3.upload.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 이미지 디코딩/리사이즈 전용 풀 -> 디코딩 중인 이미지 수(=힙 사용량)를 풀 크기로 제한한다
+    // 큐가 가득 차면 거절하고 ImageVariantService 가 변형 없이 원본만 사용한다
+    // (요청 스레드에서 직접 디코딩하면 동시에 디코딩하는 이미지 수가 풀 크기를 넘어선다)
+    @Bean(name = "imageVariantExecutor")
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${diary.image.variant.pool-size:2}") int poolSize,
+            @Value("${diary.image.variant.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // heartbeat 전송 전용 풀 -> 포화되면 거절하고 SseEmitterService 가 다음 tick 에 다시 예약한다
+    @Bean(name = "sseHeartbeatExecutor")
+    public ThreadPoolTaskExecutor sseHeartbeatExecutor(
+            @Value("${sse.heartbeat.pool-size:8}") int poolSize,
+            @Value("${sse.heartbeat.queue-capacity:5000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sse-heartbeat-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // 친구 요청 알림 발송 전용 풀 -> 포화되면 거절하고 ERROR 로 기록해 재시도 스케줄러가 다시 발송한다
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${notification.dispatch.pool-size:4}") int poolSize,
+            @Value("${notification.dispatch.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
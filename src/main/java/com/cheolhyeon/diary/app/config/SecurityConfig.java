@@ -1,7 +1,9 @@
 package com.cheolhyeon.diary.app.config;
 
+import com.cheolhyeon.diary.app.ratelimit.RateLimitFilter;
 import com.cheolhyeon.diary.auth.jwt.JwtFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,6 +26,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -39,6 +42,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // JWT 필터 추가
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // 요청 제한 필터 추가 (인증된 사용자 ID 를 써야 하므로 JWT 필터 다음)
+                .addFilterAfter(rateLimitFilter, JwtFilter.class)
                 // 요청별 권한 설정
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // preflight 허용
@@ -64,6 +69,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 서블릿 컨테이너에 자동 등록되면 보안 필터 체인보다 먼저 실행되어 사용자 정보 없이 처리되므로 막는다
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,33 @@
+package com.cheolhyeon.diary.app.event.diary;
+
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 검색 색인에 반영할 일기 변경. 커밋된 뒤에만 {@link DiaryIndexEventListener} 가 색인에 적용한다.
+ * 다른 노드로도 JSON 으로 전달된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryIndexEvent {
+    private Long writerId;
+    private byte[] diaryId;
+    private String title;
+    private String content;
+    private List<String> tags;
+    private boolean deleted;
+
+    public static DiaryIndexEvent upsert(Diaries diary) {
+        return new DiaryIndexEvent(diary.getWriterId(), diary.getDiaryId(),
+                diary.getTitle(), diary.getContent(), diary.getTagsJson(), false);
+    }
+
+    public static DiaryIndexEvent delete(Diaries diary) {
+        return new DiaryIndexEvent(diary.getWriterId(), diary.getDiaryId(), null, null, null, true);
+    }
+}
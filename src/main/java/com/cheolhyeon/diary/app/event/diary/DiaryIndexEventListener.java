@@ -0,0 +1,50 @@
+package com.cheolhyeon.diary.app.event.diary;
+
+import com.cheolhyeon.diary.app.cluster.ClusterBroadcaster;
+import com.cheolhyeon.diary.diary.search.DiaryInvertedIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 일기 변경을 이 노드의 색인에 반영하고 다른 노드에도 알린다.
+ * 색인은 노드마다 따로 있으므로 다른 노드에서 커밋된 변경은 {@link ClusterBroadcaster} 로 전달받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryIndexEventListener {
+    private static final String TOPIC = "diary-index";
+
+    private final DiaryInvertedIndex diaryInvertedIndex;
+    private final ClusterBroadcaster clusterBroadcaster;
+
+    @PostConstruct
+    public void subscribe() {
+        if (diaryInvertedIndex.isEnabled()) {
+            clusterBroadcaster.subscribe(TOPIC, DiaryIndexEvent.class, this::apply);
+        }
+    }
+
+    // 롤백된 변경이 검색되지 않도록 커밋 이후에만 색인한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommit(DiaryIndexEvent event) {
+        if (!diaryInvertedIndex.isEnabled()) {
+            return;
+        }
+        apply(event);
+        clusterBroadcaster.broadcast(TOPIC, event);
+    }
+
+    private void apply(DiaryIndexEvent event) {
+        try {
+            diaryInvertedIndex.apply(event);
+        } catch (Exception e) {
+            // 색인 실패가 이미 커밋된 요청을 실패시키지 않도록 기록만 한다 -> 다음 수정 또는 재기동 시 바로잡힌다
+            log.warn("Failed to apply diary index event - writerId: {}, error: {}", event.getWriterId(), e.getMessage(), e);
+        }
+    }
+}
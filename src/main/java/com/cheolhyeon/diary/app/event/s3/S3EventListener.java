@@ -16,12 +16,12 @@ public class S3EventListener {
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
     public void onRollback(S3RollbackCleanup payload) {
-        for (String key : payload.getImageKeys()) {
-            try {
-                s3Service.delete(key);
-            } catch (Exception e) {
-                log.warn("S3 Images Warn {}", e.getMessage(), e);
-            }
+        // 다른 일기와 공유하는 객체일 수 있으므로 바로 지우지 않고 참조만 되돌린다
+        // 참조가 0 이 된 객체는 별도 트랜잭션에서 삭제 대기열에 기록되고 S3DeletionSweeper 가 재시도하며 지운다
+        try {
+            s3Service.compensate(payload.getImageKeys());
+        } catch (Exception e) {
+            log.warn("S3 Images Warn {}", e.getMessage(), e);
         }
     }
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -19,7 +19,19 @@ public enum DiaryErrorStatus implements ErrorStatus, Serializable {
     ), ALREADY_DELETE(
             HttpStatus.BAD_REQUEST.value(),
             HttpStatus.BAD_REQUEST.getReasonPhrase(),
-            "잘못된 접근입니다.");
+            "잘못된 접근입니다."
+    ), INVALID_CURSOR(
+            HttpStatus.BAD_REQUEST.value(),
+            HttpStatus.BAD_REQUEST.getReasonPhrase(),
+            "잘못된 커서 값입니다."
+    ), INVALID_EXPORT_FORMAT(
+            HttpStatus.BAD_REQUEST.value(),
+            HttpStatus.BAD_REQUEST.getReasonPhrase(),
+            "지원하지 않는 내보내기 형식입니다."
+    ), INVALID_SEARCH_QUERY(
+            HttpStatus.BAD_REQUEST.value(),
+            HttpStatus.BAD_REQUEST.getReasonPhrase(),
+            "검색어 또는 태그를 입력해주세요.");
     private final int errorCode;
     private final String errorMessage;
     private final String errorDescription;
@@ -21,7 +21,11 @@ public enum FriendRequestErrorStatus implements ErrorStatus {
     ALREADY_DECIDED_REQUEST(
             HttpStatus.CONFLICT.value(),
             HttpStatus.CONFLICT.getReasonPhrase(),
-            "이미 처리된 항목입니다.")
+            "이미 처리된 항목입니다."),
+    INVALID_CURSOR(
+            HttpStatus.BAD_REQUEST.value(),
+            HttpStatus.BAD_REQUEST.getReasonPhrase(),
+            "잘못된 커서 값입니다.")
     ;
 
 
@@ -0,0 +1,22 @@
+package com.cheolhyeon.diary.app.exception.ratelimit;
+
+import com.cheolhyeon.diary.app.exception.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public enum RateLimitErrorStatus implements ErrorStatus {
+    TOO_MANY_REQUESTS(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+            "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+    );
+
+    private final int errorCode;
+    private final String errorMessage;
+    private final String errorDescription;
+}
@@ -0,0 +1,36 @@
+package com.cheolhyeon.diary.app.notification.buffer;
+
+import com.cheolhyeon.diary.app.notification.enums.EventType;
+import com.cheolhyeon.diary.app.notification.enums.NotificationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * notification_log 한 행에 반영할 상태 변화. 같은 (txId, eventType) 의 기록은 버퍼에서 하나로 합쳐진다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationLogRecord {
+    private final String txId;
+    private final Long recipientId;
+    private final EventType eventType;
+    private final NotificationStatus status;
+    private final String errorMessage;
+    private final int attemptIncrement;
+
+    public String key() {
+        return txId + ":" + eventType.name();
+    }
+
+    // newer 가 더 나중의 상태 변화 -> 상태와 메시지는 newer 를 따르고 시도 횟수는 더한다
+    public static NotificationLogRecord merge(NotificationLogRecord older, NotificationLogRecord newer) {
+        return new NotificationLogRecord(
+                newer.txId,
+                newer.recipientId != null ? newer.recipientId : older.recipientId,
+                newer.eventType,
+                newer.status,
+                newer.errorMessage,
+                older.attemptIncrement + newer.attemptIncrement
+        );
+    }
+}
@@ -0,0 +1,212 @@
+package com.cheolhyeon.diary.app.notification.buffer;
+
+import com.cheolhyeon.diary.app.notification.enums.EventType;
+import com.cheolhyeon.diary.app.notification.enums.NotificationStatus;
+import com.cheolhyeon.diary.app.notification.repository.NotificationLogBatchRepository;
+import com.cheolhyeon.diary.app.properties.NotificationLogBufferProperties;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * notification_log 상태 변화를 메모리에 모았다가 multi-row upsert 로 한 번에 반영하는 write-behind 버퍼.
+ *
+ * <p>flush 조건: batchSize 만큼 쌓였을 때(기록한 스레드가 수행) 또는 flush-interval-ms 주기.
+ * 같은 (txId, eventType) 의 기록은 하나로 합쳐지므로 NEW -> CHECKED 같은 전이는 한 행 쓰기로 끝난다.
+ *
+ * <p>장애 시 동작: 아직 flush 되지 않은 기록은 프로세스가 비정상 종료되면 유실된다
+ * (최대 flush 주기 또는 batchSize 만큼). notification_log 는 알림 발송 이력이며 친구 요청 자체는
+ * 이미 커밋된 상태이므로, 유실되어도 요청 데이터의 정합성에는 영향이 없다.
+ * 정상 종료 시에는 {@link #flushOnShutdown()} 에서 남은 기록을 모두 반영한다.
+ * DB 쓰기가 실패하면 기록을 버퍼에 되돌려 다음 flush 에서 다시 시도한다.
+ *
+ * <p>버퍼가 maxPending 에 도달하면 기록하는 스레드가 직접 flush 하여 속도를 늦춘다(backpressure).
+ * 그래도 자리가 나지 않으면(DB 장애 지속) 기록을 버리고 dropped 로 집계한다.
+ */
+@Slf4j
+@Component
+public class NotificationLogWriteBuffer implements StatsSource {
+    private final NotificationLogBatchRepository notificationLogBatchRepository;
+    private final int batchSize;
+    private final int maxPending;
+
+    // 삽입 순서를 유지해 오래된 기록부터 flush 한다
+    private final Map<String, NotificationLogRecord> pending = new LinkedHashMap<>();
+    private final Object pendingLock = new Object();
+    // 같은 키의 기록이 서로 다른 배치로 동시에 쓰여 순서가 뒤바뀌지 않도록 flush 는 한 번에 하나만 수행한다
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedFlushCount = new LongAdder();
+
+    public NotificationLogWriteBuffer(NotificationLogBatchRepository notificationLogBatchRepository,
+                                      NotificationLogBufferProperties properties) {
+        this.notificationLogBatchRepository = notificationLogBatchRepository;
+        this.batchSize = properties.getBatchSize();
+        this.maxPending = properties.getMaxPending();
+    }
+
+    // 새 발송 시도 -> attempt_count + 1, status NEW
+    public void recordAttempt(String txId, Long recipientId, EventType eventType) {
+        record(new NotificationLogRecord(txId, recipientId, eventType, NotificationStatus.NEW, null, 1));
+    }
+
+    public void recordStatus(String txId, Long recipientId, EventType eventType,
+                             NotificationStatus status, String errorMessage) {
+        record(new NotificationLogRecord(txId, recipientId, eventType, status, errorMessage, 0));
+    }
+
+    private void record(NotificationLogRecord record) {
+        // 가득 찼을 때 한 번 직접 flush 해보고 그래도 자리가 없으면 버린다
+        for (int attempt = 0; attempt < 2; attempt++) {
+            int size = tryAppend(record);
+            if (size >= 0) {
+                if (size >= batchSize) {
+                    flushIfIdle();
+                }
+                return;
+            }
+            flush();
+        }
+        droppedCount.increment();
+        log.warn("Notification log buffer full, dropped record txId={}, status={}",
+                record.getTxId(), record.getStatus());
+    }
+
+    // 추가 후 버퍼 크기를 반환, 가득 차서 추가하지 못하면 -1
+    private int tryAppend(NotificationLogRecord record) {
+        synchronized (pendingLock) {
+            NotificationLogRecord existing = pending.get(record.key());
+            if (existing != null) {
+                pending.put(record.key(), NotificationLogRecord.merge(existing, record));
+                coalescedCount.increment();
+                return pending.size();
+            }
+            if (pending.size() >= maxPending) {
+                return -1;
+            }
+            pending.put(record.key(), record);
+            return pending.size();
+        }
+    }
+
+    private void flushIfIdle() {
+        if (flushLock.tryLock()) {
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.log-buffer.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        int remaining = getPendingCount();
+        if (remaining > 0) {
+            log.error("Notification log buffer lost {} records on shutdown", remaining);
+        }
+    }
+
+    // flushLock 을 잡은 상태에서만 호출한다. 호출 시점에 쌓여 있던 만큼만 처리해 계속 유입되어도 끝이 난다
+    private void flushPending() {
+        int remaining = getPendingCount();
+        while (remaining > 0) {
+            List<NotificationLogRecord> batch = drain(Math.min(batchSize, remaining));
+            if (batch.isEmpty()) {
+                return;
+            }
+            remaining -= batch.size();
+            try {
+                notificationLogBatchRepository.upsertAll(batch);
+                flushedCount.add(batch.size());
+            } catch (Exception e) {
+                failedFlushCount.increment();
+                log.warn("Failed to flush {} notification log records: {}", batch.size(), e.getMessage());
+                requeue(batch);
+                return;
+            }
+        }
+    }
+
+    private List<NotificationLogRecord> drain(int max) {
+        List<NotificationLogRecord> batch = new ArrayList<>(max);
+        synchronized (pendingLock) {
+            Iterator<NotificationLogRecord> iterator = pending.values().iterator();
+            while (iterator.hasNext() && batch.size() < max) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        return batch;
+    }
+
+    // 실패한 배치는 버퍼에 남아 있는 기록보다 오래된 것이므로 older 로 합친다
+    private void requeue(List<NotificationLogRecord> batch) {
+        synchronized (pendingLock) {
+            for (NotificationLogRecord record : batch) {
+                NotificationLogRecord newer = pending.get(record.key());
+                if (newer != null) {
+                    pending.put(record.key(), NotificationLogRecord.merge(record, newer));
+                } else if (pending.size() < maxPending) {
+                    pending.put(record.key(), record);
+                } else {
+                    droppedCount.increment();
+                }
+            }
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (pendingLock) {
+            return pending.size();
+        }
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @Override
+    public String statsName() {
+        return "Notification log buffer";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", getPendingCount());
+        stats.put("flushed", flushedCount.sum());
+        stats.put("coalesced", coalescedCount.sum());
+        stats.put("dropped", droppedCount.sum());
+        stats.put("failedFlushes", failedFlushCount.sum());
+        return stats;
+    }
+}
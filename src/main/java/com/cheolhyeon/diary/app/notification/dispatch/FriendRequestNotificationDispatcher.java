@@ -0,0 +1,159 @@
+package com.cheolhyeon.diary.app.notification.dispatch;
+
+import com.cheolhyeon.diary.app.event.friendrequest.FriendRequestNotification;
+import com.cheolhyeon.diary.app.notification.buffer.NotificationLogWriteBuffer;
+import com.cheolhyeon.diary.app.notification.enums.EventType;
+import com.cheolhyeon.diary.app.notification.enums.NotificationStatus;
+import com.cheolhyeon.diary.app.sse.SseEmitterService;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
+import com.cheolhyeon.diary.friendrequest.repository.FriendRequestRepository;
+import com.cheolhyeon.diary.friendrequest.service.PendingFriendRequestCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 친구 요청 알림을 전용 executor 에서 발송한다. 요청 스레드는 작업을 넘기기만 하고 바로 응답한다.
+ * executor 가 포화되면 ERROR 로 기록하고 {@link FriendRequestNotificationRetryScheduler} 가 다시 발송한다.
+ */
+@Slf4j
+@Component
+public class FriendRequestNotificationDispatcher implements StatsSource {
+    private final FriendRequestRepository friendRequestRepository;
+    private final PendingFriendRequestCounter pendingFriendRequestCounter;
+    private final SseEmitterService sseEmitterService;
+    private final NotificationLogWriteBuffer notificationLogWriteBuffer;
+    private final Executor notificationExecutor;
+
+    // 같은 알림이 재시도 스캔과 겹쳐 두 번 발송되지 않도록 처리 중인 txId 를 관리한다
+    private final Set<String> inFlightTxIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder ignoredCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    // 기동 이후 최댓값 (stats() 가 읽기만 하도록 초기화하지 않는다)
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Long::max, 0);
+
+    public FriendRequestNotificationDispatcher(FriendRequestRepository friendRequestRepository,
+                                               PendingFriendRequestCounter pendingFriendRequestCounter,
+                                               SseEmitterService sseEmitterService,
+                                               NotificationLogWriteBuffer notificationLogWriteBuffer,
+                                               @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.friendRequestRepository = friendRequestRepository;
+        this.pendingFriendRequestCounter = pendingFriendRequestCounter;
+        this.sseEmitterService = sseEmitterService;
+        this.notificationLogWriteBuffer = notificationLogWriteBuffer;
+        this.notificationExecutor = notificationExecutor;
+    }
+
+    /**
+     * @return 발송 작업을 executor 에 넘겼으면 true, 이미 처리 중이거나 거절되었으면 false
+     */
+    public boolean dispatch(FriendRequestNotification notification) {
+        String txId = notification.getRequestId();
+        if (!inFlightTxIds.add(txId)) {
+            return false;
+        }
+        long enqueuedAt = System.nanoTime();
+        queueDepth.incrementAndGet();
+        try {
+            notificationExecutor.execute(() -> deliver(notification, enqueuedAt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            inFlightTxIds.remove(txId);
+            rejectedCount.increment();
+            log.warn("Notification executor saturated, deferring txId={} to retry", txId);
+            notificationLogWriteBuffer.recordAttempt(txId, notification.getShareCodeOwnerUserId(), EventType.FRIEND_REQUEST);
+            notificationLogWriteBuffer.recordStatus(
+                    txId, notification.getShareCodeOwnerUserId(), EventType.FRIEND_REQUEST, NotificationStatus.ERROR,
+                    "알림 발송 큐 포화 - 재시도 대기");
+            return false;
+        }
+    }
+
+    private void deliver(FriendRequestNotification notification, long enqueuedAt) {
+        queueDepth.decrementAndGet();
+        String txId = notification.getRequestId();
+        Long recipientId = notification.getShareCodeOwnerUserId();
+
+        try {
+            notificationLogWriteBuffer.recordAttempt(txId, recipientId, EventType.FRIEND_REQUEST);
+
+            // 요청알림과 친구요청작업 자체가 서로 다른 개별 트랜잭션이기 때문에 사용자가 친구요청에 대해서 다른 쓰레드에서 발송이 가기전 처리할 수도 있기 때문에
+            // 친구요청 트랜잭션과 알림 발송은 완전히 별개. 알림이 먼저 가지 않아도, 수락/거절은 가능한것.
+            if (!friendRequestRepository.existsPendingByRequestId(txId, FriendRequestStatus.PENDING.name())) {
+                notificationLogWriteBuffer.recordStatus(
+                        txId, recipientId, EventType.FRIEND_REQUEST, NotificationStatus.IGNORE,
+                        "이미 처리된 알림입니다. No More PENDING");
+                ignoredCount.increment();
+                return;
+            }
+            // 확인해야 하는 알림 개수는 count(*) 대신 카운터에서 조회
+            long pendingCount = pendingFriendRequestCounter.getPendingCount(recipientId);
+            sseEmitterService.sendToSid(notification.getSessionId(), "pending-count", pendingCount);
+
+            // 알림 발송 성공 시
+            notificationLogWriteBuffer.recordStatus(txId, recipientId, EventType.FRIEND_REQUEST, NotificationStatus.CHECKED, null);
+            deliveredCount.increment();
+        } catch (Exception e) {
+            // 알림 발송 실패 시 -> 재시도 스케줄러가 백오프 후 다시 발송
+            failedCount.increment();
+            log.warn("FRIEND REQUEST ERROR OCCURE MESSAGE : {}", e.getMessage());
+            notificationLogWriteBuffer.recordStatus(
+                    txId, recipientId, EventType.FRIEND_REQUEST, NotificationStatus.ERROR,
+                    "알림 발송중 에러 발생 - 재시도 대기");
+        } finally {
+            inFlightTxIds.remove(txId);
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedAt);
+            totalLatencyMillis.add(latencyMillis);
+            maxLatencyMillis.accumulate(latencyMillis);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String statsName() {
+        return "Friend request notification dispatch";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        long completed = deliveredCount.sum() + ignoredCount.sum() + failedCount.sum();
+        double avgLatency = completed == 0 ? 0.0 : (double) totalLatencyMillis.sum() / completed;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueDepth", queueDepth.get());
+        stats.put("delivered", deliveredCount.sum());
+        stats.put("ignored", ignoredCount.sum());
+        stats.put("failed", failedCount.sum());
+        stats.put("rejected", rejectedCount.sum());
+        stats.put("avgLatencyMs", String.format("%.2f", avgLatency));
+        stats.put("maxLatencyMs", maxLatencyMillis.get());
+        return stats;
+    }
+}
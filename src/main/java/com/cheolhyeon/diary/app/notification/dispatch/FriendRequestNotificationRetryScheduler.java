@@ -0,0 +1,71 @@
+package com.cheolhyeon.diary.app.notification.dispatch;
+
+import com.cheolhyeon.diary.app.event.friendrequest.FriendRequestNotification;
+import com.cheolhyeon.diary.app.notification.buffer.NotificationLogWriteBuffer;
+import com.cheolhyeon.diary.app.notification.entity.NotificationLog;
+import com.cheolhyeon.diary.app.notification.enums.EventType;
+import com.cheolhyeon.diary.app.notification.enums.NotificationStatus;
+import com.cheolhyeon.diary.app.notification.repository.NotificationLogRepository;
+import com.cheolhyeon.diary.app.properties.NotificationDispatchProperties;
+import com.cheolhyeon.diary.auth.entity.AuthSession;
+import com.cheolhyeon.diary.auth.session.SessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ERROR 상태의 친구 요청 알림을 지수 백오프로 다시 발송한다.
+ * 수신자의 세션은 발송 시점에 다시 조회한다 (실패 이후 재로그인했을 수 있으므로).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendRequestNotificationRetryScheduler {
+    private final NotificationLogRepository notificationLogRepository;
+    private final SessionRepository sessionRepository;
+    private final FriendRequestNotificationDispatcher friendRequestNotificationDispatcher;
+    private final NotificationLogWriteBuffer notificationLogWriteBuffer;
+    private final NotificationDispatchProperties notificationDispatchProperties;
+
+    private final LongAdder retryDispatchedCount = new LongAdder();
+
+    @Scheduled(fixedDelayString = "${notification.dispatch.retry-interval-ms:30000}")
+    public void retryFailedNotifications() {
+        List<NotificationLog> targets = notificationLogRepository.findRetryTargets(
+                EventType.FRIEND_REQUEST.name(),
+                notificationDispatchProperties.getRetryMaxAttempts(),
+                notificationDispatchProperties.getRetryBaseDelay().toSeconds(),
+                notificationDispatchProperties.getRetryBatchSize());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        int dispatched = 0;
+        for (NotificationLog target : targets) {
+            Optional<AuthSession> recipientSession = sessionRepository.findByUserId(target.getRecipientId());
+            if (recipientSession.isEmpty()) {
+                // 로그인 세션이 없으면 보낼 곳이 없다 -> 다음 접속 시 pending-count 를 조회하므로 재시도하지 않는다
+                notificationLogWriteBuffer.recordStatus(
+                        target.getTransactionId(), target.getRecipientId(), EventType.FRIEND_REQUEST,
+                        NotificationStatus.IGNORE, "수신자 세션 없음 - 재시도 중단");
+                continue;
+            }
+            FriendRequestNotification notification = new FriendRequestNotification(
+                    recipientSession.get().getSessionId(), target.getTransactionId(), target.getRecipientId(), null, null);
+            if (friendRequestNotificationDispatcher.dispatch(notification)) {
+                dispatched++;
+            }
+        }
+        retryDispatchedCount.add(dispatched);
+        log.info("Retried friend request notifications: {}/{}", dispatched, targets.size());
+    }
+
+    public long getRetryDispatchedCount() {
+        return retryDispatchedCount.sum();
+    }
+}
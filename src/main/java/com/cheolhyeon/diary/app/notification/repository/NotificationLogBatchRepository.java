@@ -0,0 +1,57 @@
+package com.cheolhyeon.diary.app.notification.repository;
+
+import com.cheolhyeon.diary.app.notification.buffer.NotificationLogRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationLogBatchRepository {
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO notification_log
+              (tx_id, recipient_id, event_type, status, attempt_count, error_message, created_at, updated_at)
+            VALUES
+            """;
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, NOW(), NOW())";
+    private static final String UPSERT_SUFFIX = """
+
+            ON DUPLICATE KEY UPDATE
+              attempt_count = attempt_count + VALUES(attempt_count),
+              status = VALUES(status),
+              error_message = VALUES(error_message),
+              updated_at = NOW()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 행을 하나의 INSERT ... ON DUPLICATE KEY UPDATE 문으로 반영한다.
+     * (tx_id, event_type) 유니크 키 기준으로 시도 횟수는 누적, 상태와 메시지는 덮어쓴다.
+     */
+    public int upsertAll(List<NotificationLogRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        List<Object> args = new ArrayList<>(records.size() * 6);
+        for (int i = 0; i < records.size(); i++) {
+            NotificationLogRecord record = records.get(i);
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append(UPSERT_ROW);
+            args.add(record.getTxId());
+            args.add(record.getRecipientId());
+            args.add(record.getEventType().name());
+            args.add(record.getStatus().name());
+            args.add(record.getAttemptIncrement());
+            args.add(record.getErrorMessage());
+        }
+        sql.append(UPSERT_SUFFIX);
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
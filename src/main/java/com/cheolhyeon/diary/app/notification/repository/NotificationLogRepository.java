@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface NotificationLogRepository extends JpaRepository<NotificationLog, Long> {
     @Modifying
     @Query(value = """
@@ -34,4 +36,19 @@ public interface NotificationLogRepository extends JpaRepository<NotificationLog
                      @Param("eventType") String eventType,
                      @Param("status") String status,
                      @Param("errorMessage") String errorMessage);
+
+    // 지수 백오프: 마지막 시도 후 baseDelaySeconds * 2^(attempt_count - 1) 초가 지난 ERROR 알림만 조회
+    @Query(value = """
+            SELECT * FROM notification_log n
+            WHERE n.status = 'ERROR'
+            AND n.event_type = :eventType
+            AND n.attempt_count < :maxAttempts
+            AND n.updated_at <= NOW() - INTERVAL (:baseDelaySeconds * POW(2, n.attempt_count - 1)) SECOND
+            ORDER BY n.updated_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NotificationLog> findRetryTargets(@Param("eventType") String eventType,
+                                           @Param("maxAttempts") int maxAttempts,
+                                           @Param("baseDelaySeconds") long baseDelaySeconds,
+                                           @Param("limit") int limit);
 }
@@ -0,0 +1,20 @@
+package com.cheolhyeon.diary.app.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "client-ip")
+public class ClientIpProperties {
+    // X-Forwarded-For 를 덧붙이는 앞단 프록시/로드밸런서 주소 (IP 또는 CIDR)
+    // 이 주소에서 온 요청만 프록시 헤더를 읽는다. 기본값은 loopback 과 사설 대역
+    private List<String> trustedProxies = new ArrayList<>(List.of(
+            "127.0.0.1/32", "::1", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16"));
+}
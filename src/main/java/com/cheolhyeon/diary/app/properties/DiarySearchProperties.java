@@ -0,0 +1,24 @@
+package com.cheolhyeon.diary.app.properties;
+
+import com.cheolhyeon.diary.diary.enums.SearchEngine;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diary.search")
+public class DiarySearchProperties {
+    // 검색에 사용할 엔진 (mysql | memory)
+    private SearchEngine engine = SearchEngine.MYSQL;
+    // 메모리 색인 스냅샷 파일 경로 -> 재기동 시 전체 재색인 대신 스냅샷 이후 변경분만 DB 에서 읽는다
+    private String snapshotPath = "data/diary-search-index.bin";
+    // 스냅샷 시각보다 이만큼 앞선 변경부터 다시 읽어 스냅샷 도중 커밋된 변경을 놓치지 않는다
+    private Duration catchUpMargin = Duration.ofMinutes(5);
+    // 색인을 채울 때 한 번에 읽는 일기 수 -> 페이지마다 짧은 트랜잭션으로 읽는다
+    private int loadPageSize = 1000;
+}
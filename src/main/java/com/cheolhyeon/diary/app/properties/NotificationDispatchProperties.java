@@ -0,0 +1,21 @@
+package com.cheolhyeon.diary.app.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.dispatch")
+public class NotificationDispatchProperties {
+    // attempt_count 가 이 값에 도달한 ERROR 알림은 더 이상 재시도하지 않는다
+    private int retryMaxAttempts = 5;
+    // 재시도 대기 시간 = retryBaseDelay * 2^(attempt_count - 1)
+    private Duration retryBaseDelay = Duration.ofSeconds(30);
+    // 한 번의 재시도 스캔에서 다시 발송할 최대 알림 수
+    private int retryBatchSize = 100;
+}
@@ -0,0 +1,17 @@
+package com.cheolhyeon.diary.app.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.log-buffer")
+public class NotificationLogBufferProperties {
+    // 이 개수만큼 쌓이면 주기를 기다리지 않고 바로 flush 한다 (한 번의 multi-row upsert 크기)
+    private int batchSize = 200;
+    // 버퍼에 보관할 수 있는 최대 행 수. 가득 차면 기록하는 스레드가 직접 flush 한다
+    private int maxPending = 10000;
+}
@@ -0,0 +1,24 @@
+package com.cheolhyeon.diary.app.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diary.pagination")
+public class PaginationProperties {
+    // size 파라미터가 없을 때 사용하는 페이지 크기
+    private int defaultSize = 20;
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    private int maxSize = 100;
+
+    public int resolveSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize <= 0) {
+            return defaultSize;
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+}
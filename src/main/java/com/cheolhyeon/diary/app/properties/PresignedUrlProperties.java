@@ -0,0 +1,20 @@
+package com.cheolhyeon.diary.app.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diary.s3.presigned-url")
+public class PresignedUrlProperties {
+    // 서명된 URL 의 유효 시간
+    private Duration expiration = Duration.ofMinutes(5);
+    // 만료까지 남은 시간이 이 값보다 작아지면 캐시된 URL 을 재사용하지 않는다
+    private Duration refreshMargin = Duration.ofMinutes(1);
+    private int cacheMaxSize = 10000;
+}
@@ -0,0 +1,46 @@
+package com.cheolhyeon.diary.app.properties;
+
+import com.cheolhyeon.diary.app.ratelimit.RateLimitKeyType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // rate-limit.policies 를 설정하면 아래 기본 정책을 모두 대체한다
+    private List<Policy> policies = new ArrayList<>(List.of(
+            // 공유 코드 검색 -> 요청마다 HMAC + DB 조회 2회
+            new Policy("share-code-search-user", "GET", "/api/friend-request/*", RateLimitKeyType.USER, 10, 10, Duration.ofMinutes(1)),
+            new Policy("share-code-search-ip", "GET", "/api/friend-request/*", RateLimitKeyType.IP, 30, 30, Duration.ofMinutes(1)),
+            // 친구 요청 생성
+            new Policy("friend-request-user", "POST", "/api/friend-request/*", RateLimitKeyType.USER, 5, 5, Duration.ofMinutes(1))
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private String name;
+        private String method;
+        // PathPattern 형식 (예: /api/friend-request/*)
+        private String pattern;
+        private RateLimitKeyType keyType;
+        // 버킷 크기 = 순간적으로 허용하는 최대 요청 수
+        private long capacity;
+        // refillPeriod 마다 채워지는 토큰 수
+        private long refillTokens;
+        private Duration refillPeriod;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cheolhyeon.diary.app.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diary.s3.deletion")
+public class S3DeletionProperties {
+    // 한 번에 outbox 에서 꺼내 지울 키 수 (1000 개를 넘으면 S3Service.deleteAll 이 나눠서 동시에 보낸다)
+    private int batchSize = 1000;
+    // 재시도 대기 시간 = retryBaseDelay * 2^attempts, 최대 retryMaxDelay
+    private Duration retryBaseDelay = Duration.ofSeconds(30);
+    private Duration retryMaxDelay = Duration.ofHours(1);
+    // 이만큼 실패한 키는 더 이상 시도하지 않고 dead letter 로 남긴다 (기본값이면 약 하루 동안 재시도)
+    private int retryMaxAttempts = 30;
+}
@@ -0,0 +1,93 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import com.cheolhyeon.diary.app.exception.dto.ErrorResponse;
+import com.cheolhyeon.diary.app.exception.ratelimit.RateLimitErrorStatus;
+import com.cheolhyeon.diary.app.properties.RateLimitProperties;
+import com.cheolhyeon.diary.app.util.ClientIpResolver;
+import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JwtFilter 다음에 실행되어 정책에 걸리는 요청을 서비스 호출 전에 제한한다.
+ * 요청에 맞는 정책이 여러 개면 모두 통과해야 하며, 하나라도 토큰이 없으면 429 를 반환한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final boolean enabled;
+    private final List<RateLimitRule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ClientIpResolver clientIpResolver, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
+        this.enabled = properties.isEnabled();
+        this.rules = properties.getPolicies().stream()
+                .map(RateLimitRule::new)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        for (RateLimitRule rule : rules) {
+            if (!rule.matches(method, uri)) {
+                continue;
+            }
+            String subject = resolveSubject(rule.getKeyType(), request);
+            if (subject == null) {
+                continue;
+            }
+            if (!rateLimiter.tryAcquire(rule, subject)) {
+                log.info("Rate limit exceeded - policy: {}, subject: {}, uri: {}", rule.getName(), subject, uri);
+                writeTooManyRequests(response, rule.getRetryAfterSeconds());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveSubject(RateLimitKeyType keyType, HttpServletRequest request) {
+        if (keyType == RateLimitKeyType.IP) {
+            return "ip:" + clientIpResolver.resolve(request);
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return "user:" + principal.getUserId();
+        }
+        return null;
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(RateLimitErrorStatus.TOO_MANY_REQUESTS.getErrorCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json;charset=UTF-8");
+        response.setCharacterEncoding("UTF-8");
+        String jsonResponse = OBJECT_MAPPER.writeValueAsString(ErrorResponse.of(RateLimitErrorStatus.TOO_MANY_REQUESTS));
+        response.getWriter().write(jsonResponse);
+        response.getWriter().flush();
+    }
+}
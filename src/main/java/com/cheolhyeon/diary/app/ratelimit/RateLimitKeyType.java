@@ -0,0 +1,8 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+public enum RateLimitKeyType {
+    // 인증된 사용자 ID 기준, 인증되지 않은 요청에는 적용하지 않는다
+    USER,
+    // 클라이언트 IP 기준
+    IP
+}
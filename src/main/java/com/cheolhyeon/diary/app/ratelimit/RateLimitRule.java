@@ -0,0 +1,43 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import com.cheolhyeon.diary.app.properties.RateLimitProperties;
+import lombok.Getter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 설정된 정책을 요청 매칭에 바로 쓸 수 있도록 미리 파싱해 둔 형태.
+ */
+@Getter
+public class RateLimitRule {
+    private final String name;
+    private final String method;
+    private final PathPattern pattern;
+    private final RateLimitKeyType keyType;
+    private final long capacity;
+    private final long refillTokens;
+    private final long refillPeriodNanos;
+    // 토큰 하나가 채워지는 데 걸리는 시간 (Retry-After 응답용)
+    private final long retryAfterSeconds;
+
+    public RateLimitRule(RateLimitProperties.Policy policy) {
+        this.name = policy.getName();
+        this.method = policy.getMethod();
+        this.pattern = PathPatternParser.defaultInstance.parse(policy.getPattern());
+        this.keyType = policy.getKeyType();
+        this.capacity = policy.getCapacity();
+        this.refillTokens = policy.getRefillTokens();
+        this.refillPeriodNanos = policy.getRefillPeriod().toNanos();
+        this.retryAfterSeconds = Math.max(1, (policy.getRefillPeriod().toSeconds() + refillTokens - 1) / refillTokens);
+    }
+
+    public boolean matches(String requestMethod, String requestUri) {
+        return (method == null || method.equalsIgnoreCase(requestMethod))
+                && pattern.matches(PathContainer.parsePath(requestUri));
+    }
+
+    public TokenBucket newBucket(long nowNanos) {
+        return new TokenBucket(capacity, refillTokens, refillPeriodNanos, nowNanos);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (정책, 사용자 ID 또는 IP) 별 토큰 버킷을 관리한다. 버킷은 이 노드 메모리에만 있으므로 제한은 노드 단위로 적용된다.
+ * 버킷 수가 max-buckets 에 도달하면 새 주체는 정책별 공용 버킷 하나를 나눠 쓴다
+ * -> 주소를 바꿔 가며 보내는 요청이 메모리를 늘리지 못하고, 그동안에도 제한은 유지된다.
+ */
+@Component
+public class RateLimiter implements StatsSource {
+    private static final String OVERFLOW_SUBJECT = ":overflow";
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+
+    public RateLimiter(@Value("${rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public boolean tryAcquire(RateLimitRule rule, String subject) {
+        long now = System.nanoTime();
+        String key = rule.getName() + ":" + subject;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                overflowCount.increment();
+                key = rule.getName() + OVERFLOW_SUBJECT;
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> rule.newBucket(now));
+        }
+        if (bucket.tryConsume(now)) {
+            allowedCount.increment();
+            return true;
+        }
+        rejectedCount.increment();
+        return false;
+    }
+
+    // 정리 직전에 꺼내간 버킷에서 토큰을 쓰면 새 버킷이 가득 찬 상태로 다시 만들어질 수 있지만, 최대 토큰 하나 차이다
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> {
+            if (!bucket.isFull(now)) {
+                return false;
+            }
+            evictedCount.increment();
+            return true;
+        });
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String statsName() {
+        return "Rate limiter";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buckets", buckets.size());
+        stats.put("allowed", allowedCount.sum());
+        stats.put("rejected", rejectedCount.sum());
+        stats.put("evicted", evictedCount.sum());
+        stats.put("overflow", overflowCount.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 토큰 버킷. 토큰은 시간이 지나면 채워지며 tryConsume 시점에 경과 시간만큼 한 번에 계산한다.
+ * 상태(토큰 수, 마지막 계산 시각)를 하나의 불변 객체로 두고 CAS 로 교체하므로 락 없이 여러 스레드에서 호출할 수 있다.
+ */
+public class TokenBucket {
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, long refillTokens, long refillPeriodNanos, long nowNanos) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("capacity, refillTokens and refillPeriod must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / refillPeriodNanos;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    public boolean tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double available = availableAt(current, nowNanos);
+            if (available < 1) {
+                return false;
+            }
+            State next = new State(available - 1, Math.max(nowNanos, current.refilledAtNanos));
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 동작이 바뀌지 않는다
+    public boolean isFull(long nowNanos) {
+        return availableAt(state.get(), nowNanos) >= capacity;
+    }
+
+    private double availableAt(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.refilledAtNanos);
+        return Math.min(capacity, current.tokens + elapsed * tokensPerNano);
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long refilledAtNanos;
+
+        private State(double tokens, long refilledAtNanos) {
+            this.tokens = tokens;
+            this.refilledAtNanos = refilledAtNanos;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.cheolhyeon.diary.app.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 마감 시각을 tick 단위 버킷으로 나눠 보관하는 해시드 타이머 휠.
+ * expire 는 지나간 tick 의 버킷만 확인하므로 전체 항목을 매번 스캔하지 않는다.
+ * schedule 은 여러 스레드에서 호출할 수 있고, expire 는 단일 스레드(스케줄러)에서만 호출한다.
+ */
+public class HashedTimerWheel<T> {
+    private final long startMillis;
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout<T>>[] buckets;
+
+    private volatile long lastProcessedTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.startMillis = startMillis;
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastProcessedTick = 0;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        // 처리 중이거나 이미 지난 tick 에 넣으면 한 바퀴를 더 기다리게 되므로 최소 두 tick 뒤 버킷에 넣는다
+        long tick = Math.max(deadlineTickOf(deadlineMillis), lastProcessedTick + 2);
+        buckets[(int) (tick & mask)].add(new Timeout<>(item, deadlineMillis));
+    }
+
+    /**
+     * now 까지 지나간 tick 의 버킷을 처리하고 마감된 항목을 반환한다.
+     * 아직 마감되지 않은 항목(한 바퀴 이상 뒤의 마감)은 같은 버킷에 다시 넣는다.
+     */
+    public List<T> expire(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long currentTick = tickOf(nowMillis);
+        // 스케줄러가 오래 멈췄다면 모든 버킷을 한 번씩만 확인하면 충분하다
+        long tick = Math.max(lastProcessedTick + 1, currentTick - mask);
+        for (; tick <= currentTick; tick++) {
+            Queue<Timeout<T>> bucket = buckets[(int) (tick & mask)];
+            List<Timeout<T>> drained = new ArrayList<>();
+            Timeout<T> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                drained.add(timeout);
+            }
+            for (Timeout<T> each : drained) {
+                if (each.deadlineMillis <= nowMillis) {
+                    expired.add(each.item);
+                } else {
+                    bucket.add(each);
+                }
+            }
+            lastProcessedTick = tick;
+        }
+        return expired;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Queue<Timeout<T>> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    private long tickOf(long millis) {
+        return Math.max(0, (millis - startMillis) / tickMillis);
+    }
+
+    // 마감 시각을 올림한 tick -> 해당 tick 을 처리하는 시점에는 항상 마감이 지나 있다
+    private long deadlineTickOf(long deadlineMillis) {
+        return Math.max(0, (deadlineMillis - startMillis + tickMillis - 1) / tickMillis);
+    }
+
+    private static final class Timeout<T> {
+        private final T item;
+        private final long deadlineMillis;
+
+        private Timeout(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
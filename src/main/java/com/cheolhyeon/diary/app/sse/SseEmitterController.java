@@ -2,8 +2,7 @@ package com.cheolhyeon.diary.app.sse;
 
 import com.cheolhyeon.diary.app.annotation.CurrentUser;
 import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
-import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
-import com.cheolhyeon.diary.friendrequest.repository.FriendRequestRepository;
+import com.cheolhyeon.diary.friendrequest.service.PendingFriendRequestCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -16,7 +15,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class SseEmitterController {
     private final SseEmitterService sseEmitterService;
-    private final FriendRequestRepository friendRequestRepository;
+    private final PendingFriendRequestCounter pendingFriendRequestCounter;
 
     @GetMapping(value = "/subscribe/notification", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(@CurrentUser CustomUserPrincipal user) {
@@ -25,7 +24,7 @@ public class SseEmitterController {
 
         SseEmitter subscribe = sseEmitterService.subscribe(sessionId, userId);
 
-        Long pendingCount = friendRequestRepository.countByRecipientId(userId, FriendRequestStatus.PENDING.name());
+        long pendingCount = pendingFriendRequestCounter.getPendingCount(userId);
         sseEmitterService.sendToSid(sessionId, "pending-count", pendingCount);
         int currentActiveConnectCount = sseEmitterService.getActiveConnectionCount();
         log.debug("current active connection count: {}", currentActiveConnectCount);
@@ -1,32 +1,84 @@
 package com.cheolhyeon.diary.app.sse;
 
+import com.cheolhyeon.diary.app.sse.broker.SseBroker;
+import com.cheolhyeon.diary.app.stats.StatsSource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 @Slf4j
 @Service
-public class SseEmitterService {
+public class SseEmitterService implements StatsSource {
     private final Map<String, SseEmitter> emitterManage = new ConcurrentHashMap<>();
     private final Map<String, Long> lastSendTime = new ConcurrentHashMap<>();
     private final Map<Long, Integer> userConnectionCount = new ConcurrentHashMap<>();
     private final Map<String, Long> sessionToUserId = new ConcurrentHashMap<>(); // sessionId -> userId 매핑
 
     private static final long TIMEOUT = 550000;
-    private static final long HEARTBEAT_INTERVAL = 15000;
+    private static final long HEARTBEAT_TICK = 1000;
+    private static final int HEARTBEAT_WHEEL_SIZE = 64;  // 64초에 한 바퀴 -> 임계값(25초)보다 길어 대부분 한 번에 마감된다
     private static final long HEARTBEAT_THRESHOLD = 25000;
+    private static final long HEARTBEAT_SEND_TIMEOUT = 5000;
 
     private static final int MAX_CONNECTIONS_PER_USER = 2;
-    private static final int MAX_TOTAL_CONNECTIONS = 1000;  // 전체 최대 연결 수
+    private static final int MAX_TOTAL_CONNECTIONS = 1000;  // 노드당 최대 연결 수
+
+    // 세션별 heartbeat 마감 시각(lastSendTime + 임계값)을 담는 타이머 휠 -> 마감된 세션만 확인한다
+    private final HashedTimerWheel<String> heartbeatWheel;
+    private final Set<String> heartbeatScheduled = ConcurrentHashMap.newKeySet();
+    // heartbeat 전송에 실패한 연결 -> 다음 tick 에 스케줄러 스레드에서 정리한다
+    private final Queue<FailedHeartbeat> failedHeartbeats = new ConcurrentLinkedQueue<>();
+    private final LongAdder heartbeatTimeoutCount = new LongAdder();
+    private final LongAdder heartbeatRejectedCount = new LongAdder();
+
+    private final SseBroker sseBroker;
+    private final Executor heartbeatExecutor;
+    private final LongSupplier clock;
+    private final long heartbeatSendTimeoutMillis;
+
+    @Autowired
+    public SseEmitterService(SseBroker sseBroker,
+                             @Qualifier("sseHeartbeatExecutor") Executor heartbeatExecutor) {
+        this(sseBroker, heartbeatExecutor, System::currentTimeMillis, HEARTBEAT_SEND_TIMEOUT);
+    }
+
+    // 테스트에서 현재 시각과 heartbeat 전송 제한 시간을 조절할 수 있도록 분리한 생성자
+    SseEmitterService(SseBroker sseBroker, Executor heartbeatExecutor,
+                      LongSupplier clock, long heartbeatSendTimeoutMillis) {
+        this.sseBroker = sseBroker;
+        this.heartbeatExecutor = heartbeatExecutor;
+        this.clock = clock;
+        this.heartbeatSendTimeoutMillis = heartbeatSendTimeoutMillis;
+        this.heartbeatWheel = new HashedTimerWheel<>(HEARTBEAT_TICK, HEARTBEAT_WHEEL_SIZE, clock.getAsLong());
+        // 다른 노드에서 이 노드의 세션으로 보낸 이벤트를 전달받는다
+        this.sseBroker.bindLocalDelivery(this::deliverLocal);
+    }
 
     public SseEmitter subscribe(String sessionId, Long userId) {
-        // 전체 연결 수 체크 -> 이벤트 스트림을 서버 메모리가 아닌, Redis나 Kafka, RabbitMQ로 옮겨야 될 수도 있음.
+        // 노드별 연결 수 체크 -> 다른 노드의 세션으로 가는 이벤트는 SseBroker 가 라우팅한다.
         if (emitterManage.size() >= MAX_TOTAL_CONNECTIONS) {
             log.warn("Maximum total connections reached: {}", MAX_TOTAL_CONNECTIONS);
             throw new IllegalStateException("서버 연결 한도에 도달했습니다. 잠시 후 다시 시도해주세요.");
@@ -53,10 +105,13 @@ public class SseEmitterService {
         emitterManage.put(sessionId, emitter);
         sessionToUserId.put(sessionId, userId); // sessionId -> userId 매핑 저장
         incrementUserConnectionCount(userId);
+        sseBroker.register(sessionId);
 
         // Cleanup 콜백 - 모든 정리 작업 포함
         Runnable cleanup = () -> {
-            emitterManage.remove(sessionId, emitter);
+            if (emitterManage.remove(sessionId, emitter)) {
+                sseBroker.unregister(sessionId);
+            }
             lastSendTime.remove(sessionId);
             sessionToUserId.remove(sessionId);
             decrementUserConnectionCount(userId);
@@ -75,6 +130,7 @@ public class SseEmitterService {
                 .data("ok")
         );
         updateLastSendTime(sessionId);
+        scheduleHeartbeat(sessionId, clock.getAsLong() + HEARTBEAT_THRESHOLD);
         
         log.info("SSE connected: session={}, user={}, total={}, userConnections={}", 
                 sessionId, userId, emitterManage.size(), currentUserConnections);
@@ -96,63 +152,151 @@ public class SseEmitterService {
     }
 
     public void updateLastSendTime(String sessionId) {
-        lastSendTime.put(sessionId, System.currentTimeMillis());
+        lastSendTime.put(sessionId, clock.getAsLong());
     }
 
-    @Scheduled(fixedRate = HEARTBEAT_INTERVAL)
+    // 마감된 세션만 꺼내 전송은 heartbeat 전용 executor 에 넘긴다 -> 느린 클라이언트가 스케줄러 스레드를 막지 않는다
+    @Scheduled(fixedRate = HEARTBEAT_TICK)
     public void sendHeartbeat() {
-        if (emitterManage.isEmpty()) {
-            return;
-        }
-
-        long now = System.currentTimeMillis();
-        int heartbeatSent = 0;
+        long now = clock.getAsLong();
+        closeFailedHeartbeats();
+        List<String> dueSessions = heartbeatWheel.expire(now);
+        int dispatched = 0;
 
-        for (Map.Entry<String, SseEmitter> entry : emitterManage.entrySet()) {
-            String sessionId = entry.getKey();
-            SseEmitter emitter = entry.getValue();
+        for (String sessionId : dueSessions) {
+            heartbeatScheduled.remove(sessionId);
+            SseEmitter emitter = emitterManage.get(sessionId);
+            if (emitter == null) {
+                continue;
+            }
 
+            // 마감 전에 다른 이벤트가 전송됐다면 마지막 전송 시각 기준으로 다시 예약한다
             Long lastSend = lastSendTime.get(sessionId);
-            if (lastSend == null || (now - lastSend) > HEARTBEAT_THRESHOLD) {
-                try {
-                    emitter.send(SseEmitter.event().comment("heartbeat"));
-                    updateLastSendTime(sessionId);
-                    heartbeatSent++;
-                } catch (IOException e) {
-                    log.warn("Failed to send heartbeat to session: {}", sessionId);
-                    emitter.completeWithError(e);
-                    // Heartbeat 실패 시 연결 정리
-                    emitterManage.remove(sessionId, emitter);
-                    lastSendTime.remove(sessionId);
-                    Long userId = sessionToUserId.remove(sessionId);
-                    if (userId != null) {
-                        decrementUserConnectionCount(userId);
+            if (lastSend != null && (now - lastSend) < HEARTBEAT_THRESHOLD) {
+                scheduleHeartbeat(sessionId, lastSend + HEARTBEAT_THRESHOLD);
+                continue;
+            }
+
+            if (dispatchHeartbeat(sessionId, emitter)) {
+                dispatched++;
+            }
+        }
+        if (dispatched > 0) {
+            log.debug("Dispatched heartbeat to {}/{} connections",
+                    dispatched, emitterManage.size());
+        }
+    }
+
+    private boolean dispatchHeartbeat(String sessionId, SseEmitter emitter) {
+        HeartbeatSend send = new HeartbeatSend(emitter);
+        try {
+            heartbeatExecutor.execute(send);
+        } catch (RejectedExecutionException e) {
+            // executor 가 포화 상태면 다음 tick 에 다시 시도한다
+            heartbeatRejectedCount.increment();
+            scheduleHeartbeat(sessionId, clock.getAsLong() + HEARTBEAT_TICK);
+            return false;
+        }
+
+        // 제한 시간을 넘기면 이 콜백은 JVM 공용 지연 스레드에서 실행된다
+        // -> 멈춘 전송이 잡고 있는 emitter 잠금을 기다리는 작업(completeWithError 등)은 여기서 하지 않는다
+        send.completion().orTimeout(heartbeatSendTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) {
+                        updateLastSendTime(sessionId);
+                        scheduleHeartbeat(sessionId, clock.getAsLong() + HEARTBEAT_THRESHOLD);
+                        return;
                     }
-                }
+                    Throwable cause = throwable instanceof CompletionException
+                            && throwable.getCause() != null ? throwable.getCause() : throwable;
+                    if (cause instanceof TimeoutException) {
+                        heartbeatTimeoutCount.increment();
+                        // 멈춘 전송 스레드를 인터럽트해 heartbeat executor 스레드를 돌려받는다
+                        send.cancel(true);
+                    }
+                    log.warn("Failed to send heartbeat to session: {}", sessionId);
+                    failedHeartbeats.add(new FailedHeartbeat(sessionId, emitter, cause));
+                });
+        return true;
+    }
+
+    // 연결 목록 정리는 스케줄러 스레드에서 하고, emitter 잠금을 기다릴 수 있는 completeWithError 는 heartbeat executor 에 넘긴다
+    private void closeFailedHeartbeats() {
+        List<FailedHeartbeat> rejected = new ArrayList<>();
+        FailedHeartbeat failed;
+        while ((failed = failedHeartbeats.poll()) != null) {
+            releaseConnection(failed.sessionId, failed.emitter);
+            FailedHeartbeat target = failed;
+            try {
+                heartbeatExecutor.execute(() -> target.emitter.completeWithError(target.cause));
+            } catch (RejectedExecutionException e) {
+                // 연결 목록에서는 이미 빠졌으므로 emitter 종료만 다음 tick 에 다시 시도한다
+                rejected.add(target);
             }
         }
-        if (heartbeatSent > 0) {
-            log.debug("Sent heartbeat to {}/{} connections",
-                    heartbeatSent, emitterManage.size());
+        failedHeartbeats.addAll(rejected);
+    }
+
+    private void releaseConnection(String sessionId, SseEmitter emitter) {
+        if (emitterManage.remove(sessionId, emitter)) {
+            sseBroker.unregister(sessionId);
+            lastSendTime.remove(sessionId);
+            Long userId = sessionToUserId.remove(sessionId);
+            if (userId != null) {
+                decrementUserConnectionCount(userId);
+            }
+        }
+    }
+
+    // 같은 세션이 휠에 중복으로 들어가지 않도록 예약 여부를 함께 관리한다
+    private void scheduleHeartbeat(String sessionId, long deadlineMillis) {
+        if (heartbeatScheduled.add(sessionId)) {
+            heartbeatWheel.schedule(sessionId, deadlineMillis);
         }
     }
 
-    @Scheduled(fixedRate = 60000)
-    public void logConnectionStats() {
-        log.info("Active SSE connections: {}", emitterManage.size());
-        userConnectionCount.entrySet().stream()
-                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
-                .limit(5)
-                .forEach(entry -> log.debug("User {}: {} connections", entry.getKey(), entry.getValue()));
+    public long getHeartbeatTimeoutCount() {
+        return heartbeatTimeoutCount.sum();
+    }
+
+    public long getHeartbeatRejectedCount() {
+        return heartbeatRejectedCount.sum();
+    }
+
+    @Override
+    public String statsName() {
+        return "SSE connections";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("connections", emitterManage.size());
+        stats.put("users", userConnectionCount.size());
+        stats.put("heartbeatScheduled", heartbeatWheel.size());
+        stats.put("heartbeatTimeouts", heartbeatTimeoutCount.sum());
+        stats.put("heartbeatRejected", heartbeatRejectedCount.sum());
+        return stats;
     }
 
     public void sendToSid(String sessionId, String eventName, Object payload) {
+        if (deliverLocal(sessionId, eventName, payload)) {
+            return;
+        }
+        // 이 노드에 연결이 없으면 세션을 가진 노드로 전달, 어느 노드에도 없으면 스킵
+        if (!sseBroker.publish(sessionId, eventName, payload)) {
+            log.debug("No SSE connection for session: {}", sessionId);
+        }
+    }
+
+    private boolean deliverLocal(String sessionId, String eventName, Object payload) {
         SseEmitter emitter = emitterManage.get(sessionId);
         if (emitter == null) {
-            return; // 사용자가 구독을 안했거나 끊겼으면 스킵
+            return false;
         }
         safeSend(emitter, SseEmitter.event().name(eventName).data(payload));
         updateLastSendTime(sessionId);
+        return true;
     }
 
 
@@ -171,6 +315,7 @@ public class SseEmitterService {
     public SseEmitter removeConnection(String sessionId) {
         SseEmitter removed = emitterManage.remove(sessionId);
         if (removed != null) {
+            sseBroker.unregister(sessionId);
             lastSendTime.remove(sessionId);
             Long userId = sessionToUserId.remove(sessionId);
             if (userId != null) {
@@ -188,4 +333,52 @@ public class SseEmitterService {
     public int getActiveConnectionCount() {
         return emitterManage.size();
     }
+
+    /**
+     * heartbeat 전송 작업. 제한 시간을 넘기면 cancel(true) 로 전송 중인 스레드를 인터럽트할 수 있도록
+     * FutureTask 로 실행하고, 완료 결과는 {@link #completion()} 으로 전달한다.
+     */
+    private static final class HeartbeatSend extends FutureTask<Void> {
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private HeartbeatSend(SseEmitter emitter) {
+            super(() -> {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return null;
+            });
+        }
+
+        private CompletableFuture<Void> completion() {
+            return completion;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                completion.cancel(false);
+                return;
+            }
+            try {
+                get();
+                completion.complete(null);
+            } catch (ExecutionException e) {
+                completion.completeExceptionally(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class FailedHeartbeat {
+        private final String sessionId;
+        private final SseEmitter emitter;
+        private final Throwable cause;
+
+        private FailedHeartbeat(String sessionId, SseEmitter emitter, Throwable cause) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+            this.cause = cause;
+        }
+    }
 }
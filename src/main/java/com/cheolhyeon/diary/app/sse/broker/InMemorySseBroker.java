@@ -0,0 +1,43 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "sse.broker", name = "type", havingValue = "memory", matchIfMissing = true)
+public class InMemorySseBroker implements SseBroker {
+    private final InMemorySseHub hub;
+    private volatile SseLocalDelivery localDelivery;
+
+    public InMemorySseBroker() {
+        this(new InMemorySseHub());
+    }
+
+    public InMemorySseBroker(InMemorySseHub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void bindLocalDelivery(SseLocalDelivery delivery) {
+        this.localDelivery = delivery;
+    }
+
+    @Override
+    public void register(String sessionId) {
+        hub.register(sessionId, this);
+    }
+
+    @Override
+    public void unregister(String sessionId) {
+        hub.unregister(sessionId, this);
+    }
+
+    @Override
+    public boolean publish(String sessionId, String eventName, Object payload) {
+        InMemorySseBroker owner = hub.ownerOf(sessionId);
+        if (owner == null || owner.localDelivery == null) {
+            return false;
+        }
+        return owner.localDelivery.deliver(sessionId, eventName, payload);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 JVM 안의 InMemorySseBroker 들이 공유하는 세션 소유자 레지스트리.
+ * 단일 노드 운영과 여러 노드를 흉내내는 테스트에서 사용한다.
+ */
+public class InMemorySseHub {
+    private final Map<String, InMemorySseBroker> sessionOwners = new ConcurrentHashMap<>();
+
+    void register(String sessionId, InMemorySseBroker owner) {
+        sessionOwners.put(sessionId, owner);
+    }
+
+    void unregister(String sessionId, InMemorySseBroker owner) {
+        sessionOwners.remove(sessionId, owner);
+    }
+
+    InMemorySseBroker ownerOf(String sessionId) {
+        return sessionOwners.get(sessionId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+import com.cheolhyeon.diary.app.util.UlidGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 에 sessionId -> nodeId 소유 정보를 저장하고, 각 노드는 자신의 채널(sse:node:{nodeId})만 구독한다.
+ * 이벤트는 모든 노드로 브로드캐스트하지 않고 세션을 가진 노드의 채널로만 발행된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sse.broker", name = "type", havingValue = "redis")
+public class RedisSseBroker implements SseBroker, MessageListener {
+    private static final String SESSION_KEY_PREFIX = "sse:session:";
+    private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+    // 내가 등록한 세션일 때만 삭제한다 (다른 노드로 재연결된 세션을 지우지 않기 위함)
+    private static final RedisScript<Long> UNREGISTER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration sessionTtl;
+    private final String nodeId = UlidGenerator.generatorUlidAsString();
+    private volatile SseLocalDelivery localDelivery;
+
+    public RedisSseBroker(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          RedisConnectionFactory connectionFactory,
+                          @Value("${sse.broker.session-ttl:10m}") Duration sessionTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.sessionTtl = sessionTtl;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Redis SSE broker started - node: {}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void bindLocalDelivery(SseLocalDelivery delivery) {
+        this.localDelivery = delivery;
+    }
+
+    @Override
+    public void register(String sessionId) {
+        redisTemplate.opsForValue().set(SESSION_KEY_PREFIX + sessionId, nodeId, sessionTtl);
+    }
+
+    @Override
+    public void unregister(String sessionId) {
+        redisTemplate.execute(UNREGISTER_SCRIPT, List.of(SESSION_KEY_PREFIX + sessionId), nodeId);
+    }
+
+    @Override
+    public boolean publish(String sessionId, String eventName, Object payload) {
+        String ownerNodeId = redisTemplate.opsForValue().get(SESSION_KEY_PREFIX + sessionId);
+        if (ownerNodeId == null) {
+            return false;
+        }
+        if (ownerNodeId.equals(nodeId)) {
+            return localDelivery != null && localDelivery.deliver(sessionId, eventName, payload);
+        }
+        try {
+            SseBrokerMessage message = new SseBrokerMessage(sessionId, eventName, objectMapper.valueToTree(payload));
+            Long receivers = redisTemplate.convertAndSend(
+                    NODE_CHANNEL_PREFIX + ownerNodeId, objectMapper.writeValueAsString(message));
+            return receivers != null && receivers > 0;
+        } catch (Exception e) {
+            log.warn("Failed to publish SSE event to node {}: {}", ownerNodeId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (localDelivery == null) {
+            return;
+        }
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            SseBrokerMessage brokerMessage = objectMapper.readValue(body, SseBrokerMessage.class);
+            localDelivery.deliver(brokerMessage.getSessionId(), brokerMessage.getEventName(), brokerMessage.getPayload());
+        } catch (Exception e) {
+            log.warn("Failed to handle SSE broker message: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+/**
+ * SSE 연결을 소유한 노드로 이벤트를 라우팅한다.
+ * 각 노드는 자신이 가진 세션만 등록하고, 다른 노드의 세션으로 가는 이벤트는 소유 노드에게만 전달된다.
+ */
+public interface SseBroker {
+
+    // 이 노드로 라우팅된 이벤트를 실제 emitter 로 전달할 콜백
+    void bindLocalDelivery(SseLocalDelivery delivery);
+
+    void register(String sessionId);
+
+    void unregister(String sessionId);
+
+    // 세션을 소유한 노드로 전달되었으면 true
+    boolean publish(String sessionId, String eventName, Object payload);
+}
@@ -0,0 +1,15 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseBrokerMessage {
+    private String sessionId;
+    private String eventName;
+    private JsonNode payload;
+}
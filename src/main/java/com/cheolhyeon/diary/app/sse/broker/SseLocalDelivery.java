@@ -0,0 +1,6 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+@FunctionalInterface
+public interface SseLocalDelivery {
+    boolean deliver(String sessionId, String eventName, Object payload);
+}
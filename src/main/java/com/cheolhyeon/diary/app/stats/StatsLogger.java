@@ -0,0 +1,56 @@
+package com.cheolhyeon.diary.app.stats;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 {@link StatsSource} 의 지표를 주기적으로 모아 기록한다.
+ * 직전에 기록한 값과 같으면 남기지 않으므로 한가한 노드는 지표 로그를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class StatsLogger {
+    private final List<StatsSource> sources;
+    private final Map<String, Map<String, Object>> lastLogged = new ConcurrentHashMap<>();
+
+    public StatsLogger(List<StatsSource> sources) {
+        this.sources = sources;
+    }
+
+    @Scheduled(fixedDelayString = "${stats.log-interval-ms:60000}")
+    public void logStats() {
+        collectChanged().forEach((name, stats) -> log.info("{} - {}", name, format(stats)));
+    }
+
+    // 직전 기록 이후 값이 바뀐 지표만 이름별로 반환한다
+    Map<String, Map<String, Object>> collectChanged() {
+        Map<String, Map<String, Object>> changed = new LinkedHashMap<>();
+        for (StatsSource source : sources) {
+            Map<String, Object> stats;
+            try {
+                stats = source.stats();
+            } catch (RuntimeException e) {
+                log.warn("Failed to collect stats: {}", source.statsName(), e);
+                continue;
+            }
+            if (stats.isEmpty() || stats.equals(lastLogged.put(source.statsName(), stats))) {
+                continue;
+            }
+            changed.put(source.statsName(), stats);
+        }
+        return changed;
+    }
+
+    private static String format(Map<String, Object> stats) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,16 @@
+package com.cheolhyeon.diary.app.stats;
+
+import java.util.Map;
+
+/**
+ * 주기적으로 로그에 남길 운영 지표를 제공한다. 수집과 기록은 {@link StatsLogger} 한 곳에서 한다.
+ */
+public interface StatsSource {
+
+    // 로그 한 줄의 머리말 (예: "Rate limiter")
+    String statsName();
+
+    // 로그에 남길 순서대로 담는다. 비어 있으면 기록하지 않는다
+    // 여러 번 불러도 값이 바뀌지 않도록 읽기만 한다 (최댓값 등을 초기화하지 않는다)
+    Map<String, Object> stats();
+}
@@ -0,0 +1,81 @@
+package com.cheolhyeon.diary.app.util;
+
+import com.cheolhyeon.diary.app.properties.ClientIpProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청을 보낸 실제 클라이언트 IP 를 찾는다.
+ * 프록시 헤더는 클라이언트가 임의로 넣을 수 있으므로 신뢰하는 프록시(client-ip.trusted-proxies)를 거쳐 온 요청에서만 읽는다.
+ * X-Forwarded-For 는 각 프록시가 오른쪽에 주소를 덧붙이므로, 오른쪽부터 신뢰하는 프록시를 건너뛰고 처음 만나는 주소를 클라이언트로 본다.
+ */
+@Component
+public class ClientIpResolver {
+    // IP 리터럴만 비교한다 -> 호스트 이름이 섞여 와도 DNS 조회를 하지 않는다
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(ClientIpProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        // 직접 연결한 클라이언트가 보낸 프록시 헤더는 믿지 않는다
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        // 1. X-Forwarded-For (프록시/로드밸런서)
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+            String[] hops = xForwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && !isTrusted(hop)) {
+                    return hop;
+                }
+            }
+            // 모든 주소가 신뢰하는 프록시면 가장 앞 주소를 쓴다 (내부망에서 온 요청)
+            String first = hops[0].trim();
+            if (!first.isEmpty()) {
+                return first;
+            }
+        }
+        // 2. X-Real-IP (Nginx)
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+        // 3. CF-Connecting-IP (Cloudflare)
+        String cfConnectingIp = request.getHeader("CF-Connecting-IP");
+        if (cfConnectingIp != null && !cfConnectingIp.isEmpty()) {
+            return cfConnectingIp;
+        }
+        // 4. Remote Address (직접 연결)
+        return remoteAddr;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher trustedProxy : trustedProxies) {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 주소 형식이 아닌 값
+            return false;
+        }
+        return false;
+    }
+}
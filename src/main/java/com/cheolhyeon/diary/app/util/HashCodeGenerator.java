@@ -11,25 +11,45 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 @Component
 public class HashCodeGenerator {
-    private final String rtHmacSecret;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // 키는 기동 시 한 번만 디코딩하고, init 된 Mac 은 풀에서 재사용한다.
+    // ThreadLocal 대신 풀을 쓰는 이유: 가상 스레드마다 Mac 이 생겨 재사용되지 않는 것을 막기 위함
+    private final SecretKeySpec secretKey;
+    private final BlockingQueue<Mac> macPool;
 
     public HashCodeGenerator(@Value("${jwt.secret}") String rtHmacSecret) {
-        this.rtHmacSecret = rtHmacSecret;
+        this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(rtHmacSecret), ALGORITHM);
+        this.macPool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
     }
 
     public String generateShareCodeHash(String code) {
+        Mac mac = borrowMac();
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            byte[] secretKey = Base64.getDecoder().decode(rtHmacSecret);
-            mac.init(new SecretKeySpec(secretKey, "HmacSHA256"));
+            // doFinal 이 끝나면 Mac 은 같은 키로 초기화된 상태로 리셋된다
             byte[] h = mac.doFinal(code.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(h)
-                    .replace('+','-')
-                    .replace('/','_')
-                    .replace("=", "");
+            return URL_ENCODER.encodeToString(h);
+        } finally {
+            // 풀이 가득 차 있으면 버린다
+            macPool.offer(mac);
+        }
+    }
+
+    private Mac borrowMac() {
+        Mac pooled = macPool.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw new GenerationHashCodeException(GenerationHashCodeErrorStatus.GENERATE_FAILED_HASH_CODE);
         }
@@ -0,0 +1,27 @@
+package com.cheolhyeon.diary.app.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public abstract class TransactionHooks {
+
+    private TransactionHooks() {
+        throw new AssertionError("No " + TransactionHooks.class.getSimpleName() + " instances");
+    }
+
+    /**
+     * 진행중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 실행한다.
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
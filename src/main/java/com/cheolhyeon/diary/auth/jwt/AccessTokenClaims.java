@@ -0,0 +1,14 @@
+package com.cheolhyeon.diary.auth.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public final class AccessTokenClaims {
+    private final Long userId;
+    private final String sessionId;
+    private final Instant expiresAt;
+}
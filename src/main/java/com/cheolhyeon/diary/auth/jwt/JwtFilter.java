@@ -4,7 +4,7 @@ import com.cheolhyeon.diary.app.exception.dto.ErrorResponse;
 import com.cheolhyeon.diary.app.exception.session.SessionErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.SessionException;
 import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
-import com.cheolhyeon.diary.auth.session.SessionRepository;
+import com.cheolhyeon.diary.auth.session.SessionValidityCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,13 +19,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
-    private final SessionRepository sessionRepository;
+    private final SessionValidityCache sessionValidityCache;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request)  {
@@ -63,19 +64,21 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        //  토큰 유효성 검증 메서드 구현
-        if (!jwtProvider.validateAccessToken(accessToken)) {
+        //  토큰 검증과 클레임 추출을 한 번의 파싱으로 처리
+        Optional<AccessTokenClaims> claims = jwtProvider.verifyAccessToken(accessToken);
+        if (claims.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
         //  사용자 인증 정보 설정 메서드 구현
-        Long userId = jwtProvider.getUserIdFromAccessToken(accessToken);
-        String sessionId = jwtProvider.getSessionIdFromAccessToken(accessToken);
+        Long userId = claims.get().getUserId();
+        String sessionId = claims.get().getSessionId();
 
         try {
-            sessionRepository.findById(sessionId).
-                    orElseThrow(() -> new SessionException(SessionErrorStatus.ONLY_SINGLE_SESSION));
+            if (!sessionValidityCache.isValid(sessionId)) {
+                throw new SessionException(SessionErrorStatus.ONLY_SINGLE_SESSION);
+            }
         } catch (SessionException e) {
             log.info("Single Session Policy: {} - USER ID: {}, SESSION ID: {}",
                     e.getMessage(), userId, sessionId);
@@ -5,6 +5,7 @@ import com.cheolhyeon.diary.app.util.HashCodeGenerator;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,7 +14,7 @@ import javax.crypto.SecretKey;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,9 +26,17 @@ public class JwtProvider {
     private static final SecureRandom RNG = new SecureRandom();
     private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
-    private SecretKey getSigningKey() {
+    // 서명 키와 파서는 불변이므로 기동 시 한 번만 만든다
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
         byte[] keyBytes = jwtProperties.getSecret().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateAccessToken(Long userId, String sessionId) {
@@ -40,7 +49,7 @@ public class JwtProvider {
                 .claim("sessionOpt2", userId) // 유저 PK
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -62,59 +71,49 @@ public class JwtProvider {
     }
 
     public String getSessionIdFromAccessToken(String token) {
-        Claims payload = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims payload = jwtParser.parseSignedClaims(token).getPayload();
         return payload.get("sessionOpt1", String.class);
     }
 
     public Long getUserIdFromAccessToken(String token) {
-        Claims payload = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims payload = jwtParser.parseSignedClaims(token).getPayload();
         return payload.get("sessionOpt2", Long.class);
     }
 
     public boolean validateAccessToken(String accessToken) {
+        return verifyAccessToken(accessToken).isPresent();
+    }
+
+    /**
+     * 서명 검증을 한 번만 수행하고, 유효한 토큰이면 userId, sessionId, 만료 시각을 담아 반환한다.
+     */
+    public Optional<AccessTokenClaims> verifyAccessToken(String accessToken) {
         try {
-            Claims body = Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            Claims body = jwtParser.parseSignedClaims(accessToken).getPayload();
             String sid = body.get("sessionOpt1", String.class);
-            if (sid == null || Objects.requireNonNull(sid).trim().isEmpty()) {
+            if (sid == null || sid.trim().isEmpty()) {
                 log.warn("Invalid session id : {}", sid);
-                return false;
+                return Optional.empty();
             }
             Long userId = body.get("sessionOpt2", Long.class);
             if (userId == null || userId <= 0) {
                 log.warn("Invalid user id : {}", userId);
-                return false;
+                return Optional.empty();
             }
+            return Optional.of(new AccessTokenClaims(userId, sid, body.getExpiration().toInstant()));
         } catch (SignatureException e) {
             log.warn("Invalid signature : {}", e.getMessage());
-            return false;
         } catch (ExpiredJwtException e) {
             log.warn("Expired token : {}", e.getMessage());
-            return false;
         } catch (PrematureJwtException e) {
             log.warn("Premature token : {}", e.getMessage());
-            return false;
         } catch (UnsupportedJwtException e) {
             log.warn("Unsupported jwt : {}", e.getMessage());
-            return false;
         } catch (MalformedJwtException e) {
             log.warn("Malformed jwt : {}", e.getMessage());
-            return false;
         } catch (Exception e) {
             log.warn("Exception  : {}", e.getMessage());
-            return false;
         }
-        return true;
+        return Optional.empty();
     }
 }
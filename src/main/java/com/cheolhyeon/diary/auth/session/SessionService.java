@@ -3,6 +3,7 @@ package com.cheolhyeon.diary.auth.session;
 import com.cheolhyeon.diary.app.event.session.SessionInvalidatedEvent;
 import com.cheolhyeon.diary.app.exception.session.SessionErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.SessionException;
+import com.cheolhyeon.diary.app.util.ClientIpResolver;
 import com.cheolhyeon.diary.auth.entity.AuthSession;
 import com.cheolhyeon.diary.auth.jwt.JwtProvider;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,6 +28,8 @@ public class SessionService {
     private final JwtProvider jwtProvider;
     private final ApplicationEventPublisher eventPublisher;
     private final SessionRepository sessionRepository;
+    private final SessionValidityCache sessionValidityCache;
+    private final ClientIpResolver clientIpResolver;
 
     public String setAccessTokenToHeader(Long userId, String sessionId, HttpServletResponse response) {
         String accessToken = jwtProvider.generateAccessToken(userId, sessionId);
@@ -39,12 +42,13 @@ public class SessionService {
         Optional<AuthSession> oldSession = sessionRepository.findByUserId(userId);
         oldSession.ifPresent(session -> {
             sessionRepository.delete(session);
+            sessionValidityCache.invalidate(session.getSessionId());
             // SSE 정리 이벤트 발행
             eventPublisher.publishEvent(new SessionInvalidatedEvent(session.getSessionId())
             );
         });
 
-        String clientIp = getClientRealIp(request);
+        String clientIp = clientIpResolver.resolve(request);
         newSession(userId, sessionId, response, request, clientIp);
     }
 
@@ -63,6 +67,7 @@ public class SessionService {
                         null, createdAt, lastRefreshAt,
                         expiresAt, ua, clientIp);
         sessionRepository.save(authSession);
+        sessionValidityCache.invalidate(sessionId);
         setCookie(response, refreshTokenPlain, sessionId);
     }
 
@@ -82,6 +87,7 @@ public class SessionService {
             return;
         }
         sessionRepository.deleteById(sid);
+        sessionValidityCache.invalidate(sid);
         setExpiredCookie(response, "__HOST-RT");
         setExpiredCookie(response, "__HOST-SID");
         SecurityContextHolder.clearContext();
@@ -119,25 +125,4 @@ public class SessionService {
         response.addHeader(HttpHeaders.SET_COOKIE, sid.toString());
         response.addHeader(HttpHeaders.SET_COOKIE, rt.toString());
     }
-
-    private String getClientRealIp(HttpServletRequest request) {
-        // 1. X-Forwarded-For (프록시/로드밸런서)
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        // 2. X-Real-IP (Nginx)
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        // 3. CF-Connecting-IP (Cloudflare)
-        String cfConnectingIp = request.getHeader("CF-Connecting-IP");
-        if (cfConnectingIp != null && !cfConnectingIp.isEmpty()) {
-            return cfConnectingIp;
-        }
-        // 4. Remote Address (직접 연결)
-        return request.getRemoteAddr();
-    }
 }
-
@@ -0,0 +1,106 @@
+package com.cheolhyeon.diary.auth.session;
+
+import com.cheolhyeon.diary.app.cache.ExpiringLruCache;
+import com.cheolhyeon.diary.app.cluster.ClusterBroadcaster;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.app.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JwtFilter 가 매 요청마다 auth_session 을 조회하지 않도록 세션 존재 여부를 캐싱한다.
+ * 존재하지 않는 세션도 짧게 캐싱하여 폐기된 토큰의 반복 요청을 흡수한다.
+ * 무효화는 커밋 이후 {@link ClusterBroadcaster} 로 다른 노드에도 전달한다.
+ * 전달을 놓친 노드(Redis 연결 끊김 등)에서는 positive-ttl 동안 이전 세션이 유효하게 보일 수 있다.
+ */
+@Component
+public class SessionValidityCache implements StatsSource {
+    private static final String TOPIC = "session-invalidation";
+
+    private final SessionRepository sessionRepository;
+    private final ClusterBroadcaster clusterBroadcaster;
+    private final ExpiringLruCache<String, Boolean> cache;
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+    // 무효화마다 증가한다 -> 조회하는 동안 무효화가 있었으면 읽은 값을 캐싱하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    public SessionValidityCache(SessionRepository sessionRepository,
+                                ClusterBroadcaster clusterBroadcaster,
+                                @Value("${auth.session-cache.max-size:50000}") int maxSize,
+                                @Value("${auth.session-cache.positive-ttl:30s}") Duration positiveTtl,
+                                @Value("${auth.session-cache.negative-ttl:10s}") Duration negativeTtl) {
+        this.sessionRepository = sessionRepository;
+        this.clusterBroadcaster = clusterBroadcaster;
+        this.cache = new ExpiringLruCache<>(maxSize);
+        this.positiveTtlMillis = positiveTtl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBroadcaster.subscribe(TOPIC, String.class, this::invalidateLocal);
+    }
+
+    public boolean isValid(String sessionId) {
+        long now = System.currentTimeMillis();
+        Boolean cached = cache.get(sessionId, now);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        boolean exists = sessionRepository.existsById(sessionId);
+        if (generation.get() != loadedGeneration) {
+            // 지우기 전에 읽은 값일 수 있다
+            return exists;
+        }
+        cache.put(sessionId, exists, now + (exists ? positiveTtlMillis : negativeTtlMillis));
+        // 확인과 put 사이에 무효화가 끼어들었으면 방금 넣은 값을 다시 뺀다
+        if (generation.get() != loadedGeneration) {
+            cache.invalidate(sessionId);
+        }
+        return exists;
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 안이라면 커밋 이후 한 번 더 제거한다.
+     * 커밋 전에 다른 요청이 아직 지워지지 않은 세션을 다시 캐싱하는 경우를 막기 위함이다.
+     * 다른 노드에는 커밋 이후에 알린다 -> 커밋 전에 알리면 다른 노드가 지워지기 전 값을 다시 캐싱할 수 있다.
+     */
+    public void invalidate(String sessionId) {
+        invalidateLocal(sessionId);
+        TransactionHooks.afterCommit(() -> {
+            invalidateLocal(sessionId);
+            clusterBroadcaster.broadcast(TOPIC, sessionId);
+        });
+    }
+
+    // 세대를 먼저 올린 뒤 지운다 -> 진행 중인 조회는 put 전후 확인에서 무효화를 알아챈다
+    private void invalidateLocal(String sessionId) {
+        generation.incrementAndGet();
+        cache.invalidate(sessionId);
+    }
+
+    public double getHitRatio() {
+        return cache.getHitRatio();
+    }
+
+    public long getInvalidationCount() {
+        return cache.getInvalidationCount();
+    }
+
+    @Override
+    public String statsName() {
+        return "Session validity cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+}
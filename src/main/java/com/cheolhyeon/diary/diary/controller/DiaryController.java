@@ -5,15 +5,20 @@ import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryCreateRequest;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryUpdateRequest;
 import com.cheolhyeon.diary.diary.dto.response.*;
+import com.cheolhyeon.diary.diary.enums.ExportFormat;
+import com.cheolhyeon.diary.diary.service.DiaryExportService;
 import com.cheolhyeon.diary.diary.service.DiaryService;
+import com.cheolhyeon.diary.diary.service.DiaryTagService;
 import com.github.f4b6a3.ulid.Ulid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,6 +27,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DiaryController {
     private final DiaryService diaryService;
+    private final DiaryExportService diaryExportService;
+    private final DiaryTagService diaryTagService;
 
 
     @GetMapping("/api/diary/{year}/{month}/{day}")
@@ -40,6 +47,48 @@ public class DiaryController {
         return ResponseEntity.ok(diaryService.readDiariesByYearAndMonth(user.getUserId(), year, month));
     }
 
+    @GetMapping("/api/diary/timeline")
+    public ResponseEntity<DiarySliceResponse> getTimeline(
+            @CurrentUser CustomUserPrincipal user,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(diaryService.readTimeline(user.getUserId(), cursor, size));
+    }
+
+    @GetMapping("/api/diary/search")
+    public ResponseEntity<DiarySliceResponse> searchDiaries(
+            @CurrentUser CustomUserPrincipal user,
+            @RequestParam(value = "q", required = false) String keyword,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(diaryService.searchDiaries(user.getUserId(), keyword, tag, cursor, size));
+    }
+
+    @GetMapping("/api/diary/tags")
+    public ResponseEntity<List<TagCountResponse>> getTopTags(
+            @CurrentUser CustomUserPrincipal user,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(diaryTagService.readTopTags(user.getUserId(), limit));
+    }
+
+    @GetMapping("/api/diary/export")
+    public ResponseEntity<StreamingResponseBody> exportDiaries(
+            @CurrentUser CustomUserPrincipal user,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = diaryExportService.export(user.getUserId(), exportFormat, cursor);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=diary-export." + exportFormat.getExtension())
+                .body(body);
+    }
+
     @GetMapping("/api/diary/{diaryId}")
     public ResponseEntity<DiaryResponseById> getDiaryById(@PathVariable String diaryId) {
         byte[] diaryPk = Ulid.from(diaryId).toBytes();
@@ -0,0 +1,26 @@
+package com.cheolhyeon.diary.diary.dto.projection;
+
+import com.cheolhyeon.diary.diary.enums.Mood;
+import com.cheolhyeon.diary.diary.enums.Weather;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 캘린더 조회 전용 projection.
+ * content 는 미리보기 길이만큼만, JSON 컬럼(location, tags, imageKeys)은 조회하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class DiaryCalendarRow {
+    private byte[] diaryId;
+    private String writer;
+    private String title;
+    private String contentPreview;
+    private Mood mood;
+    private Weather weather;
+    private String thumbnailImageKey;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
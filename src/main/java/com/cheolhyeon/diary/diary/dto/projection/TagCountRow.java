@@ -0,0 +1,14 @@
+package com.cheolhyeon.diary.diary.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 작성자별 태그 사용 횟수 집계 projection.
+ */
+@Getter
+@AllArgsConstructor
+public class TagCountRow {
+    private String tag;
+    private long diaryCount;
+}
@@ -1,5 +1,6 @@
 package com.cheolhyeon.diary.diary.dto.reqeust;
 
+import com.cheolhyeon.diary.diary.dto.response.ImageVariantKeys;
 import com.cheolhyeon.diary.diary.dto.response.Location;
 import com.cheolhyeon.diary.diary.entity.Diaries;
 import com.cheolhyeon.diary.diary.enums.Mood;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
@@ -26,7 +28,9 @@ public class DiaryCreateRequest {
     private List<String> tags;
 
 
-    public static Diaries toEntity(byte[] diaryId, Long writerId, String displayName, List<String> s3Key, DiaryCreateRequest request) {
+    public static Diaries toEntity(byte[] diaryId, Long writerId, String displayName, List<String> s3Key,
+                                   Map<String, ImageVariantKeys> imageVariants, DiaryCreateRequest request) {
+        Map<String, ImageVariantKeys> variants = imageVariants == null || imageVariants.isEmpty() ? null : imageVariants;
         return Diaries.builder()
                 .diaryId(diaryId)
                 .writerId(writerId)
@@ -38,6 +42,8 @@ public class DiaryCreateRequest {
                 .location(request.getLocation())
                 .tagsJson(request.getTags())
                 .imageKeysJson(s3Key)
+                .imageVariantsJson(variants)
+                .thumbnailImageKey(Diaries.resolveThumbnailKey(s3Key, variants))
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .deletedAt(null)
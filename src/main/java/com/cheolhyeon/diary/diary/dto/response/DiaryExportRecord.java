@@ -0,0 +1,47 @@
+package com.cheolhyeon.diary.diary.dto.response;
+
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.enums.Mood;
+import com.cheolhyeon.diary.diary.enums.Weather;
+import com.github.f4b6a3.ulid.Ulid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내보내기 파일에 기록하는 일기 한 건. diaryId 는 이어받기 커서로 그대로 사용할 수 있다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryExportRecord {
+    private String diaryId;
+    private String title;
+    private String content;
+    private Mood mood;
+    private Weather weather;
+    private Location location;
+    private List<String> tags;
+    private List<String> imageKeys;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static DiaryExportRecord from(Diaries diary) {
+        return new DiaryExportRecord(
+                Ulid.from(diary.getDiaryId()).toString(),
+                diary.getTitle(),
+                diary.getContent(),
+                diary.getMood(),
+                diary.getWeather(),
+                diary.getLocation(),
+                diary.getTagsJson(),
+                diary.getImageKeysJson(),
+                diary.getCreatedAt(),
+                diary.getUpdatedAt());
+    }
+}
@@ -26,10 +26,13 @@ public class DiaryResponseById {
     private List<String> tags;
     private List<String> imageKeysJson;
     private List<String> imageUrls;
+    // 상세 화면용 중간 크기 이미지 URL (imageUrls 와 같은 순서, 변형이 없으면 원본 URL)
+    private List<String> mediumImageUrls;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static DiaryResponseById toResponse(Diaries diary, List<String> imageKeysJson, List<String> imageUrls) {
+    public static DiaryResponseById toResponse(Diaries diary, List<String> imageKeysJson, List<String> imageUrls,
+                                               List<String> mediumImageUrls) {
         return new DiaryResponseById(
                 diary.getDiaryId(),
                 diary.getWriter(),
@@ -41,6 +44,7 @@ public class DiaryResponseById {
                 diary.getTagsJson(),
                 imageKeysJson,
                 imageUrls,
+                mediumImageUrls,
                 diary.getCreatedAt(),
                 diary.getUpdatedAt()
         );
@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 @Getter
@@ -29,18 +30,16 @@ public class DiaryResponseByMonthAndDay {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static List<DiaryResponseByMonthAndDay> toResponse(List<Diaries> diariesByMonthAndDay, List<String> thumbnailImage) {
+    public static List<DiaryResponseByMonthAndDay> toResponse(List<Diaries> diariesByMonthAndDay, Map<String, String> thumbnailUrls) {
         List<DiaryResponseByMonthAndDay> diaryResponses = new ArrayList<>();
-        int thumbnailIndex = 0;
-        
+
         for (Diaries diaries : diariesByMonthAndDay) {
             if (diaries.getDeletedAt() != null) {
                 continue;
             }
-            String thumbnailUrl = null;
-            if (thumbnailIndex < thumbnailImage.size()) {
-                thumbnailUrl = thumbnailImage.get(thumbnailIndex);
-            }
+            String thumbnailUrl = diaries.getThumbnailImageKey() != null
+                    ? thumbnailUrls.get(diaries.getThumbnailImageKey())
+                    : null;
             String diaryIdAsString = Ulid.from(diaries.getDiaryId()).toString();
             diaryResponses.add(new DiaryResponseByMonthAndDay(
                     diaryIdAsString,
@@ -53,7 +52,6 @@ public class DiaryResponseByMonthAndDay {
                     diaries.getCreatedAt(),
                     diaries.getUpdatedAt()
             ));
-            thumbnailIndex++;
         }
         return diaryResponses;
     }
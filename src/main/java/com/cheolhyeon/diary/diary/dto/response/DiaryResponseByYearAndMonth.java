@@ -1,6 +1,6 @@
 package com.cheolhyeon.diary.diary.dto.response;
 
-import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow;
 import com.cheolhyeon.diary.diary.enums.Mood;
 import com.cheolhyeon.diary.diary.enums.Weather;
 import com.github.f4b6a3.ulid.Ulid;
@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -28,31 +29,25 @@ public class DiaryResponseByYearAndMonth {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static List<DiaryResponseByYearAndMonth> toResponse(List<Diaries> allDiariesByYearAndMonth, List<String> thumbnailImage) {
-        List<DiaryResponseByYearAndMonth> diaryResponses = new ArrayList<>();
-        int thumbnailIndex = 0;
-        
-        for (Diaries diaries : allDiariesByYearAndMonth) {
-            if (diaries.getDeletedAt() != null) {
-                continue;
-            }
-            String thumbnailUrl = null;
-            if (thumbnailIndex < thumbnailImage.size()) {
-                thumbnailUrl = thumbnailImage.get(thumbnailIndex);
-            }
-            String diaryIdAsString = Ulid.from(diaries.getDiaryId()).toString();
+    public static List<DiaryResponseByYearAndMonth> toResponse(List<DiaryCalendarRow> calendarRows, Map<String, String> thumbnailUrls) {
+        List<DiaryResponseByYearAndMonth> diaryResponses = new ArrayList<>(calendarRows.size());
+
+        for (DiaryCalendarRow row : calendarRows) {
+            String thumbnailUrl = row.getThumbnailImageKey() != null
+                    ? thumbnailUrls.get(row.getThumbnailImageKey())
+                    : null;
+            String diaryIdAsString = Ulid.from(row.getDiaryId()).toString();
             diaryResponses.add(new DiaryResponseByYearAndMonth(
                     diaryIdAsString,
-                    diaries.getWriter(),
-                    diaries.getTitle(),
-                    diaries.getContent(),
-                    diaries.getMood(),
-                    diaries.getWeather(),
+                    row.getWriter(),
+                    row.getTitle(),
+                    row.getContentPreview(),
+                    row.getMood(),
+                    row.getWeather(),
                     thumbnailUrl,
-                    diaries.getCreatedAt(),
-                    diaries.getUpdatedAt()
+                    row.getCreatedAt(),
+                    row.getUpdatedAt()
             ));
-            thumbnailIndex++;
         }
         return diaryResponses;
     }
@@ -0,0 +1,37 @@
+package com.cheolhyeon.diary.diary.dto.response;
+
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.github.f4b6a3.ulid.Ulid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커서 기반 목록 응답. nextCursor 는 마지막 일기의 ULID 이며 다음 페이지가 없으면 null 이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiarySliceResponse {
+    private List<DiarySummaryResponse> diaries;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // pageSize + 1 건을 조회한 결과를 받아 다음 페이지 존재 여부를 판단한다
+    public static DiarySliceResponse toResponse(List<Diaries> fetched, int pageSize, Map<String, String> thumbnailUrls) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<Diaries> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        List<DiarySummaryResponse> diaries = page.stream()
+                .map(diary -> DiarySummaryResponse.toResponse(diary, thumbnailUrls))
+                .toList();
+        String nextCursor = hasNext
+                ? Ulid.from(page.get(page.size() - 1).getDiaryId()).toString()
+                : null;
+        return new DiarySliceResponse(diaries, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,46 @@
+package com.cheolhyeon.diary.diary.dto.response;
+
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.enums.Mood;
+import com.cheolhyeon.diary.diary.enums.Weather;
+import com.github.f4b6a3.ulid.Ulid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiarySummaryResponse {
+    private String diaryIdString;
+    private String displayName;
+    private String title;
+    private String content;
+    private Mood mood;
+    private Weather weather;
+    private String thumbnailUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static DiarySummaryResponse toResponse(Diaries diaries, Map<String, String> thumbnailUrls) {
+        String thumbnailUrl = diaries.getThumbnailImageKey() != null
+                ? thumbnailUrls.get(diaries.getThumbnailImageKey())
+                : null;
+        return new DiarySummaryResponse(
+                Ulid.from(diaries.getDiaryId()).toString(),
+                diaries.getWriter(),
+                diaries.getTitle(),
+                diaries.getContent(),
+                diaries.getMood(),
+                diaries.getWeather(),
+                thumbnailUrl,
+                diaries.getCreatedAt(),
+                diaries.getUpdatedAt()
+        );
+    }
+}
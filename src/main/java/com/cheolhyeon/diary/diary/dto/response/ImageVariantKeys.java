@@ -0,0 +1,30 @@
+package com.cheolhyeon.diary.diary.dto.response;
+
+import com.cheolhyeon.diary.diary.enums.ImageVariant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 원본 이미지 하나에서 만든 변형 이미지 키. diaries.image_variants_json 에 원본 키별로 저장한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariantKeys {
+    private String thumbnailKey;
+    private String mediumKey;
+
+    // 변형 키는 원본 키에서 정해지므로 이미 올린 변형은 키만으로 다시 만들 수 있다
+    public static ImageVariantKeys derivedFrom(String originalKey) {
+        return new ImageVariantKeys(ImageVariant.THUMBNAIL.keyOf(originalKey), ImageVariant.MEDIUM.keyOf(originalKey));
+    }
+
+    public List<String> keys() {
+        return List.of(thumbnailKey, mediumKey);
+    }
+}
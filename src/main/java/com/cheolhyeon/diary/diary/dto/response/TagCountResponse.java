@@ -0,0 +1,20 @@
+package com.cheolhyeon.diary.diary.dto.response;
+
+import com.cheolhyeon.diary.diary.dto.projection.TagCountRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCountResponse {
+    private String tag;
+    private long diaryCount;
+
+    public static TagCountResponse toResponse(TagCountRow row) {
+        return new TagCountResponse(row.getTag(), row.getDiaryCount());
+    }
+}
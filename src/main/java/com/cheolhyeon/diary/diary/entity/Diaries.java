@@ -1,6 +1,7 @@
 package com.cheolhyeon.diary.diary.entity;
 
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryUpdateRequest;
+import com.cheolhyeon.diary.diary.dto.response.ImageVariantKeys;
 import com.cheolhyeon.diary.diary.dto.response.Location;
 import com.cheolhyeon.diary.diary.enums.Mood;
 import com.cheolhyeon.diary.diary.enums.Weather;
@@ -8,15 +9,23 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Entity
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "diaries", indexes = {
+        // 타임라인 keyset 페이지네이션용 (writer_id, diary_id) 복합 인덱스
+        @Index(name = "idx_diaries_writer_id_diary_id", columnList = "writer_id, diary_id")
+})
 public class Diaries {
     @Id
     @Column(columnDefinition = "binary(16)")
@@ -44,6 +53,14 @@ public class Diaries {
     @Column(columnDefinition = "json")
     private List<String> imageKeysJson;
 
+    // 원본 키 -> 서버에서 만든 썸네일/중간 크기 이미지 키
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "json")
+    private Map<String, ImageVariantKeys> imageVariantsJson;
+
+    // 캘린더 조회 시 S3 listObjects 없이 썸네일을 찾기 위해 업로드 시점에 기록
+    private String thumbnailImageKey;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
@@ -56,11 +73,78 @@ public class Diaries {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void updateImageKeysJson(List<String> leftImageKeysJson) {
+    // 남은 이미지의 기존 변형과 새로 만든 변형만 남긴다
+    public void updateImageKeysJson(List<String> leftImageKeysJson, Map<String, ImageVariantKeys> addedVariants) {
+        Map<String, ImageVariantKeys> variants = new LinkedHashMap<>();
+        for (String key : leftImageKeysJson) {
+            ImageVariantKeys variant = this.imageVariantsJson != null ? this.imageVariantsJson.get(key) : null;
+            if (variant == null && addedVariants != null) {
+                variant = addedVariants.get(key);
+            }
+            if (variant != null) {
+                variants.put(key, variant);
+            }
+        }
         this.imageKeysJson = leftImageKeysJson;
+        this.imageVariantsJson = variants.isEmpty() ? null : variants;
+        this.thumbnailImageKey = resolveThumbnailKey(leftImageKeysJson, this.imageVariantsJson);
+    }
+
+    public void backfillThumbnailImageKey() {
+        this.thumbnailImageKey = resolveThumbnailKey(this.imageKeysJson, this.imageVariantsJson);
+    }
+
+    // 상세 화면용 키 목록 -> 중간 크기 변형이 없는 이미지는 원본 키를 그대로 사용한다
+    public List<String> mediumImageKeys() {
+        if (imageKeysJson == null || imageVariantsJson == null) {
+            return imageKeysJson;
+        }
+        List<String> mediumKeys = new ArrayList<>(imageKeysJson.size());
+        for (String key : imageKeysJson) {
+            ImageVariantKeys variant = imageVariantsJson.get(key);
+            mediumKeys.add(variant != null ? variant.getMediumKey() : key);
+        }
+        return mediumKeys;
     }
 
     public void softDeletedAt() {
         this.deletedAt = LocalDateTime.now();
     }
+
+    /**
+     * 서버에서 만든 썸네일 변형이 있으면 첫 번째 것을, 없으면 클라이언트가 올린 thumbnail_ 이미지를 사용한다.
+     * thumbnail_ 규칙은 변형 이미지 도입 이전에 작성된 일기를 위해서만 남겨둔다.
+     * 둘 다 없으면(디코딩 풀 포화, 디코딩 실패, 너무 큰 원본) 첫 번째 원본 이미지를 그대로 썸네일로 쓴다.
+     */
+    public static String resolveThumbnailKey(List<String> imageKeys, Map<String, ImageVariantKeys> variants) {
+        if (imageKeys == null) {
+            return null;
+        }
+        if (variants != null) {
+            for (String key : imageKeys) {
+                ImageVariantKeys variant = variants.get(key);
+                if (variant != null) {
+                    return variant.getThumbnailKey();
+                }
+            }
+        }
+        String legacyThumbnailKey = extractThumbnailKey(imageKeys);
+        if (legacyThumbnailKey != null || imageKeys.isEmpty()) {
+            return legacyThumbnailKey;
+        }
+        return imageKeys.get(0);
+    }
+
+    public static String extractThumbnailKey(List<String> imageKeys) {
+        if (imageKeys == null) {
+            return null;
+        }
+        return imageKeys.stream()
+                .filter(key -> {
+                    String filename = StringUtils.getFilename(key);
+                    return filename != null && filename.startsWith("thumbnail_");
+                })
+                .findFirst()
+                .orElse(null);
+    }
 }
@@ -0,0 +1,30 @@
+package com.cheolhyeon.diary.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 태그 정확 일치 검색용 정규화 테이블. diaries.tags_json 과 같은 내용을 일기 저장/수정 시점에 동기화한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(DiaryTagId.class)
+@Table(name = "diary_tag", indexes = {
+        // 일기 단위로 태그를 동기화/삭제할 때 사용
+        @Index(name = "idx_diary_tag_diary_id", columnList = "diary_id")
+})
+public class DiaryTag {
+    @Id
+    private Long writerId;
+
+    @Id
+    @Column(length = 50)
+    private String tag;
+
+    @Id
+    @Column(columnDefinition = "binary(16)")
+    private byte[] diaryId;
+}
@@ -0,0 +1,35 @@
+package com.cheolhyeon.diary.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작성자별 이미지 내용(SHA-256) -> S3 객체. 같은 이미지를 다시 올리면 새 객체 대신 참조 수만 올린다.
+ * 참조 수가 0 이 되면 행과 S3 객체(변형 이미지 포함)를 함께 지운다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ImageObjectId.class)
+@Table(name = "image_object", uniqueConstraints = {
+        // 일기에는 키만 저장되므로 해제 시 키로 찾는다
+        @UniqueConstraint(name = "uk_image_object_s3_key", columnNames = "s3_key")
+})
+public class ImageObject {
+    @Id
+    private Long writerId;
+
+    @Id
+    @Column(columnDefinition = "binary(32)")
+    private byte[] contentHash;
+
+    private String s3Key;
+    private int refCount;
+    // 원본 키에서 파생된 변형 이미지를 이미 올렸는지 여부
+    private boolean variantsReady;
+    private LocalDateTime createdAt;
+}
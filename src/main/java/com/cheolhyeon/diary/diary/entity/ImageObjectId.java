@@ -0,0 +1,17 @@
+package com.cheolhyeon.diary.diary.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageObjectId implements Serializable {
+    private Long writerId;
+    private byte[] contentHash;
+}
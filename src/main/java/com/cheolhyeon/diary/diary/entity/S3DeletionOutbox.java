@@ -0,0 +1,41 @@
+package com.cheolhyeon.diary.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지워야 할 S3 객체 키. 키를 더 이상 참조하지 않게 만든 트랜잭션 안에서 함께 기록되므로,
+ * 커밋되면 반드시 지워지고 롤백되면 지워지지 않는다. 실제 삭제는 {@code S3DeletionSweeper} 가 한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_deletion_outbox", indexes = {
+        @Index(name = "idx_s3_deletion_outbox_next_attempt_at", columnList = "dead_lettered_at, next_attempt_at, id")
+})
+public class S3DeletionOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String s3Key;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime nextAttemptAt;
+    // 재시도를 포기한 시각 -> 이후 sweeper 가 읽지 않는다
+    private LocalDateTime deadLetteredAt;
+    private LocalDateTime createdAt;
+
+    public static S3DeletionOutbox pending(String s3Key, LocalDateTime now) {
+        return S3DeletionOutbox.builder()
+                .s3Key(s3Key)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
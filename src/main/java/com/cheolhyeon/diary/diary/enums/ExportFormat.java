@@ -0,0 +1,27 @@
+package com.cheolhyeon.diary.diary.enums;
+
+import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
+import com.cheolhyeon.diary.app.exception.diary.DiaryException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    // 한 줄에 일기 하나 (JSON)
+    NDJSON("application/x-ndjson", "ndjson"),
+    // 일기 JSON 과 이미지 원본
+    ZIP("application/zip", "zip");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new DiaryException(DiaryErrorStatus.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -0,0 +1,28 @@
+package com.cheolhyeon.diary.diary.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+    // 캘린더/타임라인 목록용
+    THUMBNAIL("thumb", 320),
+    // 일기 상세 화면용
+    MEDIUM("medium", 1280);
+
+    private final String suffix;
+    // 긴 변 기준 최대 픽셀
+    private final int maxDimension;
+
+    /**
+     * 원본 키에서 변형 이미지 키를 만든다. 같은 원본이면 항상 같은 키가 된다.
+     * ex) diary_service/1/ULID/2025/09/23/1/abc.png -> diary_service/1/ULID/2025/09/23/1/abc_thumb.jpg
+     */
+    public String keyOf(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + suffix + ".jpg";
+    }
+}
@@ -0,0 +1,8 @@
+package com.cheolhyeon.diary.diary.enums;
+
+public enum SearchEngine {
+    // diaries FULLTEXT 인덱스와 diary_tag 테이블로 검색
+    MYSQL,
+    // 애플리케이션 메모리의 역색인으로 검색 (색인이 준비되기 전에는 MYSQL 로 검색)
+    MEMORY
+}
@@ -1,9 +1,13 @@
 package com.cheolhyeon.diary.diary.repository;
 
 
+import com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow;
 import com.cheolhyeon.diary.diary.entity.Diaries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
@@ -28,16 +32,159 @@ public interface DiaryRepository extends JpaRepository<Diaries, byte[]> {
 
     Optional<Diaries> findById(byte[] diaryId);
 
+    // 캘린더에 필요한 컬럼만 조회하고 삭제된 일기는 SQL 에서 거른다
+    @Query("""
+            select new com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow(
+                d.diaryId, d.writer, d.title, substring(d.content, 1, :previewLength),
+                d.mood, d.weather, d.thumbnailImageKey, d.createdAt, d.updatedAt)
+            from Diaries d
+            where d.writerId = :writerId
+            and d.createdAt >= :startMonth
+            and d.createdAt < :endMonth
+            and d.deletedAt is null
+            order by d.createdAt desc
+            """)
+    List<DiaryCalendarRow> findCalendarByYearAndMonth(
+            @Param("writerId") Long writerId,
+            @Param("startMonth") LocalDateTime startMonth,
+            @Param("endMonth") LocalDateTime endMonth,
+            @Param("previewLength") int previewLength);
+
     @Query(value = """
-                    select * from diaries d
-                    where d.writer_id = :writerId
-                    and d.created_at >= :startMonth
-                    and d.created_at < :endMonth
-                    ORDER BY d.created_at DESC;
+            select d.* from diaries d
+            where d.thumbnail_image_key is null
+            and d.image_keys_json is not null
+            and d.diary_id > :lastDiaryId
+            ORDER BY d.diary_id
+            LIMIT :batchSize
             """, nativeQuery = true
     )
-    List<Diaries> findAllByYearAndMonth(
+    List<Diaries> findThumbnailBackfillTargets(
+            @Param("lastDiaryId") byte[] lastDiaryId,
+            @Param("batchSize") int batchSize);
+
+    @Query(value = """
+            select d.* from diaries d
+            where d.deleted_at is null
+            and d.tags_json is not null
+            and d.diary_id > :lastDiaryId
+            ORDER BY d.diary_id
+            LIMIT :batchSize
+            """, nativeQuery = true
+    )
+    List<Diaries> findTagBackfillTargets(
+            @Param("lastDiaryId") byte[] lastDiaryId,
+            @Param("batchSize") int batchSize);
+
+    // (writer_id, diary_id) 인덱스를 따라 커서 이후 limit 건만 읽는다 -> 페이지 깊이와 무관하게 O(page)
+    @Query(value = """
+            select d.* from diaries d
+            where d.writer_id = :writerId
+            and d.deleted_at is null
+            and d.diary_id < :cursor
+            ORDER BY d.diary_id DESC
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> findTimeline(
             @Param("writerId") Long writerId,
-            @Param("startMonth") LocalDateTime startMonth,
-            @Param("endMonth") LocalDateTime endMonth);
+            @Param("cursor") byte[] cursor,
+            @Param("limit") int limit);
+
+    // 내보내기는 diary_id 오름차순 keyset 페이지로 읽는다 -> 페이지마다 짧은 트랜잭션으로 끝나 커넥션을 오래 잡지 않는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+            select d.* from diaries d
+            where d.writer_id = :writerId
+            and d.deleted_at is null
+            and d.diary_id > :cursor
+            ORDER BY d.diary_id
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> findExportPage(
+            @Param("writerId") Long writerId,
+            @Param("cursor") byte[] cursor,
+            @Param("limit") int limit);
+
+    // FULLTEXT(ngram) 인덱스로 후보를 찾고 작성자/커서 조건으로 거른다. 정렬은 관련도가 아닌 diary_id 로 하여 keyset 페이지네이션을 유지한다
+    @Query(value = """
+            select d.* from diaries d
+            where match(d.title, d.content) against (:query in boolean mode)
+            and d.writer_id = :writerId
+            and d.deleted_at is null
+            and d.diary_id < :cursor
+            ORDER BY d.diary_id DESC
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> searchByKeyword(
+            @Param("writerId") Long writerId,
+            @Param("query") String query,
+            @Param("cursor") byte[] cursor,
+            @Param("limit") int limit);
+
+    // diary_tag PK (writer_id, tag, diary_id) 를 역순으로 읽으므로 정렬 없이 limit 건에서 멈춘다
+    @Query(value = """
+            select d.* from diary_tag t
+            join diaries d on d.diary_id = t.diary_id
+            where t.writer_id = :writerId
+            and t.tag = :tag
+            and t.diary_id < :cursor
+            and d.deleted_at is null
+            ORDER BY t.diary_id DESC
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> searchByTag(
+            @Param("writerId") Long writerId,
+            @Param("tag") String tag,
+            @Param("cursor") byte[] cursor,
+            @Param("limit") int limit);
+
+    @Query(value = """
+            select d.* from diary_tag t
+            join diaries d on d.diary_id = t.diary_id
+            where t.writer_id = :writerId
+            and t.tag = :tag
+            and t.diary_id < :cursor
+            and d.deleted_at is null
+            and match(d.title, d.content) against (:query in boolean mode)
+            ORDER BY t.diary_id DESC
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> searchByKeywordAndTag(
+            @Param("writerId") Long writerId,
+            @Param("query") String query,
+            @Param("tag") String tag,
+            @Param("cursor") byte[] cursor,
+            @Param("limit") int limit);
+
+    // 메모리 검색 색인 전체 재구성용 -> 내보내기와 같이 diary_id keyset 페이지로 읽어 페이지마다 트랜잭션을 짧게 끝낸다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+            select d.* from diaries d
+            where d.deleted_at is null
+            and d.diary_id > :cursor
+            ORDER BY d.diary_id
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> findIndexPage(@Param("cursor") byte[] cursor, @Param("limit") int limit);
+
+    // 스냅샷 이후 수정/삭제된 일기 (삭제된 일기도 색인에서 빼기 위해 포함한다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+            select d.* from diaries d
+            where (d.updated_at >= :since or d.deleted_at >= :since)
+            and d.diary_id > :cursor
+            ORDER BY d.diary_id
+            LIMIT :limit
+            """, nativeQuery = true
+    )
+    List<Diaries> findChangedSincePage(
+            @Param("since") LocalDateTime since,
+            @Param("cursor") byte[] cursor,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,59 @@
+package com.cheolhyeon.diary.diary.repository;
+
+import com.cheolhyeon.diary.diary.dto.projection.TagCountRow;
+import com.cheolhyeon.diary.diary.entity.DiaryTag;
+import com.cheolhyeon.diary.diary.entity.DiaryTagId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DiaryTagRepository extends JpaRepository<DiaryTag, DiaryTagId> {
+    @Query(value = """
+            select t.tag from diary_tag t
+            where t.diary_id = :diaryId
+            """, nativeQuery = true)
+    List<String> findTagsByDiaryId(@Param("diaryId") byte[] diaryId);
+
+    // 복합 키라 save 는 select 후 insert 로 동작한다 -> 이미 있으면 무시하는 insert 한 번으로 끝낸다
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO diary_tag (writer_id, tag, diary_id)
+            VALUES (:writerId, :tag, :diaryId)
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("writerId") Long writerId,
+            @Param("tag") String tag,
+            @Param("diaryId") byte[] diaryId);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM diary_tag
+            WHERE diary_id = :diaryId
+            AND tag IN (:tags)
+            """, nativeQuery = true)
+    int deleteByDiaryIdAndTagIn(
+            @Param("diaryId") byte[] diaryId,
+            @Param("tags") Collection<String> tags);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM diary_tag
+            WHERE diary_id = :diaryId
+            """, nativeQuery = true)
+    int deleteByDiaryId(@Param("diaryId") byte[] diaryId);
+
+    // PK (writer_id, tag, diary_id) 의 writer_id 구간만 읽어 집계한다 -> diaries 는 읽지 않는다
+    @Query("""
+            select new com.cheolhyeon.diary.diary.dto.projection.TagCountRow(t.tag, count(t))
+            from DiaryTag t
+            where t.writerId = :writerId
+            group by t.tag
+            order by count(t) desc, t.tag
+            """)
+    List<TagCountRow> findTopTags(@Param("writerId") Long writerId, Pageable pageable);
+}
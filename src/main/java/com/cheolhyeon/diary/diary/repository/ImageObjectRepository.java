@@ -0,0 +1,79 @@
+package com.cheolhyeon.diary.diary.repository;
+
+import com.cheolhyeon.diary.diary.entity.ImageObject;
+import com.cheolhyeon.diary.diary.entity.ImageObjectId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, ImageObjectId> {
+    @Query(value = """
+            select o.s3_key from image_object o
+            where o.writer_id = :writerId
+            and o.content_hash = :contentHash
+            """, nativeQuery = true)
+    Optional<String> findS3Key(
+            @Param("writerId") Long writerId,
+            @Param("contentHash") byte[] contentHash);
+
+    @Modifying
+    @Query(value = """
+            UPDATE image_object
+            SET ref_count = ref_count + 1
+            WHERE writer_id = :writerId
+            AND content_hash = :contentHash
+            """, nativeQuery = true)
+    int incrementRefCount(
+            @Param("writerId") Long writerId,
+            @Param("contentHash") byte[] contentHash);
+
+    // 같은 이미지가 동시에 올라와 먼저 등록된 행이 있으면 그 행의 참조 수를 올린다
+    @Modifying
+    @Query(value = """
+            INSERT INTO image_object (writer_id, content_hash, s3_key, ref_count, created_at)
+            VALUES (:writerId, :contentHash, :s3Key, 1, NOW(6))
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, nativeQuery = true)
+    int insertOrIncrement(
+            @Param("writerId") Long writerId,
+            @Param("contentHash") byte[] contentHash,
+            @Param("s3Key") String s3Key);
+
+    @Query(value = """
+            select o.s3_key from image_object o
+            where o.s3_key in (:s3Keys)
+            and o.variants_ready = true
+            """, nativeQuery = true)
+    List<String> findS3KeysWithVariants(@Param("s3Keys") Collection<String> s3Keys);
+
+    @Modifying
+    @Query(value = """
+            UPDATE image_object
+            SET variants_ready = TRUE
+            WHERE s3_key IN (:s3Keys)
+            """, nativeQuery = true)
+    int markVariantsReady(@Param("s3Keys") Collection<String> s3Keys);
+
+    @Modifying
+    @Query(value = """
+            UPDATE image_object
+            SET ref_count = ref_count - 1
+            WHERE s3_key = :s3Key
+            AND ref_count > 0
+            """, nativeQuery = true)
+    int decrementRefCount(@Param("s3Key") String s3Key);
+
+    // 감소 이후 다른 업로드가 참조를 다시 올렸으면 지우지 않는다
+    @Modifying
+    @Query(value = """
+            DELETE FROM image_object
+            WHERE s3_key = :s3Key
+            AND ref_count = 0
+            """, nativeQuery = true)
+    int deleteIfUnreferenced(@Param("s3Key") String s3Key);
+}
@@ -0,0 +1,39 @@
+package com.cheolhyeon.diary.diary.repository;
+
+import com.cheolhyeon.diary.diary.entity.S3DeletionOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface S3DeletionOutboxRepository extends JpaRepository<S3DeletionOutbox, Long> {
+    @Query(value = """
+            SELECT * FROM s3_deletion_outbox o
+            WHERE o.dead_lettered_at IS NULL
+            AND o.next_attempt_at <= NOW(6)
+            ORDER BY o.next_attempt_at, o.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<S3DeletionOutbox> findDue(@Param("limit") int limit);
+
+    // 지수 백오프: baseDelaySeconds * 2^attempts 초 뒤 (최대 maxDelaySeconds) 다시 시도한다
+    // POW 는 LEAST 보다 먼저 계산되므로 지수를 20 으로 묶는다 -> attempts 가 커져도 DOUBLE 범위를 넘지 않는다
+    // maxAttempts 번째 실패에서 dead_lettered_at 을 기록하고 더 이상 시도하지 않는다
+    // SET 은 왼쪽부터 반영되므로 attempts 를 쓰는 식을 먼저 계산해야 증가 전 값을 사용한다
+    @Modifying
+    @Query(value = """
+            UPDATE s3_deletion_outbox
+            SET next_attempt_at = NOW(6) + INTERVAL LEAST(:baseDelaySeconds * POW(2, LEAST(attempts, 20)), :maxDelaySeconds) SECOND,
+                dead_lettered_at = IF(attempts + 1 >= :maxAttempts, NOW(6), NULL),
+                attempts = attempts + 1,
+                last_error = :lastError
+            WHERE id = :id
+            """, nativeQuery = true)
+    int markFailed(@Param("id") Long id,
+                   @Param("lastError") String lastError,
+                   @Param("baseDelaySeconds") long baseDelaySeconds,
+                   @Param("maxDelaySeconds") long maxDelaySeconds,
+                   @Param("maxAttempts") int maxAttempts);
+}
@@ -0,0 +1,158 @@
+package com.cheolhyeon.diary.diary.search;
+
+import com.cheolhyeon.diary.app.properties.DiarySearchProperties;
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 기동 시 메모리 검색 색인을 채우고 주기적으로 스냅샷을 남긴다.
+ *
+ * <p>스냅샷이 있으면 읽어 들인 뒤 스냅샷 시각(- catchUpMargin) 이후 수정/삭제된 일기만 DB 에서 다시 읽는다.
+ * 스냅샷이 없거나 읽을 수 없으면 전체 일기를 diaryId keyset 페이지로 읽어 색인한다.
+ * 페이지마다 짧은 트랜잭션으로 읽으므로 전체 로딩 동안 커넥션과 결과 집합을 붙잡지 않는다.
+ * 기동을 막지 않도록 별도 스레드에서 수행하며, 끝나기 전까지 검색은 MySQL 로 처리된다.
+ * 로딩 중 커밋된 변경은 {@link DiaryInvertedIndex} 가 버퍼에 모았다가 로딩이 끝난 뒤 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryIndexLoader {
+    // 첫 페이지는 모든 ULID 보다 작은 값(0x00 * 16)부터 읽는다
+    private static final byte[] FIRST_CURSOR = new byte[16];
+
+    private final DiaryInvertedIndex diaryInvertedIndex;
+    private final DiaryRepository diaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DiarySearchProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!diaryInvertedIndex.isEnabled()) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "diary-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            LocalDateTime since = loadSnapshot();
+            long indexed = 0;
+            if (since == null) {
+                indexed = indexAll(diaryRepository::findIndexPage);
+                since = toLocalDateTime(startedAt).minus(properties.getCatchUpMargin());
+            }
+            LocalDateTime catchUpSince = since;
+            long caughtUp = indexAll((cursor, limit) -> diaryRepository.findChangedSincePage(catchUpSince, cursor, limit));
+            int replayed = diaryInvertedIndex.markReady();
+            log.info("Diary search index ready - writers: {}, indexed: {}, caughtUp: {}, replayed: {}, elapsedMs: {}",
+                    diaryInvertedIndex.getPartitionCount(), indexed, caughtUp, replayed, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 색인이 준비되지 않으면 검색은 계속 MySQL 로 처리된다
+            diaryInvertedIndex.abandon();
+            log.error("Failed to load diary search index, falling back to MySQL search", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${diary.search.snapshot-interval-ms:600000}",
+            fixedDelayString = "${diary.search.snapshot-interval-ms:600000}")
+    public void writeSnapshot() {
+        if (!diaryInvertedIndex.isReady()) {
+            return;
+        }
+        // 스냅샷 시각은 쓰기 전에 잡는다 -> 쓰는 도중 반영된 변경은 다음 기동 시 다시 읽힌다
+        long takenAt = System.currentTimeMillis();
+        try {
+            diaryInvertedIndex.writeSnapshot(Path.of(properties.getSnapshotPath()), takenAt);
+            log.info("Diary search index snapshot written - writers: {}, elapsedMs: {}",
+                    diaryInvertedIndex.getPartitionCount(), System.currentTimeMillis() - takenAt);
+        } catch (IOException e) {
+            log.warn("Failed to write diary search index snapshot: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void writeSnapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    // 스냅샷을 읽었으면 다시 읽기 시작할 시각, 없으면 null
+    private LocalDateTime loadSnapshot() {
+        Path path = Path.of(properties.getSnapshotPath());
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            long takenAt = diaryInvertedIndex.readSnapshot(path);
+            return toLocalDateTime(takenAt).minus(properties.getCatchUpMargin());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable diary search index snapshot {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private long indexAll(PageReader pageReader) {
+        int pageSize = properties.getLoadPageSize();
+        byte[] cursor = FIRST_CURSOR;
+        long applied = 0;
+        while (true) {
+            List<Diaries> page = readPage(pageReader, cursor, pageSize);
+            page.forEach(this::apply);
+            applied += page.size();
+            if (page.size() < pageSize) {
+                return applied;
+            }
+            cursor = page.get(page.size() - 1).getDiaryId();
+        }
+    }
+
+    private List<Diaries> readPage(PageReader pageReader, byte[] cursor, int pageSize) {
+        List<Diaries> page = transactionTemplate.execute(status -> {
+            List<Diaries> diaries = pageReader.read(cursor, pageSize);
+            // 영속성 컨텍스트에 쌓이지 않도록 바로 분리한다
+            diaries.forEach(entityManager::detach);
+            return diaries;
+        });
+        return page == null ? List.of() : page;
+    }
+
+    private void apply(Diaries diary) {
+        if (diary.getDeletedAt() != null) {
+            diaryInvertedIndex.remove(diary.getWriterId(), diary.getDiaryId());
+        } else {
+            diaryInvertedIndex.upsert(diary.getWriterId(), diary.getDiaryId(),
+                    diary.getTitle(), diary.getContent(), diary.getTagsJson());
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // diaryId(cursor) 이후 일기를 limit 건까지 diaryId 오름차순으로 읽는다
+    @FunctionalInterface
+    private interface PageReader {
+        List<Diaries> read(byte[] cursor, int limit);
+    }
+}
@@ -0,0 +1,231 @@
+package com.cheolhyeon.diary.diary.search;
+
+import com.cheolhyeon.diary.app.event.diary.DiaryIndexEvent;
+import com.cheolhyeon.diary.app.event.diary.DiaryIndexEventListener;
+import com.cheolhyeon.diary.app.properties.DiarySearchProperties;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.diary.enums.SearchEngine;
+import com.cheolhyeon.diary.diary.service.DiaryTagService;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작성자별로 나눈 메모리 역색인. 검색은 해당 작성자의 파티션만 읽으므로 DB 를 거치지 않고 끝난다.
+ *
+ * <p>diary.search.engine=memory 일 때만 색인을 유지하며, {@link DiaryIndexLoader} 가 기동 시 채운 뒤에야
+ * {@link #isReady()} 가 true 가 된다. 그 전까지 검색은 MySQL 로 처리된다.
+ * 준비되기 전에 들어온 변경은 버퍼에 모았다가 로딩이 끝난 뒤 들어온 순서대로 반영한다
+ * -> 로딩 중 DB 에서 읽은 이전 버전이 더 최신 변경을 덮어쓰지 않는다.
+ *
+ * <p>색인은 노드마다 따로 있다. 다른 노드에서 커밋된 변경은 {@link DiaryIndexEventListener} 가
+ * cluster.broadcast 로 전달받아 반영하므로, 여러 노드로 띄울 때는 cluster.broadcast.type=redis 가 필요하다.
+ *
+ * <p>검색어는 MySQL ngram 과 같은 2-gram 으로 나누고 모든 gram 을 포함한 일기를 일치로 본다.
+ * gram 의 인접 여부는 확인하지 않으므로 MySQL 구문 검색보다 결과가 약간 넓을 수 있다.
+ */
+@Component
+public class DiaryInvertedIndex implements StatsSource {
+    private static final int SNAPSHOT_MAGIC = 0x44495831; // "DIX1"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, WriterIndexPartition> partitions = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    // 로딩에 실패하면 더 이상 버퍼에 쌓지 않는다 (검색은 계속 MySQL 로 처리된다)
+    private volatile boolean abandoned;
+    private final Object pendingLock = new Object();
+    private final List<DiaryIndexEvent> pendingEvents = new ArrayList<>();
+
+    private final LongAdder searchCount = new LongAdder();
+    private final LongAdder totalSearchNanos = new LongAdder();
+    // 기동 이후 최댓값 (stats() 가 읽기만 하도록 초기화하지 않는다)
+    private final LongAccumulator maxSearchNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder appliedEventCount = new LongAdder();
+
+    public DiaryInvertedIndex(DiarySearchProperties properties) {
+        this.enabled = properties.getEngine() == SearchEngine.MEMORY;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 버퍼에 모인 변경을 들어온 순서대로 반영한 뒤 준비 상태로 바꾼다.
+     *
+     * @return 반영한 버퍼 변경 수
+     */
+    int markReady() {
+        synchronized (pendingLock) {
+            int replayed = pendingEvents.size();
+            pendingEvents.forEach(this::applyNow);
+            pendingEvents.clear();
+            ready = true;
+            return replayed;
+        }
+    }
+
+    void abandon() {
+        synchronized (pendingLock) {
+            abandoned = true;
+            pendingEvents.clear();
+        }
+    }
+
+    public void apply(DiaryIndexEvent event) {
+        if (!enabled || abandoned) {
+            return;
+        }
+        if (!ready) {
+            synchronized (pendingLock) {
+                // 락을 기다리는 동안 markReady 가 끝났을 수 있으므로 다시 확인한다
+                if (!ready) {
+                    if (!abandoned) {
+                        pendingEvents.add(event);
+                    }
+                    return;
+                }
+            }
+        }
+        applyNow(event);
+    }
+
+    private void applyNow(DiaryIndexEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getWriterId(), event.getDiaryId());
+        } else {
+            upsert(event.getWriterId(), event.getDiaryId(), event.getTitle(), event.getContent(), event.getTags());
+        }
+        appliedEventCount.increment();
+    }
+
+    public void upsert(Long writerId, byte[] diaryId, String title, String content, List<String> tags) {
+        partitions.computeIfAbsent(writerId, id -> new WriterIndexPartition())
+                .upsert(diaryId.clone(), DiaryTokenizer.indexTerms(title, content, tags));
+    }
+
+    public void remove(Long writerId, byte[] diaryId) {
+        WriterIndexPartition partition = partitions.get(writerId);
+        if (partition != null) {
+            partition.remove(diaryId);
+        }
+    }
+
+    /**
+     * @param searchTerms 연산자를 제거한 검색어 목록
+     * @param tag         정확히 일치해야 하는 태그, 없으면 null
+     * @return cursor 보다 작은 diaryId 를 내림차순으로 최대 limit 건
+     */
+    public List<byte[]> search(Long writerId, List<String> searchTerms, String tag, byte[] cursor, int limit) {
+        long startedAt = System.nanoTime();
+        try {
+            WriterIndexPartition partition = partitions.get(writerId);
+            if (partition == null) {
+                return List.of();
+            }
+            List<String> grams = DiaryTokenizer.queryGrams(searchTerms);
+            String normalizedTag = DiaryTagService.normalizeTag(tag);
+            String tagTerm = normalizedTag == null ? null : DiaryTokenizer.tagTerm(normalizedTag);
+            return partition.search(grams, tagTerm, cursor, limit);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            searchCount.increment();
+            totalSearchNanos.add(elapsed);
+            maxSearchNanos.accumulate(elapsed);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로 쓰는 도중 종료되어도 이전 스냅샷은 남는다.
+     * 파티션마다 읽기 락을 잡고 쓰므로 스냅샷 도중에도 다른 작성자의 색인과 검색은 멈추지 않는다.
+     */
+    public void writeSnapshot(Path path, long takenAtEpochMillis) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(takenAtEpochMillis);
+            // 쓰는 도중 파티션이 추가될 수 있으므로 개수를 먼저 고정한다
+            List<Map.Entry<Long, WriterIndexPartition>> entries = List.copyOf(partitions.entrySet());
+            out.writeInt(entries.size());
+            for (Map.Entry<Long, WriterIndexPartition> entry : entries) {
+                out.writeLong(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷을 읽어 색인을 교체한다.
+     *
+     * @return 스냅샷을 만든 시각(epoch millis)
+     */
+    public long readSnapshot(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported diary index snapshot format: " + path);
+            }
+            long takenAt = in.readLong();
+            int partitionCount = in.readInt();
+            // 준비되기 전 변경은 버퍼에 있으므로 파티션을 통째로 교체해도 잃지 않는다
+            for (int i = 0; i < partitionCount; i++) {
+                long writerId = in.readLong();
+                partitions.put(writerId, WriterIndexPartition.readFrom(in));
+            }
+            return takenAt;
+        }
+    }
+
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    public long getSearchCount() {
+        return searchCount.sum();
+    }
+
+    @Override
+    public String statsName() {
+        return "Diary search index";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        if (!enabled) {
+            return Map.of();
+        }
+        long searches = searchCount.sum();
+        double avgMicros = searches == 0 ? 0.0 : (double) totalSearchNanos.sum() / searches / 1000;
+        long liveDocs = partitions.values().stream().mapToLong(WriterIndexPartition::liveDocCount).sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("writers", partitions.size());
+        stats.put("docs", liveDocs);
+        stats.put("appliedEvents", appliedEventCount.sum());
+        stats.put("searches", searches);
+        stats.put("avgSearchUs", String.format("%.1f", avgMicros));
+        stats.put("maxSearchUs", TimeUnit.NANOSECONDS.toMicros(maxSearchNanos.get()));
+        return stats;
+    }
+}
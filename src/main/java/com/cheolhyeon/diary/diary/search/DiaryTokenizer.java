@@ -0,0 +1,75 @@
+package com.cheolhyeon.diary.diary.search;
+
+import com.cheolhyeon.diary.diary.service.DiaryTagService;
+
+import java.util.*;
+
+/**
+ * MySQL ngram 파서와 같은 방식(글자/숫자 연속 구간의 2-gram)으로 제목/본문을 토큰화한다.
+ * 한 글자 단어는 그 글자 자체를 토큰으로 사용한다. 태그는 {@link #TAG_PREFIX} 를 붙여 본문 토큰과 구분한다.
+ */
+public abstract class DiaryTokenizer {
+    static final String TAG_PREFIX = "#";
+    private static final int GRAM_SIZE = 2;
+
+    private DiaryTokenizer() {
+        throw new AssertionError("No " + DiaryTokenizer.class.getSimpleName() + " instances");
+    }
+
+    public static Set<String> indexTerms(String title, String content, List<String> tags) {
+        Set<String> terms = new HashSet<>();
+        addGrams(title, terms);
+        addGrams(content, terms);
+        if (tags != null) {
+            for (String tag : tags) {
+                String normalized = DiaryTagService.normalizeTag(tag);
+                if (normalized != null) {
+                    terms.add(tagTerm(normalized));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어들의 gram 을 모두 모은다. 모든 gram 이 포함된 일기를 일치로 본다.
+     */
+    public static List<String> queryGrams(List<String> searchTerms) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String term : searchTerms) {
+            addGrams(term, grams);
+        }
+        return new ArrayList<>(grams);
+    }
+
+    static String tagTerm(String normalizedTag) {
+        return TAG_PREFIX + normalizedTag;
+    }
+
+    private static void addGrams(String text, Collection<String> out) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean inWord = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (inWord && wordStart < 0) {
+                wordStart = i;
+            } else if (!inWord && wordStart >= 0) {
+                addWordGrams(lower, wordStart, i, out);
+                wordStart = -1;
+            }
+        }
+    }
+
+    private static void addWordGrams(String text, int start, int end, Collection<String> out) {
+        if (end - start < GRAM_SIZE) {
+            out.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            out.add(text.substring(i, i + GRAM_SIZE));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.cheolhyeon.diary.diary.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 한 토큰을 포함한 문서 번호 목록. 문서 번호는 증가하는 순서로만 추가되므로 항상 정렬되어 있다.
+ */
+final class PostingList {
+    private int[] docs;
+    private int size;
+
+    PostingList() {
+        this(new int[4], 0);
+    }
+
+    private PostingList(int[] docs, int size) {
+        this.docs = docs;
+        this.size = size;
+    }
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] == doc) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        docs[size++] = doc;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(docs[i]);
+        }
+    }
+
+    // 압축 시 새 문서 번호로 바꾼다. newDocNo 가 -1 인 문서(삭제됨)는 뺀다
+    PostingList remap(int[] newDocNo) {
+        int[] remapped = new int[Math.max(size, 1)];
+        int remappedSize = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = newDocNo[docs[i]];
+            if (doc >= 0) {
+                remapped[remappedSize++] = doc;
+            }
+        }
+        return new PostingList(remapped, remappedSize);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(docs[i]);
+        }
+    }
+
+    static PostingList readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        int[] docs = new int[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            docs[i] = in.readInt();
+        }
+        return new PostingList(docs, size);
+    }
+}
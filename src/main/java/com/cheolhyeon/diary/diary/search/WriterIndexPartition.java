@@ -0,0 +1,225 @@
+package com.cheolhyeon.diary.diary.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성자 한 명의 역색인. 일기마다 증가하는 문서 번호를 부여하고 토큰 -> 문서 번호 목록으로 색인한다.
+ *
+ * <p>수정/삭제된 일기는 문서 번호를 삭제 표시(tombstone)만 하고, 삭제 표시가 절반을 넘으면 압축하여 번호를 다시 매긴다.
+ * 검색은 읽기 락, 변경은 쓰기 락으로 작성자 단위로만 직렬화한다.
+ */
+final class WriterIndexPartition {
+    // 문서 수가 이보다 적으면 압축하지 않는다
+    private static final int MIN_COMPACT_DOCS = 64;
+    private static final Comparator<byte[]> DIARY_ID_ORDER = Arrays::compareUnsigned;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // 문서 번호 -> diaryId
+    private byte[][] diaryIds = new byte[16][];
+    private int docCount;
+    private final Map<ByteBuffer, Integer> docNoByDiaryId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    void upsert(byte[] diaryId, Set<String> terms) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(diaryId);
+            int doc = docCount++;
+            if (doc == diaryIds.length) {
+                diaryIds = Arrays.copyOf(diaryIds, doc * 2);
+            }
+            diaryIds[doc] = diaryId;
+            docNoByDiaryId.put(ByteBuffer.wrap(diaryId), doc);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingList()).add(doc);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(byte[] diaryId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(diaryId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param grams  모두 포함해야 하는 gram (한 글자 gram 은 그 글자로 시작하는 토큰 중 하나)
+     * @param tagTerm 정확히 일치해야 하는 태그 토큰, 없으면 null
+     * @return cursor 보다 작은 diaryId 를 내림차순으로 최대 limit 건
+     */
+    List<byte[]> search(List<String> grams, String tagTerm, byte[] cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> required = new ArrayList<>(grams);
+            if (tagTerm != null) {
+                required.add(tagTerm);
+            }
+            BitSet candidates = null;
+            for (String term : required) {
+                BitSet matched = match(term);
+                if (candidates == null) {
+                    candidates = matched;
+                } else {
+                    candidates.and(matched);
+                }
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+            if (candidates == null) {
+                return List.of();
+            }
+            candidates.andNot(deleted);
+            return topByDiaryId(candidates, cursor, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int liveDocCount() {
+        lock.readLock().lock();
+        try {
+            return docNoByDiaryId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(docCount);
+            for (int doc = 0; doc < docCount; doc++) {
+                out.write(diaryIds[doc]);
+            }
+            long[] deletedWords = deleted.toLongArray();
+            out.writeInt(deletedWords.length);
+            for (long word : deletedWords) {
+                out.writeLong(word);
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static WriterIndexPartition readFrom(DataInput in) throws IOException {
+        WriterIndexPartition partition = new WriterIndexPartition();
+        int docCount = in.readInt();
+        partition.diaryIds = new byte[Math.max(docCount, 16)][];
+        partition.docCount = docCount;
+        for (int doc = 0; doc < docCount; doc++) {
+            byte[] diaryId = new byte[16];
+            in.readFully(diaryId);
+            partition.diaryIds[doc] = diaryId;
+        }
+        long[] deletedWords = new long[in.readInt()];
+        for (int i = 0; i < deletedWords.length; i++) {
+            deletedWords[i] = in.readLong();
+        }
+        partition.deleted.or(BitSet.valueOf(deletedWords));
+        for (int doc = 0; doc < docCount; doc++) {
+            if (!partition.deleted.get(doc)) {
+                partition.docNoByDiaryId.put(ByteBuffer.wrap(partition.diaryIds[doc]), doc);
+            }
+        }
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            partition.postings.put(in.readUTF(), PostingList.readFrom(in));
+        }
+        return partition;
+    }
+
+    private void removeLocked(byte[] diaryId) {
+        Integer doc = docNoByDiaryId.remove(ByteBuffer.wrap(diaryId));
+        if (doc != null) {
+            deleted.set(doc);
+        }
+    }
+
+    private BitSet match(String term) {
+        BitSet matched = new BitSet(docCount);
+        if (term.length() >= 2 || term.startsWith(DiaryTokenizer.TAG_PREFIX)) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.addTo(matched);
+            }
+            return matched;
+        }
+        // 한 글자 검색어는 그 글자로 시작하는 모든 토큰과 일치시킨다 (MySQL ngram 의 한 글자 검색과 같은 동작)
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            if (entry.getKey().startsWith(term)) {
+                entry.getValue().addTo(matched);
+            }
+        }
+        return matched;
+    }
+
+    // 수정된 일기는 새 문서 번호를 받으므로 문서 번호 순서와 diaryId 순서가 다를 수 있다 -> diaryId 로 상위 limit 건을 고른다
+    private List<byte[]> topByDiaryId(BitSet candidates, byte[] cursor, int limit) {
+        PriorityQueue<byte[]> top = new PriorityQueue<>(limit + 1, DIARY_ID_ORDER);
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            byte[] diaryId = diaryIds[doc];
+            if (Arrays.compareUnsigned(diaryId, cursor) >= 0) {
+                continue;
+            }
+            top.offer(diaryId);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<byte[]> result = new ArrayList<>(top);
+        result.sort(DIARY_ID_ORDER.reversed());
+        return result;
+    }
+
+    private void compactIfNeeded() {
+        int deletedCount = deleted.cardinality();
+        if (docCount < MIN_COMPACT_DOCS || deletedCount * 2 < docCount) {
+            return;
+        }
+        int[] newDocNo = new int[docCount];
+        byte[][] compacted = new byte[Math.max(docCount - deletedCount, 16)][];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                newDocNo[doc] = -1;
+            } else {
+                newDocNo[doc] = next;
+                compacted[next] = diaryIds[doc];
+                docNoByDiaryId.put(ByteBuffer.wrap(diaryIds[doc]), next);
+                next++;
+            }
+        }
+        Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PostingList> entry = iterator.next();
+            PostingList remapped = entry.getValue().remap(newDocNo);
+            if (remapped.size() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(remapped);
+            }
+        }
+        diaryIds = compacted;
+        docCount = next;
+        deleted.clear();
+    }
+}
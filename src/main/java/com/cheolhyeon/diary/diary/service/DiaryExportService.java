@@ -0,0 +1,171 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
+import com.cheolhyeon.diary.app.exception.diary.DiaryException;
+import com.cheolhyeon.diary.diary.dto.response.DiaryExportRecord;
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.enums.ExportFormat;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.f4b6a3.ulid.Ulid;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 작성자의 일기 전체를 NDJSON 또는 ZIP 으로 내보낸다.
+ * 일기는 diaryId keyset 페이지(EXPORT_PAGE_SIZE 건)로 읽고 바로 응답에 쓰므로, 일기 수와 관계없이 메모리 사용량이 일정하다.
+ * 페이지마다 짧은 트랜잭션으로 읽고 끝내며, S3 다운로드와 응답 쓰기는 트랜잭션 밖에서 한다
+ * -> 느린 클라이언트나 큰 내보내기가 DB 커넥션을 오래 잡지 않는다.
+ * 일기는 diaryId(ULID) 오름차순으로 기록되며, 중간에 끊기면 마지막으로 받은 diaryId 를 cursor 로 넘겨 이어받는다.
+ */
+@Slf4j
+@Service
+public class DiaryExportService {
+    // 한 번에 읽는 일기 수. 페이지마다 응답을 flush 하여 클라이언트가 진행 상황을 받을 수 있게 한다
+    private static final int EXPORT_PAGE_SIZE = 100;
+    // 첫 요청은 모든 ULID 보다 작은 값(0x00 * 16)부터 읽는다
+    private static final byte[] EXPORT_FIRST_CURSOR = new byte[16];
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final DiaryRepository diaryRepository;
+    private final S3Service s3Service;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    // 응답 스트림은 서블릿 컨테이너가 닫으므로 직렬화 후 닫지 않는다
+    private final ObjectWriter recordWriter;
+
+    public DiaryExportService(DiaryRepository diaryRepository,
+                              S3Service s3Service,
+                              EntityManager entityManager,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper) {
+        this.diaryRepository = diaryRepository;
+        this.s3Service = s3Service;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.recordWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * 커서와 형식은 응답을 쓰기 전에 검증하여 잘못된 요청은 400 으로 응답한다.
+     */
+    public StreamingResponseBody export(Long writerId, ExportFormat format, String cursor) {
+        byte[] cursorBytes = parseCursor(cursor);
+        if (format == ExportFormat.ZIP) {
+            return outputStream -> writeZip(writerId, cursorBytes, outputStream);
+        }
+        return outputStream -> writeNdjson(writerId, cursorBytes, outputStream);
+    }
+
+    private void writeNdjson(Long writerId, byte[] cursor, OutputStream outputStream) throws IOException {
+        streamDiaries(writerId, cursor, diary -> {
+            try {
+                recordWriter.writeValue(outputStream, DiaryExportRecord.from(diary));
+                outputStream.write(NEW_LINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, outputStream);
+    }
+
+    private void writeZip(Long writerId, byte[] cursor, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        // 이미지는 이미 압축된 형식이 대부분이므로 압축률보다 속도를 우선한다
+        zip.setLevel(Deflater.BEST_SPEED);
+        streamDiaries(writerId, cursor, diary -> {
+            try {
+                writeZipEntries(zip, diary);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, zip);
+        zip.finish();
+    }
+
+    private void writeZipEntries(ZipOutputStream zip, Diaries diary) throws IOException {
+        String diaryId = Ulid.from(diary.getDiaryId()).toString();
+        zip.putNextEntry(new ZipEntry("diaries/" + diaryId + ".json"));
+        recordWriter.writeValue(zip, DiaryExportRecord.from(diary));
+        zip.closeEntry();
+
+        List<String> imageKeys = diary.getImageKeysJson();
+        if (imageKeys == null) {
+            return;
+        }
+        for (String imageKey : imageKeys) {
+            InputStream image;
+            try {
+                image = s3Service.openImage(imageKey);
+            } catch (Exception e) {
+                // 이미 응답을 보내는 중이라 에러 응답으로 바꿀 수 없으므로 해당 이미지만 건너뛴다
+                log.warn("Skipping image in diary export - diaryId: {}, key: {}, error: {}", diaryId, imageKey, e.getMessage());
+                continue;
+            }
+            try (image) {
+                // S3 에서 받은 바이트를 그대로 ZIP 에 흘려보낸다 -> 이미지 전체를 메모리에 올리지 않는다
+                zip.putNextEntry(new ZipEntry("images/" + diaryId + "/" + StringUtils.getFilename(imageKey)));
+                image.transferTo(zip);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private void streamDiaries(Long writerId, byte[] cursor, Consumer<Diaries> writer, OutputStream outputStream) throws IOException {
+        long written = 0;
+        byte[] pageCursor = cursor;
+        try {
+            while (true) {
+                List<Diaries> page = readPage(writerId, pageCursor);
+                for (Diaries diary : page) {
+                    writer.accept(diary);
+                    written++;
+                }
+                outputStream.flush();
+                if (page.size() < EXPORT_PAGE_SIZE) {
+                    break;
+                }
+                pageCursor = page.get(page.size() - 1).getDiaryId();
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등 -> 원래 IOException 으로 되돌린다
+            throw e.getCause();
+        }
+        log.info("Diary export finished - writerId: {}, exported: {}", writerId, written);
+    }
+
+    private List<Diaries> readPage(Long writerId, byte[] cursor) {
+        List<Diaries> page = transactionTemplate.execute(status -> {
+            List<Diaries> diaries = diaryRepository.findExportPage(writerId, cursor, EXPORT_PAGE_SIZE);
+            // 트랜잭션 밖에서 쓰는 동안 영속성 컨텍스트에 남지 않도록 분리한다
+            diaries.forEach(entityManager::detach);
+            return diaries;
+        });
+        return page == null ? List.of() : page;
+    }
+
+    private byte[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return EXPORT_FIRST_CURSOR.clone();
+        }
+        if (!Ulid.isValid(cursor)) {
+            throw new DiaryException(DiaryErrorStatus.INVALID_CURSOR);
+        }
+        return Ulid.from(cursor).toBytes();
+    }
+}
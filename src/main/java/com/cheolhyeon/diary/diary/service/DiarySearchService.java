@@ -0,0 +1,110 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
+import com.cheolhyeon.diary.app.exception.diary.DiaryException;
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import com.cheolhyeon.diary.diary.search.DiaryInvertedIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 작성자 본인의 일기를 검색어(제목/본문 FULLTEXT)와 태그(정확 일치)로 찾는다.
+ * 결과는 diaryId 내림차순이며 cursor 보다 작은 diaryId 만 반환한다.
+ *
+ * <p>diary.search.engine=memory 이고 색인이 준비되었으면 {@link DiaryInvertedIndex} 로 찾고,
+ * DB 에서는 찾은 diaryId 의 행만 PK 로 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DiarySearchService {
+    // 너무 많은 검색어는 boolean 검색 비용만 키우므로 앞에서부터 이만큼만 사용한다
+    private static final int MAX_SEARCH_TERMS = 10;
+    // boolean mode 연산자로 해석되는 문자는 검색어에서 제거한다
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryInvertedIndex diaryInvertedIndex;
+
+    public List<Diaries> search(Long writerId, String keyword, String tag, byte[] cursor, int limit) {
+        List<String> terms = extractTerms(keyword);
+        String normalizedTag = DiaryTagService.normalizeTag(tag);
+        if (terms.isEmpty() && normalizedTag == null) {
+            throw new DiaryException(DiaryErrorStatus.INVALID_SEARCH_QUERY);
+        }
+        if (diaryInvertedIndex.isReady()) {
+            return searchInMemory(writerId, terms, normalizedTag, cursor, limit);
+        }
+        if (terms.isEmpty()) {
+            return diaryRepository.searchByTag(writerId, normalizedTag, cursor, limit);
+        }
+        String booleanQuery = toBooleanQuery(terms);
+        if (normalizedTag == null) {
+            return diaryRepository.searchByKeyword(writerId, booleanQuery, cursor, limit);
+        }
+        return diaryRepository.searchByKeywordAndTag(writerId, booleanQuery, normalizedTag, cursor, limit);
+    }
+
+    private List<Diaries> searchInMemory(Long writerId, List<String> terms, String tag, byte[] cursor, int limit) {
+        List<byte[]> diaryIds = diaryInvertedIndex.search(writerId, terms, tag, cursor, limit);
+        if (diaryIds.isEmpty()) {
+            return List.of();
+        }
+        Map<ByteBuffer, Diaries> rows = new HashMap<>();
+        for (Diaries diary : diaryRepository.findAllById(diaryIds)) {
+            rows.put(ByteBuffer.wrap(diary.getDiaryId()), diary);
+        }
+        // 색인 순서(diaryId 내림차순)를 유지하고, 색인 반영 전 삭제된 일기는 뺀다
+        List<Diaries> result = new ArrayList<>(diaryIds.size());
+        for (byte[] diaryId : diaryIds) {
+            Diaries diary = rows.get(ByteBuffer.wrap(diaryId));
+            if (diary != null && diary.getDeletedAt() == null && writerId.equals(diary.getWriterId())) {
+                result.add(diary);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 공백으로 나눈 각 단어를 필수(+) 구문("...")으로 묶는다 -> 모든 단어가 포함된 일기만 찾는다.
+     * ngram 파서에서 구문 검색은 연속된 ngram 일치로 처리되어 한국어 단어의 부분 일치가 된다.
+     *
+     * @return 유효한 단어가 없으면 null
+     */
+    static String toBooleanQuery(String keyword) {
+        List<String> terms = extractTerms(keyword);
+        return terms.isEmpty() ? null : toBooleanQuery(terms);
+    }
+
+    private static String toBooleanQuery(List<String> terms) {
+        StringJoiner query = new StringJoiner(" ");
+        for (String term : terms) {
+            query.add("+\"" + term + "\"");
+        }
+        return query.toString();
+    }
+
+    // boolean mode 연산자를 제거한 검색어를 최대 MAX_SEARCH_TERMS 개까지 반환한다
+    private static List<String> extractTerms(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : WHITESPACE.split(keyword.strip())) {
+            String cleaned = BOOLEAN_OPERATORS.matcher(term).replaceAll("");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            terms.add(cleaned);
+            if (terms.size() == MAX_SEARCH_TERMS) {
+                break;
+            }
+        }
+        return terms;
+    }
+}
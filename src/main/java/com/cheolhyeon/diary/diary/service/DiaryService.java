@@ -1,38 +1,59 @@
 package com.cheolhyeon.diary.diary.service;
 
+import com.cheolhyeon.diary.app.event.diary.DiaryIndexEvent;
 import com.cheolhyeon.diary.app.event.s3.S3RollbackCleanup;
 import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
 import com.cheolhyeon.diary.app.exception.diary.DiaryException;
 import com.cheolhyeon.diary.app.exception.session.UserErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.UserException;
+import com.cheolhyeon.diary.app.properties.PaginationProperties;
 import com.cheolhyeon.diary.app.util.UlidGenerator;
 import com.cheolhyeon.diary.auth.entity.User;
 import com.cheolhyeon.diary.auth.repository.UserRepository;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryCreateRequest;
+import com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryUpdateRequest;
 import com.cheolhyeon.diary.diary.dto.response.*;
 import com.cheolhyeon.diary.diary.entity.Diaries;
 import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import com.github.f4b6a3.ulid.Ulid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DiaryService {
+    // 첫 페이지는 모든 ULID 보다 큰 값(0xFF * 16)을 커서로 사용한다
+    private static final byte[] TIMELINE_FIRST_CURSOR = createTimelineFirstCursor();
+    // 캘린더 화면에서 보여줄 본문 미리보기 길이
+    private static final int CALENDAR_CONTENT_PREVIEW_LENGTH = 100;
+
     private final ApplicationEventPublisher eventPublisher;
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final PaginationProperties paginationProperties;
+    private final DiaryTagService diaryTagService;
+    private final DiarySearchService diarySearchService;
+    private final ImageVariantService imageVariantService;
 
-    @Transactional
+    // S3 업로드 동안 DB 커넥션을 점유하지 않도록 업로드가 끝난 뒤에 트랜잭션을 연다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DiaryCreateResponse createDiary(Long userId, DiaryCreateRequest request, List<MultipartFile> images) {
         User writer = userRepository.findById(userId)
                 .orElseThrow(() -> new UserException(UserErrorStatus.NOT_FOUND));
@@ -43,12 +64,27 @@ public class DiaryService {
         int day = currentDateTime.getDayOfMonth();
         byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
         List<String> keys = s3Service.upload(writer.getUserId(), diaryId, images, year, month, day);
+        // 업로드가 잡은 참조는 트랜잭션에 넘기기 전에 실패하면 여기서, 넘긴 뒤에는 S3RollbackCleanup 이 되돌린다
+        AtomicBoolean handedOver = new AtomicBoolean();
+        try {
+            Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(keys, images);
 
-        eventPublisher.publishEvent(new S3RollbackCleanup(keys));
-
-        Diaries entity = DiaryCreateRequest.toEntity(diaryId, userId, writer.getDisplayName(), keys, request);
-        Diaries savedEntity = diaryRepository.save(entity);
-        return DiaryCreateResponse.toResponse(savedEntity);
+            Diaries entity = DiaryCreateRequest.toEntity(diaryId, userId, writer.getDisplayName(), keys, variants, request);
+            Diaries savedEntity = transactionTemplate.execute(status -> {
+                eventPublisher.publishEvent(new S3RollbackCleanup(keys));
+                handedOver.set(true);
+                Diaries saved = diaryRepository.save(entity);
+                diaryTagService.syncTags(userId, diaryId, request.getTags());
+                eventPublisher.publishEvent(DiaryIndexEvent.upsert(saved));
+                return saved;
+            });
+            return DiaryCreateResponse.toResponse(savedEntity);
+        } catch (RuntimeException | Error e) {
+            if (!handedOver.get()) {
+                compensateUploads(keys);
+            }
+            throw e;
+        }
     }
 
     @Transactional
@@ -56,36 +92,26 @@ public class DiaryService {
         Diaries targetEntity = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new DiaryException(DiaryErrorStatus.NOT_FOUND));
         targetEntity.update(request);
+        diaryTagService.syncTags(targetEntity.getWriterId(), diaryId, request.getTags());
+        eventPublisher.publishEvent(DiaryIndexEvent.upsert(targetEntity));
         return DiaryUpdateResponse.toResponse(targetEntity);
     }
 
-    @Transactional
+    // 업로드 스레드가 참조 수를 기록하며 각자 커넥션을 사용하므로, 업로드 동안에는 트랜잭션(커넥션)을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateImages(byte[] diaryId, List<String> deleteImageKeysJson, List<MultipartFile> newImages) {
-        Diaries targetEntity = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new DiaryException(DiaryErrorStatus.NOT_FOUND));
-        // 현재 이미지의 키값들을 끌고온다
-        List<String> currentImageKeysJson =
-                Optional.ofNullable(targetEntity.getImageKeysJson())
-                        .orElseGet(List::of);
         // 삭제할 이미지들을 끌고온다
         Set<String> toDelete = new LinkedHashSet<>(Optional.ofNullable(deleteImageKeysJson).orElseGet(List::of));
-        // 삭제할 이미지들은 바로 지워준다
-        if (!toDelete.isEmpty()) {
-            for (String keyToDelete : toDelete) {
-                s3Service.delete(keyToDelete);
-            }
-        }
-        // 삭제할 이미지들은 S3에서 지웠고, 실제로 남은것들을 끌고 와준다.
-        List<String> remaining = currentImageKeysJson.stream()
-                .filter(k -> !toDelete.contains(k))
-                .toList();
 
-        // 5) 신규 업로드
+        // 신규 업로드를 먼저 한다 -> 같은 이미지를 지우고 다시 올려도 객체가 해제되지 않고 재사용된다
+        boolean hasNewImages = newImages != null && !newImages.isEmpty();
         List<String> uploadedKeys = Collections.emptyList();
-        if (newImages != null && !newImages.isEmpty()) {
-            LocalDateTime createdAt = targetEntity.getCreatedAt();
+        if (hasNewImages) {
+            Diaries diary = diaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new DiaryException(DiaryErrorStatus.NOT_FOUND));
+            LocalDateTime createdAt = diary.getCreatedAt();
             uploadedKeys = s3Service.upload(
-                    targetEntity.getWriterId(),
+                    diary.getWriterId(),
                     diaryId,
                     newImages,
                     createdAt.getYear(),
@@ -93,11 +119,70 @@ public class DiaryService {
                     createdAt.getDayOfMonth()
             );
         }
-        // 6) 최종 키 배열 = remaining + uploaded
-        List<String> finalKeys = new ArrayList<>(remaining);
-        finalKeys.addAll(uploadedKeys);
 
-        targetEntity.updateImageKeysJson(finalKeys);
+        List<String> addedKeys = uploadedKeys;
+        // 업로드가 잡은 참조는 트랜잭션에 넘기기 전에 실패하면 여기서, 넘긴 뒤에는 S3RollbackCleanup 이 되돌린다
+        AtomicBoolean handedOver = new AtomicBoolean();
+        try {
+            // 재사용한 이미지 중 변형이 이미 있는 것은 ImageVariantService 가 다시 만들지 않는다
+            Map<String, ImageVariantKeys> addedVariants = hasNewImages
+                    ? imageVariantService.createVariants(addedKeys, newImages)
+                    : Collections.emptyMap();
+            replaceImages(diaryId, toDelete, addedKeys, addedVariants, handedOver);
+        } catch (RuntimeException | Error e) {
+            if (!handedOver.get()) {
+                compensateUploads(addedKeys);
+            }
+            throw e;
+        }
+    }
+
+    private void replaceImages(byte[] diaryId, Set<String> toDelete, List<String> addedKeys,
+                               Map<String, ImageVariantKeys> addedVariants, AtomicBoolean handedOver) {
+        transactionTemplate.execute(status -> {
+            // 업로드로 잡은 참조는 이 트랜잭션이 롤백되면 되돌린다
+            if (!addedKeys.isEmpty()) {
+                eventPublisher.publishEvent(new S3RollbackCleanup(addedKeys));
+            }
+            handedOver.set(true);
+            // 업로드 동안 바뀌었을 수 있으므로 트랜잭션 안에서 다시 읽는다
+            Diaries targetEntity = diaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new DiaryException(DiaryErrorStatus.NOT_FOUND));
+            // 현재 이미지의 키값들을 끌고온다
+            List<String> currentImageKeysJson =
+                    Optional.ofNullable(targetEntity.getImageKeysJson())
+                            .orElseGet(List::of);
+
+            // 이 일기의 이미지만 참조를 내린다 (같은 키가 여러 번 있으면 그만큼 내린다)
+            List<String> released = currentImageKeysJson.stream()
+                    .filter(toDelete::contains)
+                    .toList();
+            if (!released.isEmpty()) {
+                s3Service.release(released);
+            }
+            List<String> remaining = currentImageKeysJson.stream()
+                    .filter(k -> !toDelete.contains(k))
+                    .toList();
+
+            // 최종 키 배열 = remaining + uploaded
+            List<String> finalKeys = new ArrayList<>(remaining);
+            finalKeys.addAll(addedKeys);
+
+            targetEntity.updateImageKeysJson(finalKeys, addedVariants);
+            return null;
+        });
+    }
+
+    // 트랜잭션을 열기 전에 실패하면 롤백 이벤트가 없으므로 업로드로 잡은 참조를 직접 되돌린다
+    private void compensateUploads(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            s3Service.compensate(keys);
+        } catch (Exception e) {
+            log.warn("Failed to compensate uploaded images {}: {}", keys, e.getMessage(), e);
+        }
     }
 
     public List<DiaryResponseByYearAndMonth> readDiariesByYearAndMonth(Long userId, int year, int month) {
@@ -105,11 +190,11 @@ public class DiaryService {
         LocalDateTime startMonth = searchDate.atStartOfDay();
         LocalDateTime endMonth = startMonth.plusMonths(1);
 
-        List<Diaries> targetEntities = diaryRepository.findAllByYearAndMonth(userId, startMonth, endMonth);
-        List<String> thumbnailImageKeys =
-                s3Service.getThumbnailImageKey(userId, year, month, targetEntities);
-        List<String> thumbnailImage = s3Service.createImageUrl(thumbnailImageKeys);
-        return DiaryResponseByYearAndMonth.toResponse(targetEntities, thumbnailImage);
+        List<DiaryCalendarRow> calendarRows = diaryRepository.findCalendarByYearAndMonth(
+                userId, startMonth, endMonth, CALENDAR_CONTENT_PREVIEW_LENGTH);
+        Map<String, String> thumbnailUrls = signThumbnailKeys(calendarRows.stream()
+                .map(DiaryCalendarRow::getThumbnailImageKey));
+        return DiaryResponseByYearAndMonth.toResponse(calendarRows, thumbnailUrls);
     }
 
     public List<DiaryResponseByMonthAndDay> readDiariesByMonthAndDay(Long userId, int year, int month, int day) {
@@ -119,9 +204,27 @@ public class DiaryService {
 
         List<Diaries> targetEntities = diaryRepository.findByMonthAndDay(
                 userId, startDay, endDay);
-        List<String> thumbnailImageKeys = s3Service.getThumbnailImageKey(userId, year, month, day, targetEntities);
-        List<String> thumbnailImage = s3Service.createImageUrl(thumbnailImageKeys);
-        return DiaryResponseByMonthAndDay.toResponse(targetEntities, thumbnailImage);
+        Map<String, String> thumbnailUrls = createThumbnailUrls(targetEntities);
+        return DiaryResponseByMonthAndDay.toResponse(targetEntities, thumbnailUrls);
+    }
+
+    public DiarySliceResponse readTimeline(Long userId, String cursor, Integer size) {
+        int pageSize = paginationProperties.resolveSize(size);
+        byte[] cursorBytes = parseCursor(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다
+        List<Diaries> fetched = diaryRepository.findTimeline(userId, cursorBytes, pageSize + 1);
+        List<Diaries> page = fetched.size() > pageSize ? fetched.subList(0, pageSize) : fetched;
+        Map<String, String> thumbnailUrls = createThumbnailUrls(page);
+        return DiarySliceResponse.toResponse(fetched, pageSize, thumbnailUrls);
+    }
+
+    public DiarySliceResponse searchDiaries(Long userId, String keyword, String tag, String cursor, Integer size) {
+        int pageSize = paginationProperties.resolveSize(size);
+        byte[] cursorBytes = parseCursor(cursor);
+        List<Diaries> fetched = diarySearchService.search(userId, keyword, tag, cursorBytes, pageSize + 1);
+        List<Diaries> page = fetched.size() > pageSize ? fetched.subList(0, pageSize) : fetched;
+        Map<String, String> thumbnailUrls = createThumbnailUrls(page);
+        return DiarySliceResponse.toResponse(fetched, pageSize, thumbnailUrls);
     }
 
     public DiaryResponseById readDiaryById(byte[] diaryId) {
@@ -132,7 +235,12 @@ public class DiaryService {
         }
         List<String> imageKeysJson = targetEntity.getImageKeysJson();
         List<String> imageUrls = s3Service.createImageUrl(imageKeysJson);
-        return DiaryResponseById.toResponse(targetEntity, imageKeysJson, imageUrls);
+        // 변형 이미지가 없는 일기는 원본 URL 을 그대로 사용한다
+        List<String> mediumImageKeys = targetEntity.mediumImageKeys();
+        List<String> mediumImageUrls = Objects.equals(mediumImageKeys, imageKeysJson)
+                ? imageUrls
+                : s3Service.createImageUrl(mediumImageKeys);
+        return DiaryResponseById.toResponse(targetEntity, imageKeysJson, imageUrls, mediumImageUrls);
     }
 
     @Transactional
@@ -143,5 +251,46 @@ public class DiaryService {
             throw new DiaryException(DiaryErrorStatus.ALREADY_DELETE);
         }
         targetEntity.softDeletedAt();
+        diaryTagService.removeTags(diaryPk);
+        eventPublisher.publishEvent(DiaryIndexEvent.delete(targetEntity));
+    }
+
+    private byte[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return TIMELINE_FIRST_CURSOR.clone();
+        }
+        if (!Ulid.isValid(cursor)) {
+            throw new DiaryException(DiaryErrorStatus.INVALID_CURSOR);
+        }
+        return Ulid.from(cursor).toBytes();
+    }
+
+    private static byte[] createTimelineFirstCursor() {
+        byte[] cursor = new byte[16];
+        Arrays.fill(cursor, (byte) 0xFF);
+        return cursor;
+    }
+
+    // 썸네일 키는 DB에 저장되어 있으므로 S3 조회 없이 서명만 수행한다
+    private Map<String, String> createThumbnailUrls(List<Diaries> diaries) {
+        return signThumbnailKeys(diaries.stream()
+                .filter(diary -> diary.getDeletedAt() == null)
+                .map(Diaries::getThumbnailImageKey));
+    }
+
+    private Map<String, String> signThumbnailKeys(Stream<String> thumbnailImageKeyStream) {
+        List<String> thumbnailImageKeys = thumbnailImageKeyStream
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (thumbnailImageKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> thumbnailImageUrls = s3Service.createImageUrl(thumbnailImageKeys);
+        Map<String, String> thumbnailUrls = new HashMap<>();
+        for (int i = 0; i < thumbnailImageKeys.size(); i++) {
+            thumbnailUrls.put(thumbnailImageKeys.get(i), thumbnailImageUrls.get(i));
+        }
+        return thumbnailUrls;
     }
 }
@@ -0,0 +1,93 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.properties.PaginationProperties;
+import com.cheolhyeon.diary.diary.dto.response.TagCountResponse;
+import com.cheolhyeon.diary.diary.repository.DiaryTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * diaries.tags_json 을 diary_tag 테이블에 반영한다. 바뀐 태그만 삭제/추가하여 수정 시 쓰기를 최소화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DiaryTagService {
+    // diary_tag.tag 컬럼 길이
+    private static final int MAX_TAG_LENGTH = 50;
+
+    private final DiaryTagRepository diaryTagRepository;
+    private final PaginationProperties paginationProperties;
+
+    @Transactional
+    public void syncTags(Long writerId, byte[] diaryId, List<String> tags) {
+        Set<String> normalized = normalizeTags(tags);
+        Set<String> existing = new HashSet<>(diaryTagRepository.findTagsByDiaryId(diaryId));
+
+        List<String> removed = existing.stream()
+                .filter(tag -> !normalized.contains(tag))
+                .toList();
+        if (!removed.isEmpty()) {
+            diaryTagRepository.deleteByDiaryIdAndTagIn(diaryId, removed);
+        }
+        for (String tag : normalized) {
+            if (!existing.contains(tag)) {
+                diaryTagRepository.insertIgnore(writerId, tag, diaryId);
+            }
+        }
+    }
+
+    // 삭제된 일기가 태그 목록/집계에 남지 않도록 함께 지운다
+    @Transactional
+    public void removeTags(byte[] diaryId) {
+        diaryTagRepository.deleteByDiaryId(diaryId);
+    }
+
+    /**
+     * 작성자가 가장 많이 사용한 태그를 사용 횟수 내림차순으로 최대 limit 개 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public List<TagCountResponse> readTopTags(Long writerId, Integer limit) {
+        int resolvedLimit = paginationProperties.resolveSize(limit);
+        return diaryTagRepository.findTopTags(writerId, PageRequest.of(0, resolvedLimit)).stream()
+                .map(TagCountResponse::toResponse)
+                .toList();
+    }
+
+    /**
+     * 앞뒤 공백과 '#' 을 제거하고 소문자로 맞춘다. 저장과 검색에 같은 규칙을 적용해야 정확 일치가 된다.
+     *
+     * @return 정규화 결과가 비어 있으면 null
+     */
+    public static String normalizeTag(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String normalized = tag.strip();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1).strip();
+        }
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        normalized = normalized.toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_TAG_LENGTH ? normalized.substring(0, MAX_TAG_LENGTH) : normalized;
+    }
+
+    private static Set<String> normalizeTags(List<String> tags) {
+        if (tags == null) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            String value = normalizeTag(tag);
+            if (value != null) {
+                normalized.add(value);
+            }
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,108 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.diary.enums.ImageVariant;
+import com.cheolhyeon.diary.diary.repository.ImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * image_object 참조 수 관리. S3 객체 자체는 다루지 않고, 참조가 0 이 된 키를 같은 트랜잭션에서
+ * {@link S3DeletionOutboxService} 에 기록한다 -> 참조 변경이 커밋될 때만 지워진다.
+ *
+ * <p>참조 획득(acquire/register)은 업로드 스레드에서 호출되며 호출한 쪽 트랜잭션과 무관하게 바로 커밋한다.
+ * 일기 저장이 실패하면 {@link #compensate} 로 되돌린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageObjectService {
+    private final ImageObjectRepository imageObjectRepository;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+
+    /**
+     * 같은 작성자가 이미 올린 이미지면 참조 수를 올리고 기존 키를 반환한다.
+     *
+     * @return 처음 올리는 이미지면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String acquireExisting(Long writerId, byte[] contentHash) {
+        if (imageObjectRepository.incrementRefCount(writerId, contentHash) == 0) {
+            return null;
+        }
+        return imageObjectRepository.findS3Key(writerId, contentHash).orElse(null);
+    }
+
+    /**
+     * 새로 올린 객체를 등록한다.
+     *
+     * @return 등록된 키. 같은 이미지가 동시에 먼저 등록되었으면 그 키이며, 이때 s3Key 객체는 호출한 쪽에서 지워야 한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String register(Long writerId, byte[] contentHash, String s3Key) {
+        imageObjectRepository.insertOrIncrement(writerId, contentHash, s3Key);
+        return imageObjectRepository.findS3Key(writerId, contentHash).orElse(s3Key);
+    }
+
+    // 변형 이미지를 이미 올린 키 -> 같은 이미지를 다시 올려도 변형을 다시 만들지 않는다
+    @Transactional(readOnly = true)
+    public Set<String> findKeysWithVariants(Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(imageObjectRepository.findS3KeysWithVariants(s3Keys));
+    }
+
+    // 참조 정보가 없는(테이블 도입 이전) 키는 갱신되지 않는다
+    @Transactional
+    public void markVariantsReady(Collection<String> s3Keys) {
+        imageObjectRepository.markVariantsReady(s3Keys);
+    }
+
+    /**
+     * 키마다 참조를 하나씩 내린다 (같은 키가 여러 번 있으면 그만큼 내린다). 호출한 트랜잭션에 참여한다.
+     * 참조가 0 이 되었거나 참조 정보가 없는(테이블 도입 이전) 키는 변형 이미지와 함께 삭제 대기열에 넣는다.
+     */
+    @Transactional
+    public void release(List<String> s3Keys) {
+        s3DeletionOutboxService.enqueue(withVariantKeys(releaseAll(s3Keys)));
+    }
+
+    // 이미 끝난 트랜잭션(롤백 이후 등)에서 참조를 되돌릴 때 사용한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void compensate(List<String> s3Keys) {
+        s3DeletionOutboxService.enqueue(withVariantKeys(releaseAll(s3Keys)));
+    }
+
+    // 변형 이미지는 원본 키에서 파생되므로 원본과 함께 지운다
+    private static List<String> withVariantKeys(List<String> s3Keys) {
+        List<String> keys = new ArrayList<>(s3Keys.size() * (ImageVariant.values().length + 1));
+        for (String s3Key : s3Keys) {
+            keys.add(s3Key);
+            for (ImageVariant variant : ImageVariant.values()) {
+                keys.add(variant.keyOf(s3Key));
+            }
+        }
+        return keys;
+    }
+
+    private List<String> releaseAll(List<String> s3Keys) {
+        List<String> unreferenced = new ArrayList<>();
+        for (String s3Key : s3Keys) {
+            if (imageObjectRepository.decrementRefCount(s3Key) == 0) {
+                unreferenced.add(s3Key);
+                continue;
+            }
+            if (imageObjectRepository.deleteIfUnreferenced(s3Key) > 0) {
+                unreferenced.add(s3Key);
+            }
+        }
+        return unreferenced;
+    }
+}
@@ -0,0 +1,346 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.diary.dto.response.ImageVariantKeys;
+import com.cheolhyeon.diary.diary.enums.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드된 원본 이미지마다 썸네일/중간 크기 JPEG 를 만들어 원본 키에서 파생된 키로 S3 에 올린다.
+ *
+ * <p>원본은 한 번만 디코딩한다. 헤더에서 크기를 먼저 읽고 중간 크기에 필요한 만큼만 subsampling 하여 읽으므로
+ * 원본 해상도의 픽셀 배열을 힙에 올리지 않는다. 썸네일은 중간 크기 이미지를 다시 줄여 만든다.
+ * JPEG 의 EXIF Orientation 을 읽어 변형은 보이는 방향대로 회전/반전해 저장한다 (변형 JPEG 에는 EXIF 를 쓰지 않는다).
+ * 디코딩할 수 없는 형식이거나 생성에 실패한 이미지, 디코딩 풀이 가득 찬 동안 올라온 이미지는 변형 없이 원본만 사용한다.
+ * 변형 키는 원본 키에서 파생되므로 원본 객체가 해제될 때 {@link S3Service} 가 함께 지운다.
+ * 중복 제거로 재사용한 이미지처럼 image_object 에 변형이 기록된 원본은 디코딩/업로드 없이 키만 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService implements StatsSource {
+    // 이보다 큰 원본은 subsampling 하더라도 디코딩 시간이 과도하므로 변형을 만들지 않는다
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    private static final int ORIENTATION_NORMAL = 1;
+
+    private final S3Service s3Service;
+    private final ImageObjectService imageObjectService;
+    @Qualifier("imageVariantExecutor")
+    private final Executor imageVariantExecutor;
+
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder reusedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder saturatedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+
+    /**
+     * @param keys images 와 같은 순서의 원본 키
+     * @return 원본 키 -> 변형 키 (변형을 만들지 못한 이미지는 포함하지 않는다)
+     */
+    public Map<String, ImageVariantKeys> createVariants(List<String> keys, List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Set<String> ready = imageObjectService.findKeysWithVariants(keys);
+        Map<String, ImageVariantKeys> variants = new LinkedHashMap<>();
+        Map<String, CompletableFuture<ImageVariantKeys>> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < images.size(); i++) {
+            String key = keys.get(i);
+            // 같은 이미지를 한 번에 여러 장 올리면 같은 키가 반복된다
+            if (variants.containsKey(key) || tasks.containsKey(key)) {
+                continue;
+            }
+            if (ready.contains(key)) {
+                reusedCount.increment();
+                variants.put(key, ImageVariantKeys.derivedFrom(key));
+                continue;
+            }
+            MultipartFile image = images.get(i);
+            try {
+                tasks.put(key, CompletableFuture.supplyAsync(() -> createVariant(key, image), imageVariantExecutor));
+            } catch (RejectedExecutionException e) {
+                // 디코딩 풀이 가득 차면 기다리지 않고 원본만 사용한다 -> 힙에 올라가는 디코딩 이미지 수는 풀 크기를 넘지 않는다
+                saturatedCount.increment();
+            }
+        }
+        List<String> created = new ArrayList<>(tasks.size());
+        for (Map.Entry<String, CompletableFuture<ImageVariantKeys>> task : tasks.entrySet()) {
+            // createVariant 는 실패 시 null 을 반환하므로 join 에서 예외가 나지 않는다
+            ImageVariantKeys variant = task.getValue().join();
+            if (variant != null) {
+                variants.put(task.getKey(), variant);
+                created.add(task.getKey());
+            }
+        }
+        markVariantsReady(created);
+        return variants;
+    }
+
+    // 기록에 실패해도 변형은 이미 올라갔으므로 요청은 실패시키지 않는다 (다음 재사용 때 다시 만들 뿐이다)
+    private void markVariantsReady(List<String> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        try {
+            imageObjectService.markVariantsReady(created);
+        } catch (Exception e) {
+            log.warn("Failed to record image variants for {}: {}", created, e.getMessage());
+        }
+    }
+
+    private ImageVariantKeys createVariant(String originalKey, MultipartFile image) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            DecodedImage decoded;
+            try (InputStream inputStream = image.getInputStream()) {
+                decoded = decode(inputStream, ImageVariant.MEDIUM.getMaxDimension());
+            }
+            if (decoded == null) {
+                skippedCount.increment();
+                return null;
+            }
+            // 회전은 줄인 뒤에 한다 -> 디코딩한 이미지 크기의 사본을 하나 더 만들지 않는다
+            BufferedImage medium = orient(resize(decoded.image(), ImageVariant.MEDIUM.getMaxDimension()), decoded.orientation());
+            String mediumKey = ImageVariant.MEDIUM.keyOf(originalKey);
+            s3Service.uploadVariant(mediumKey, encodeJpeg(medium));
+
+            BufferedImage thumbnail = resize(medium, ImageVariant.THUMBNAIL.getMaxDimension());
+            String thumbnailKey = ImageVariant.THUMBNAIL.keyOf(originalKey);
+            s3Service.uploadVariant(thumbnailKey, encodeJpeg(thumbnail));
+
+            createdCount.increment();
+            return new ImageVariantKeys(thumbnailKey, mediumKey);
+        } catch (Exception e) {
+            failedCount.increment();
+            // 먼저 올라간 변형은 지우지 않는다 -> 같은 원본을 공유하는 다른 일기가 쓰고 있을 수 있고,
+            // 파생 키이므로 원본이 해제될 때 함께 지워진다
+            log.warn("Failed to create image variants for {}: {}", originalKey, e.getMessage());
+            return null;
+        } finally {
+            totalMillis.add(System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension 이상으로 남는 가장 큰 간격으로 subsampling 하여 디코딩한다.
+     *
+     * @return ImageIO 로 읽을 수 없는 형식이면 null
+     */
+    static DecodedImage decode(InputStream source, int maxDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                // EXIF Orientation 을 읽기 위해 메타데이터를 무시하지 않는다
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Image too large: " + width + "x" + height);
+                }
+                int step = Math.max(1, Math.max(width, height) / maxDimension);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return new DecodedImage(image, readOrientation(reader));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG 의 APP1(Exif) 세그먼트에서 Orientation 을 읽는다. 없거나 읽을 수 없으면 그대로(1) 둔다
+    private static int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return ORIENTATION_NORMAL;
+            }
+            Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+            for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (!"markerSequence".equals(child.getNodeName())) {
+                    continue;
+                }
+                // JPEG 플러그인이 해석하지 않는 APPn 세그먼트는 unknown 노드에 원본 바이트로 남는다
+                for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                    if ("unknown".equals(marker.getNodeName()) && isApp1(marker)
+                            && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] data) {
+                        int orientation = exifOrientation(data);
+                        if (orientation != ORIENTATION_NORMAL) {
+                            return orientation;
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Ignoring unreadable image metadata: {}", e.getMessage());
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    private static boolean isApp1(Node marker) {
+        Node tag = marker.getAttributes().getNamedItem("MarkerTag");
+        return tag != null && Integer.parseInt(tag.getNodeValue()) == APP1_MARKER;
+    }
+
+    /**
+     * "Exif\0\0" 다음의 TIFF 헤더와 IFD0 에서 Orientation(0x0112) 값을 찾는다.
+     *
+     * @return 1~8, 없거나 형식이 맞지 않으면 1
+     */
+    static int exifOrientation(byte[] app1) {
+        try {
+            if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+                return ORIENTATION_NORMAL;
+            }
+            int tiff = 6;
+            ByteBuffer buffer = ByteBuffer.wrap(app1)
+                    .order(app1[tiff] == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifd = tiff + buffer.getInt(tiff + 4);
+            int entries = buffer.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((buffer.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                    int orientation = buffer.getShort(entry + 8) & 0xFFFF;
+                    return orientation >= 1 && orientation <= 8 ? orientation : ORIENTATION_NORMAL;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF 는 무시한다
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    // EXIF Orientation 대로 회전/반전한다. 5~8 은 가로/세로가 바뀐다
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation == ORIENTATION_NORMAL) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+        boolean swapped = orientation >= 5;
+        BufferedImage target = new BufferedImage(swapped ? height : width, swapped ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 긴 변을 maxDimension 으로 줄인다 (확대하지 않음)
+    static BufferedImage resize(BufferedImage source, int maxDimension) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            // JPEG 는 투명도를 지원하지 않으므로 흰 배경 위에 그린다
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String statsName() {
+        return "Image variants";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        long created = createdCount.sum();
+        long failed = failedCount.sum();
+        long processed = created + failed + skippedCount.sum();
+        double avgMillis = processed == 0 ? 0.0 : (double) totalMillis.sum() / processed;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("created", created);
+        stats.put("reused", reusedCount.sum());
+        stats.put("skipped", skippedCount.sum());
+        stats.put("saturated", saturatedCount.sum());
+        stats.put("failed", failed);
+        stats.put("avgMs", String.format("%.1f", avgMillis));
+        return stats;
+    }
+
+    // orientation 은 EXIF Orientation 값 (1 이면 그대로)
+    record DecodedImage(BufferedImage image, int orientation) {
+    }
+}
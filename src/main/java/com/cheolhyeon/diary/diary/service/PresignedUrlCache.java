@@ -0,0 +1,54 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.cache.ExpiringLruCache;
+import com.cheolhyeon.diary.app.properties.PresignedUrlProperties;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class PresignedUrlCache implements StatsSource {
+    private final PresignedUrlProperties properties;
+    private final ExpiringLruCache<String, String> cache;
+
+    public PresignedUrlCache(PresignedUrlProperties properties) {
+        this.properties = properties;
+        this.cache = new ExpiringLruCache<>(properties.getCacheMaxSize());
+    }
+
+    public String get(String key) {
+        return cache.get(key, System.currentTimeMillis());
+    }
+
+    public void put(String key, String url, long signedAtMillis) {
+        // 만료 직전의 URL 을 내려주지 않도록 margin 만큼 일찍 캐시에서 만료시킨다
+        long reusableMillis = properties.getExpiration().minus(properties.getRefreshMargin()).toMillis();
+        if (reusableMillis <= 0) {
+            return;
+        }
+        cache.put(key, url, signedAtMillis + reusableMillis);
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    @Override
+    public String statsName() {
+        return "Presigned URL cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+}
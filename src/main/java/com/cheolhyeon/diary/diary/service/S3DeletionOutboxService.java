@@ -0,0 +1,93 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.properties.S3DeletionProperties;
+import com.cheolhyeon.diary.diary.entity.S3DeletionOutbox;
+import com.cheolhyeon.diary.diary.repository.S3DeletionOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * s3_deletion_outbox 관리. 지울 키를 기록만 하고, 실제 삭제와 재시도는 {@link S3DeletionSweeper} 가 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3DeletionOutboxService {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final S3DeletionOutboxRepository s3DeletionOutboxRepository;
+    private final S3DeletionProperties s3DeletionProperties;
+
+    // 호출한 트랜잭션에 참여한다 -> 참조를 끊는 변경과 함께 커밋되거나 함께 롤백된다
+    @Transactional
+    public void enqueue(Collection<String> s3Keys) {
+        save(s3Keys);
+    }
+
+    // 롤백될 트랜잭션 안에서도 남아야 하는 키 (업로드 실패 정리 등)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(Collection<String> s3Keys) {
+        save(s3Keys);
+    }
+
+    private void save(Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionOutbox> rows = new ArrayList<>(s3Keys.size());
+        for (String s3Key : s3Keys) {
+            rows.add(S3DeletionOutbox.pending(s3Key, now));
+        }
+        s3DeletionOutboxRepository.saveAll(rows);
+    }
+
+    @Transactional(readOnly = true)
+    public List<S3DeletionOutbox> findDue() {
+        return s3DeletionOutboxRepository.findDue(s3DeletionProperties.getBatchSize());
+    }
+
+    /**
+     * 지워진 키의 행은 지우고, 실패한 키의 행은 다음 시도 시각을 미룬다.
+     * retryMaxAttempts 번째 실패한 행은 dead letter 로 남기고 더 이상 시도하지 않는다.
+     *
+     * @param failures 실패한 키 -> 오류 메시지
+     */
+    @Transactional
+    public void complete(List<S3DeletionOutbox> rows, Map<String, String> failures) {
+        List<Long> deletedIds = new ArrayList<>(rows.size());
+        for (S3DeletionOutbox row : rows) {
+            String error = failures.get(row.getS3Key());
+            if (error == null) {
+                deletedIds.add(row.getId());
+                continue;
+            }
+            int maxAttempts = s3DeletionProperties.getRetryMaxAttempts();
+            s3DeletionOutboxRepository.markFailed(
+                    row.getId(),
+                    truncate(error),
+                    s3DeletionProperties.getRetryBaseDelay().toSeconds(),
+                    s3DeletionProperties.getRetryMaxDelay().toSeconds(),
+                    maxAttempts);
+            if (row.getAttempts() + 1 >= maxAttempts) {
+                log.error("Giving up deleting S3 object after {} attempts: {}, Error: {}", maxAttempts, row.getS3Key(), error);
+            }
+        }
+        if (!deletedIds.isEmpty()) {
+            s3DeletionOutboxRepository.deleteAllByIdInBatch(deletedIds);
+        }
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
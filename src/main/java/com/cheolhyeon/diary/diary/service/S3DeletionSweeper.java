@@ -0,0 +1,66 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.diary.entity.S3DeletionOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * s3_deletion_outbox 에 쌓인 키를 {@link S3Service#deleteAll} 로 모아서 지운다.
+ * 없는 객체를 지우는 것도 성공이므로, 여러 인스턴스가 같은 행을 동시에 처리하거나 재시도해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionSweeper implements StatsSource {
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final S3Service s3Service;
+
+    private final LongAdder deletedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    @Scheduled(fixedDelayString = "${diary.s3.deletion.sweep-interval-ms:10000}")
+    public void sweep() {
+        List<S3DeletionOutbox> due = s3DeletionOutboxService.findDue();
+        if (due.isEmpty()) {
+            return;
+        }
+        // 같은 키가 여러 번 기록될 수 있다 (예: 다시 올린 뒤 또 지운 이미지)
+        Set<String> keys = new LinkedHashSet<>();
+        for (S3DeletionOutbox row : due) {
+            keys.add(row.getS3Key());
+        }
+
+        // 요청 자체가 실패한 키도 실패로 돌아오므로 다음에 다시 시도된다
+        Map<String, String> failures = s3Service.deleteAll(keys);
+        s3DeletionOutboxService.complete(due, failures);
+
+        deletedCount.add(keys.size() - failures.size());
+        failedCount.add(failures.size());
+        if (!failures.isEmpty()) {
+            log.warn("Failed to delete S3 objects: {}/{}, will retry", failures.size(), keys.size());
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "S3 deletion outbox";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("deleted", deletedCount.sum());
+        stats.put("failed", failedCount.sum());
+        return stats;
+    }
+}
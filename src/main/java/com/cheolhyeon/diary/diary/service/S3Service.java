@@ -2,55 +2,161 @@ package com.cheolhyeon.diary.diary.service;
 
 import com.cheolhyeon.diary.app.exception.s3.S3ErrorStatus;
 import com.cheolhyeon.diary.app.exception.s3.S3Exception;
+import com.cheolhyeon.diary.app.properties.PresignedUrlProperties;
 import com.cheolhyeon.diary.app.util.UlidGenerator;
-import com.cheolhyeon.diary.diary.entity.Diaries;
-import io.awspring.cloud.s3.S3Resource;
+import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Template;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
-import java.time.Duration;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
+    // S3 DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final S3Template s3Template;
+    private final S3Client s3Client;
+    private final PresignedUrlCache presignedUrlCache;
+    private final PresignedUrlProperties presignedUrlProperties;
+    private final ImageObjectService imageObjectService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    @Qualifier("s3UploadExecutor")
+    private final Executor s3UploadExecutor;
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
+    /**
+     * 같은 작성자가 같은 내용의 이미지를 이미 올렸으면 PUT 없이 기존 객체의 키를 반환한다.
+     * 반환된 키는 모두 참조가 하나씩 잡힌 상태이므로, 일기 저장에 실패하면 {@link #compensate} 로 되돌려야 한다.
+     */
     public List<String> upload(Long writerId, byte[] diaryId, List<MultipartFile> images, int year, int month, int day) {
-        List<String> keys = new ArrayList<>();
-        try {
-            for (int i = 0; i < images.size(); i++) {
-                MultipartFile image = images.get(i);
+        // 키는 순서 기반 규칙을 유지하기 위해 업로드 전에 미리 생성한다
+        List<String> keys = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            keys.add(generateKey(writerId, images.get(i).getOriginalFilename(), diaryId, i + 1, year, month, day));
+        }
 
-                String key = generateKey(writerId, image.getOriginalFilename(), diaryId, i + 1, year, month, day);
-                keys.add(key);
-                s3Template.upload(bucketName, key, image.getInputStream());
-            }
+        List<CompletableFuture<String>> uploads = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            MultipartFile image = images.get(i);
+            String key = keys.get(i);
+            uploads.add(CompletableFuture.supplyAsync(() -> storeImage(writerId, key, image), s3UploadExecutor));
+        }
+
+        try {
+            // allOf 는 모든 업로드가 끝난 뒤에 완료되므로, 정리 시점에 진행중인 업로드는 없다
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
         } catch (Exception e) {
-            for (String k : keys) {
-                try {
-                    s3Template.deleteObject(bucketName, k);
-                } catch (Exception deleteException) {
-                    log.warn("Failed to delete S3 object during cleanup: {}, Error: {}", k, deleteException.getMessage());
-                }
-            }
+            cleanupFailedUpload(keys, uploads);
             log.error("S3 upload failed, original cause: ", e);
             throw new S3Exception(S3ErrorStatus.FAILED_UPLOAD_IMAGE, keys);
         }
-        return keys;
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    private String storeImage(Long writerId, String newKey, MultipartFile image) {
+        byte[] contentHash = contentHash(image);
+        String existingKey = imageObjectService.acquireExisting(writerId, contentHash);
+        if (existingKey != null) {
+            return existingKey;
+        }
+        putObject(newKey, image);
+        String registeredKey = imageObjectService.register(writerId, contentHash, newKey);
+        if (!registeredKey.equals(newKey)) {
+            // 같은 이미지가 동시에 올라와 먼저 등록된 객체를 사용하고, 방금 올린 객체는 삭제 대기열에 넣는다
+            s3DeletionOutboxService.enqueueInNewTransaction(List.of(newKey));
+        }
+        return registeredKey;
+    }
+
+    // 등록까지 끝난 이미지는 참조를 되돌리고, 등록 전에 실패한 이미지는 올렸을 수 있는 객체를 삭제 대기열에 넣는다
+    // 호출한 쪽 트랜잭션은 이 예외로 롤백되므로 모두 별도 트랜잭션으로 기록한다
+    private void cleanupFailedUpload(List<String> keys, List<CompletableFuture<String>> uploads) {
+        List<String> acquired = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < uploads.size(); i++) {
+            CompletableFuture<String> upload = uploads.get(i);
+            if (upload.isCompletedExceptionally()) {
+                failed.add(keys.get(i));
+            } else {
+                acquired.add(upload.join());
+            }
+        }
+        try {
+            s3DeletionOutboxService.enqueueInNewTransaction(failed);
+            if (!acquired.isEmpty()) {
+                compensate(acquired);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to record cleanup for failed upload: {}, Error: {}", keys, e.getMessage());
+        }
+    }
+
+    private void putObject(String key, MultipartFile image) {
+        try (InputStream inputStream = image.getInputStream()) {
+            s3Template.upload(bucketName, key, inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파일 전체를 메모리에 올리지 않고 스트림을 읽으며 SHA-256 을 계산한다
+    private static byte[] contentHash(MultipartFile image) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(image.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest.digest();
+    }
+
+    // 서버에서 만든 변형 이미지(JPEG)를 올린다
+    public void uploadVariant(String key, byte[] jpegBytes) {
+        try {
+            s3Template.upload(bucketName, key, new ByteArrayInputStream(jpegBytes),
+                    ObjectMetadata.builder().contentType("image/jpeg").build());
+        } catch (Exception e) {
+            throw new S3Exception(S3ErrorStatus.FAILED_UPLOAD_IMAGE, List.of(key));
+        }
     }
 
     private String generateKey(Long writerId, String originalName, byte[] diaryId, int order, int year, int month, int day) {
@@ -58,17 +164,11 @@ public class S3Service {
         String diaryIdAsString = UlidGenerator.ulidBytesToString(diaryId);
         String dateString = LocalDate.of(year, month, day).toString().replace("-", "/");
         String ext = extractFileType(originalName);
-        String key = UUID.randomUUID().toString().replaceAll("-", "");
-        String fileName = extractThumbnailPrefix(originalName, key);
+        // 썸네일은 서버에서 만들므로 클라이언트 파일명(thumbnail_ 접두사 등)은 키에 반영하지 않는다
+        String fileName = UUID.randomUUID().toString().replaceAll("-", "");
         return "%s/%d/%s/%s/%d/%s.%s".formatted(s3ObjectName, writerId, diaryIdAsString, dateString, order, fileName, ext);
     }
 
-    private String extractThumbnailPrefix(String originalName, String key) {
-        return originalName != null && originalName.startsWith("thumbnail_")
-                ? "thumbnail_" + key
-                : key;
-    }
-
     private String extractFileType(String originalName) {
         return Optional.ofNullable(originalName)
                 .filter(it -> it.contains("."))
@@ -77,59 +177,95 @@ public class S3Service {
                 .orElse("bin");
     }
 
-    public void delete(String k) {
-        try {
-            s3Template.deleteObject(bucketName, k);
-        } catch (Exception e) {
-            throw new S3Exception(S3ErrorStatus.FAILED_DELETE_IMAGE, List.of(k));
-        }
+    /**
+     * 일기에서 빠진 이미지의 참조를 내린다. 참조가 0 이 된 객체는 변형 이미지와 함께 삭제 대기열에 들어가며,
+     * 호출한 트랜잭션이 커밋되어야 {@link S3DeletionSweeper} 가 지운다.
+     */
+    public void release(List<String> keys) {
+        imageObjectService.release(keys);
     }
 
-    public List<String> getThumbnailImageKey(Long writerId, int year, int month, int day, List<Diaries> diariesByMonth) {
-        List<String> thumbnailImage = new ArrayList<>();
+    // 저장하지 못한 일기의 이미지 참조를 되돌린다 (롤백 이후처럼 트랜잭션 밖에서 호출)
+    public void compensate(List<String> keys) {
+        imageObjectService.compensate(keys);
+    }
 
-        for (Diaries diaries : diariesByMonth) {
-            String diaryId = UlidGenerator.ulidBytesToString(diaries.getDiaryId());
-            String prefix = String.format("diary_service/%d/%s/%d/%02d/%02d/", writerId, diaryId, year, month, day);
+    /**
+     * 여러 객체를 DeleteObjects 로 지운다. 1000 개씩 나눈 요청을 업로드 풀에서 동시에 보내므로
+     * 1000 개 이하는 한 번의 왕복으로 끝난다. 없는 객체를 지우는 것도 성공으로 처리된다.
+     * 요청이 실패한 묶음은 예외를 던지지 않고 묶음의 모든 키를 실패로 반환한다.
+     *
+     * @return 지우지 못한 키 -> 오류 메시지 (모두 지웠으면 빈 맵)
+     */
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        List<String> distinctKeys = List.copyOf(new LinkedHashSet<>(keys));
+        if (distinctKeys.isEmpty()) {
+            return Map.of();
+        }
+        List<CompletableFuture<Map<String, String>>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctKeys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = distinctKeys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, distinctKeys.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> deleteChunk(chunk), s3UploadExecutor));
+        }
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (CompletableFuture<Map<String, String>> chunk : chunks) {
+            // deleteChunk 는 실패를 결과로 돌려주므로 join 에서 예외가 나지 않는다
+            failures.putAll(chunk.join());
+        }
+        return failures;
+    }
 
-            List<S3Resource> s3Resources = s3Template.listObjects(bucketName, prefix);
-            for (S3Resource s3Resource : s3Resources) {
-                String fullName = s3Resource.getFilename();
-                String filename = StringUtils.getFilename(fullName);
-                if (filename.startsWith("thumbnail_")) {
-                    thumbnailImage.add(fullName);
-                }
+    private Map<String, String> deleteChunk(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        Map<String, String> failures = new LinkedHashMap<>();
+        try {
+            // quiet 모드에서는 실패한 키만 응답에 담긴다
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            for (S3Error error : response.errors()) {
+                failures.put(error.key(), error.code() + ": " + error.message());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to delete S3 objects: {} keys, Error: {}", keys.size(), e.getMessage());
+            for (String key : keys) {
+                failures.put(key, String.valueOf(e.getMessage()));
+            }
+            return failures;
+        }
+        for (String key : keys) {
+            if (!failures.containsKey(key)) {
+                presignedUrlCache.invalidate(key);
             }
         }
-        return thumbnailImage;
+        return failures;
     }
 
-    public List<String> getThumbnailImageKey(Long writerId, int year, int month, List<Diaries> diariesByMonth) {
-        List<String> thumbnailImage = new ArrayList<>();
-
-        for (Diaries diaries : diariesByMonth) {
-            String diaryId = UlidGenerator.ulidBytesToString(diaries.getDiaryId());
-            // day 없이 월까지만 조회하는 prefix 생성
-            String prefix = String.format("diary_service/%d/%s/%d/%02d/", writerId, diaryId, year, month);
-
-            List<S3Resource> s3Resources = s3Template.listObjects(bucketName, prefix);
-            for (S3Resource s3Resource : s3Resources) {
-                String fullName = s3Resource.getFilename();
-                String filename = StringUtils.getFilename(fullName);
-                if (filename.startsWith("thumbnail_")) {
-                    thumbnailImage.add(fullName);
-                }
-            }
+    // 호출한 쪽에서 스트림을 닫아야 한다
+    public InputStream openImage(String key) {
+        try {
+            return s3Template.download(bucketName, key).getInputStream();
+        } catch (Exception e) {
+            throw new S3Exception(S3ErrorStatus.FAILED_LOAD_IMAGE, List.of(key));
         }
-        return thumbnailImage;
     }
 
     public List<String> createImageUrl(List<String> imageJsonArray) {
         List<String> imageUrl = new ArrayList<>();
         try {
             for (String imageJson : imageJsonArray) {
-                URL signedGetURL = s3Template.createSignedGetURL(bucketName, imageJson, Duration.ofMinutes(5));
+                String cachedUrl = presignedUrlCache.get(imageJson);
+                if (cachedUrl != null) {
+                    imageUrl.add(cachedUrl);
+                    continue;
+                }
+                long signedAt = System.currentTimeMillis();
+                URL signedGetURL = s3Template.createSignedGetURL(bucketName, imageJson, presignedUrlProperties.getExpiration());
                 String url = signedGetURL.toString();
+                presignedUrlCache.put(imageJson, url, signedAt);
                 imageUrl.add(url);
             }
         } catch (Exception e) {
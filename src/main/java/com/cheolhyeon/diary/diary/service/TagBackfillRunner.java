@@ -0,0 +1,48 @@
+package com.cheolhyeon.diary.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * diary_tag 테이블 도입 이전에 작성된 일기들의 태그를 tags_json 으로부터 채운다.
+ * diary.tag-backfill.enabled=true 일 때만 기동 후 한 번 실행된다.
+ * 기동과 readiness 를 막지 않도록 별도 스레드에서 배치 단위로 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "diary.tag-backfill", name = "enabled", havingValue = "true")
+public class TagBackfillRunner {
+    private final TagBackfillService tagBackfillService;
+
+    @Value("${diary.tag-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread backfill = new Thread(this::backfill, "tag-backfill");
+        backfill.setDaemon(true);
+        backfill.start();
+    }
+
+    void backfill() {
+        long startedAt = System.currentTimeMillis();
+        byte[] lastDiaryId = new byte[16];
+        int batchCount = 0;
+        try {
+            while (lastDiaryId != null) {
+                lastDiaryId = tagBackfillService.backfillBatch(lastDiaryId, batchSize);
+                batchCount++;
+            }
+            log.info("Tag backfill finished - batches: {}, elapsedMs: {}", batchCount - 1, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 배치마다 커밋되므로 다음 기동 때 다시 실행해도 이미 채운 태그는 그대로 둔다
+            log.error("Tag backfill stopped - batches: {}", batchCount, e);
+        }
+    }
+}
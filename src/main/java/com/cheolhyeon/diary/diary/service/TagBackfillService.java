@@ -0,0 +1,33 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TagBackfillService {
+    private final DiaryRepository diaryRepository;
+    private final DiaryTagService diaryTagService;
+
+    /**
+     * lastDiaryId 이후의 일기들의 tags_json 을 한 배치만큼 diary_tag 에 반영한다.
+     * 이미 반영된 태그는 건너뛰므로 중단 후 다시 실행해도 된다.
+     * 다음 배치의 시작점이 될 마지막 diaryId를 반환하며, 더 이상 대상이 없으면 null을 반환한다.
+     */
+    @Transactional
+    public byte[] backfillBatch(byte[] lastDiaryId, int batchSize) {
+        List<Diaries> targets = diaryRepository.findTagBackfillTargets(lastDiaryId, batchSize);
+        if (targets.isEmpty()) {
+            return null;
+        }
+        for (Diaries target : targets) {
+            diaryTagService.syncTags(target.getWriterId(), target.getDiaryId(), target.getTagsJson());
+        }
+        return targets.get(targets.size() - 1).getDiaryId();
+    }
+}
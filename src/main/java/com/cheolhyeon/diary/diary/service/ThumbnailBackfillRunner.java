@@ -0,0 +1,48 @@
+package com.cheolhyeon.diary.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * thumbnail_image_key 컬럼 추가 이전에 작성된 일기들의 썸네일 키를 image_keys_json 으로부터 채운다.
+ * diary.thumbnail-backfill.enabled=true 일 때만 기동 후 한 번 실행된다.
+ * 기동과 readiness 를 막지 않도록 별도 스레드에서 배치 단위로 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "diary.thumbnail-backfill", name = "enabled", havingValue = "true")
+public class ThumbnailBackfillRunner {
+    private final ThumbnailBackfillService thumbnailBackfillService;
+
+    @Value("${diary.thumbnail-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread backfill = new Thread(this::backfill, "thumbnail-backfill");
+        backfill.setDaemon(true);
+        backfill.start();
+    }
+
+    void backfill() {
+        long startedAt = System.currentTimeMillis();
+        byte[] lastDiaryId = new byte[16];
+        int batchCount = 0;
+        try {
+            while (lastDiaryId != null) {
+                lastDiaryId = thumbnailBackfillService.backfillBatch(lastDiaryId, batchSize);
+                batchCount++;
+            }
+            log.info("Thumbnail backfill finished - batches: {}, elapsedMs: {}", batchCount - 1, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 배치마다 커밋되고 이미 채운 일기는 대상에서 빠지므로 다음 기동 때 이어서 채운다
+            log.error("Thumbnail backfill stopped - batches: {}", batchCount, e);
+        }
+    }
+}
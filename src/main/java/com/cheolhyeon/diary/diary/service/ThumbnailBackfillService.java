@@ -0,0 +1,31 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ThumbnailBackfillService {
+    private final DiaryRepository diaryRepository;
+
+    /**
+     * lastDiaryId 이후의 썸네일 키가 비어있는 일기들을 한 배치만큼 채운다.
+     * 다음 배치의 시작점이 될 마지막 diaryId를 반환하며, 더 이상 대상이 없으면 null을 반환한다.
+     */
+    @Transactional
+    public byte[] backfillBatch(byte[] lastDiaryId, int batchSize) {
+        List<Diaries> targets = diaryRepository.findThumbnailBackfillTargets(lastDiaryId, batchSize);
+        if (targets.isEmpty()) {
+            return null;
+        }
+        for (Diaries target : targets) {
+            target.backfillThumbnailImageKey();
+        }
+        return targets.get(targets.size() - 1).getDiaryId();
+    }
+}
@@ -4,6 +4,7 @@ import com.cheolhyeon.diary.app.annotation.CurrentUser;
 import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
 import com.cheolhyeon.diary.friendrequest.dto.request.FriendRequestActionRequest;
 import com.cheolhyeon.diary.friendrequest.dto.response.FriendRequestActionResponse;
+import com.cheolhyeon.diary.friendrequest.dto.response.FriendRequestInboxResponse;
 import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
 import com.cheolhyeon.diary.friendrequest.service.FriendRequestService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,14 @@ import org.springframework.web.bind.annotation.*;
 public class FriendRequestController {
     private final FriendRequestService friendRequestService;
 
+    // 받은 친구 요청 목록 (대기중, 최신순)
+    @GetMapping("/api/friend-request")
+    public ResponseEntity<FriendRequestInboxResponse> getInbox(
+            @CurrentUser CustomUserPrincipal user,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(friendRequestService.readInbox(user.getUserId(), cursor, size));
+    }
     // shareCode로 공유 코드 주인 검색
     @GetMapping("/api/friend-request/{plainShareCode}")
     public ResponseEntity<?> searchOwnerByShareCode(@PathVariable("plainShareCode") String plainShareCode) {
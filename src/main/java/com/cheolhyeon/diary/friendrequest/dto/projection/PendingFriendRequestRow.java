@@ -0,0 +1,19 @@
+package com.cheolhyeon.diary.friendrequest.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 받은 친구 요청 목록 조회 전용 projection.
+ * 요청자 이름은 users 조인으로 함께 가져와 행마다 userRepository 를 조회하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingFriendRequestRow {
+    private String requestId;
+    private Long requesterUserId;
+    private String requesterDisplayName;
+    private LocalDateTime createdAt;
+}
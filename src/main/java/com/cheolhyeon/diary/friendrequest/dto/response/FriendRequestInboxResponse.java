@@ -0,0 +1,33 @@
+package com.cheolhyeon.diary.friendrequest.dto.response;
+
+import com.cheolhyeon.diary.friendrequest.dto.projection.PendingFriendRequestRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 받은 친구 요청 커서 기반 목록 응답. nextCursor 는 마지막 요청의 ULID 이며 다음 페이지가 없으면 null 이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendRequestInboxResponse {
+    private List<PendingFriendRequestResponse> requests;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // pageSize + 1 건을 조회한 결과를 받아 다음 페이지 존재 여부를 판단한다
+    public static FriendRequestInboxResponse toResponse(List<PendingFriendRequestRow> fetched, int pageSize) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<PendingFriendRequestRow> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        List<PendingFriendRequestResponse> requests = page.stream()
+                .map(PendingFriendRequestResponse::toResponse)
+                .toList();
+        String nextCursor = hasNext ? page.get(page.size() - 1).getRequestId() : null;
+        return new FriendRequestInboxResponse(requests, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,28 @@
+package com.cheolhyeon.diary.friendrequest.dto.response;
+
+import com.cheolhyeon.diary.friendrequest.dto.projection.PendingFriendRequestRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingFriendRequestResponse {
+    private String requestId;
+    private Long requesterUserId;
+    private String requesterDisplayName;
+    private LocalDateTime createdAt;
+
+    public static PendingFriendRequestResponse toResponse(PendingFriendRequestRow row) {
+        return new PendingFriendRequestResponse(
+                row.getRequestId(),
+                row.getRequesterUserId(),
+                row.getRequesterDisplayName(),
+                row.getCreatedAt());
+    }
+}
@@ -1,6 +1,6 @@
 package com.cheolhyeon.diary.friendrequest.dto.response;
 
-import com.cheolhyeon.diary.auth.entity.User;
+import com.cheolhyeon.diary.sharecode.dto.ShareCodeOwner;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,7 +15,7 @@ public class SearchShareCodeOwnerResponse {
     // 얘는 화면에 보이면 안됨.
     private String shareCodeHash;
 
-    public static SearchShareCodeOwnerResponse toResponse(User shareCodeOwner, String shareCodeHash) {
+    public static SearchShareCodeOwnerResponse toResponse(ShareCodeOwner shareCodeOwner, String shareCodeHash) {
         return new SearchShareCodeOwnerResponse(shareCodeOwner.getDisplayName(), shareCodeHash);
     }
 }
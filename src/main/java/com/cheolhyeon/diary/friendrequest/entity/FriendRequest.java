@@ -11,6 +11,11 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 받은 요청 목록은 (owner_user_id, status) 범위를 id 역순으로 읽고 requester_user_id 로 조인하며 created_at 을 함께 돌려준다
+// -> 목록에 필요한 컬럼을 모두 인덱스에 두어 클러스터드 인덱스(행)를 읽지 않는다
+@Table(name = "friend_request", indexes = @Index(
+        name = "idx_friend_request_owner_status_id",
+        columnList = "owner_user_id, status, id, requester_user_id, created_at"))
 public class FriendRequest {
     @Id
     private String id;
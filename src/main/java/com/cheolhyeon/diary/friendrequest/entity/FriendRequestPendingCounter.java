@@ -0,0 +1,22 @@
+package com.cheolhyeon.diary.friendrequest.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 대기중(PENDING) 친구 요청 수. friend_request 를 count(*) 하지 않기 위해 요청/결정 시점에 증감한다.
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "friend_request_pending_counter")
+public class FriendRequestPendingCounter {
+    @Id
+    private Long userId;
+    private int pendingCount;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,100 @@
+package com.cheolhyeon.diary.friendrequest.repository;
+
+import com.cheolhyeon.diary.friendrequest.entity.FriendRequestPendingCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface FriendRequestPendingCounterRepository extends JpaRepository<FriendRequestPendingCounter, Long> {
+    @Modifying
+    @Query(value = """
+            INSERT INTO friend_request_pending_counter (user_id, pending_count, updated_at)
+            VALUES (:userId, 1, NOW())
+            ON DUPLICATE KEY UPDATE
+              pending_count = pending_count + 1,
+              updated_at = NOW()
+            """, nativeQuery = true)
+    int increment(@Param("userId") Long userId);
+
+    // 음수가 되지 않도록 0 에서 멈춘다 -> 어긋난 값은 reconcile 에서 바로잡는다
+    @Modifying
+    @Query(value = """
+            UPDATE friend_request_pending_counter
+            SET pending_count = GREATEST(pending_count - 1, 0),
+                updated_at = NOW()
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int decrement(@Param("userId") Long userId);
+
+    // 카운터 행이 없는 사용자만 friend_request 에서 세어 채운다
+    // 그 사이 increment 가 먼저 행을 만들었으면 그 값을 그대로 둔다
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO friend_request_pending_counter (user_id, pending_count, updated_at)
+            SELECT :userId, COUNT(*), NOW()
+            FROM friend_request f
+            WHERE f.owner_user_id = :userId
+            AND f.status = 'PENDING'
+            ON DUPLICATE KEY UPDATE
+              updated_at = updated_at
+            """, nativeQuery = true)
+    int backfill(@Param("userId") Long userId);
+
+    // reconcile 배치 경계 -> 잠금 없는 일반 SELECT 로 대기 요청이 있는 사용자 ID 를 순서대로 읽는다
+    @Query(value = """
+            SELECT DISTINCT f.owner_user_id
+            FROM friend_request f
+            WHERE f.status = 'PENDING'
+            AND f.owner_user_id > :afterUserId
+            ORDER BY f.owner_user_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPendingOwnerIds(@Param("afterUserId") Long afterUserId, @Param("limit") int limit);
+
+    // 배치 하나씩 짧은 트랜잭션으로 맞춘다 -> INSERT ... SELECT 가 잡는 공유 잠금이 이 사용자 범위에만 잠깐 걸린다
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO friend_request_pending_counter (user_id, pending_count, updated_at)
+            SELECT f.owner_user_id, COUNT(*), NOW()
+            FROM friend_request f
+            WHERE f.status = 'PENDING'
+            AND f.owner_user_id BETWEEN :fromUserId AND :toUserId
+            GROUP BY f.owner_user_id
+            ON DUPLICATE KEY UPDATE
+              pending_count = VALUES(pending_count),
+              updated_at = NOW()
+            """, nativeQuery = true)
+    int reconcilePendingCounts(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Query(value = """
+            SELECT c.user_id
+            FROM friend_request_pending_counter c
+            WHERE c.pending_count <> 0
+            AND c.user_id > :afterUserId
+            ORDER BY c.user_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findNonZeroCounterUserIds(@Param("afterUserId") Long afterUserId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE friend_request_pending_counter c
+            SET c.pending_count = 0,
+                c.updated_at = NOW()
+            WHERE c.user_id IN (:userIds)
+            AND c.pending_count <> 0
+            AND NOT EXISTS (
+                SELECT 1 FROM friend_request f
+                WHERE f.owner_user_id = c.user_id
+                AND f.status = 'PENDING'
+            )
+            """, nativeQuery = true)
+    int resetCountsWithoutPending(@Param("userIds") List<Long> userIds);
+}
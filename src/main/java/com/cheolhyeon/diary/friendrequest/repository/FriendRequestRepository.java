@@ -1,12 +1,16 @@
 package com.cheolhyeon.diary.friendrequest.repository;
 
+import com.cheolhyeon.diary.friendrequest.dto.projection.PendingFriendRequestRow;
 import com.cheolhyeon.diary.friendrequest.entity.FriendRequest;
+import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface FriendRequestRepository extends JpaRepository<FriendRequest, String> {
@@ -39,9 +43,10 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, St
                                             f.decided_at = :now
                                         where f.id = :id
                                         and f.owner_user_id = :userId
+                                        and f.status = 'PENDING'
                     """, nativeQuery = true
     )
-    void updateStatusByUserAction(
+    int updateStatusByUserAction(
             @Param("id") String id,
             @Param("userId") Long userId,
             @Param("status") String status,
@@ -58,4 +63,21 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, St
     Optional<FriendRequest> findPendingById(
             @Param("id") String id,
             @Param("status") String status);
+
+    // ULID 는 시간순으로 정렬되므로 id 역순이 최신순이다. cursor 보다 작은 id 부터 읽는다
+    @Query("""
+            select new com.cheolhyeon.diary.friendrequest.dto.projection.PendingFriendRequestRow(
+                f.id, f.requesterUserId, u.displayName, f.createdAt)
+            from FriendRequest f
+            join User u on u.userId = f.requesterUserId
+            where f.ownerUserId = :ownerUserId
+            and f.status = :status
+            and f.id < :cursor
+            order by f.id desc
+            """)
+    List<PendingFriendRequestRow> findInbox(
+            @Param("ownerUserId") Long ownerUserId,
+            @Param("status") FriendRequestStatus status,
+            @Param("cursor") String cursor,
+            Pageable pageable);
 }
@@ -7,54 +7,71 @@ import com.cheolhyeon.diary.app.exception.session.UserErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.UserException;
 import com.cheolhyeon.diary.app.exception.sharecode.ShareCodeErrorStatus;
 import com.cheolhyeon.diary.app.exception.sharecode.ShareCodeException;
+import com.cheolhyeon.diary.app.properties.PaginationProperties;
 import com.cheolhyeon.diary.app.util.HashCodeGenerator;
 import com.cheolhyeon.diary.app.util.UlidGenerator;
 import com.cheolhyeon.diary.auth.entity.AuthSession;
 import com.cheolhyeon.diary.auth.entity.User;
 import com.cheolhyeon.diary.auth.repository.UserRepository;
 import com.cheolhyeon.diary.auth.session.SessionRepository;
+import com.cheolhyeon.diary.friendrequest.dto.projection.PendingFriendRequestRow;
 import com.cheolhyeon.diary.friendrequest.dto.request.FriendRequestActionRequest;
+import com.cheolhyeon.diary.friendrequest.dto.response.FriendRequestInboxResponse;
 import com.cheolhyeon.diary.friendrequest.dto.response.SearchShareCodeOwnerResponse;
 import com.cheolhyeon.diary.friendrequest.entity.FriendRequest;
 import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
 import com.cheolhyeon.diary.friendrequest.repository.FriendRequestRepository;
-import com.cheolhyeon.diary.sharecode.entity.ShareCode;
+import com.cheolhyeon.diary.sharecode.dto.ShareCodeOwner;
+import com.cheolhyeon.diary.sharecode.enums.ShareCodeStatus;
 import com.cheolhyeon.diary.sharecode.repository.ShareCodeRepository;
+import com.cheolhyeon.diary.sharecode.service.ShareCodeLookupCache;
+import com.github.f4b6a3.ulid.Ulid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FriendRequestService {
+    // 모든 ULID 문자열보다 큰 값 -> 커서가 없으면 가장 최신 요청부터 조회한다
+    private static final String INBOX_FIRST_CURSOR = "ZZZZZZZZZZZZZZZZZZZZZZZZZZ";
+
     private final ApplicationEventPublisher eventPublisher;
     private final FriendRequestRepository friendRequestRepository;
+    private final ShareCodeLookupCache shareCodeLookupCache;
     private final ShareCodeRepository shareCodeRepository;
     private final UserRepository userRepository;
     private final SessionRepository sessionRepository;
     private final HashCodeGenerator hashCodeGenerator;
+    private final PendingFriendRequestCounter pendingFriendRequestCounter;
+    private final PaginationProperties paginationProperties;
 
     public SearchShareCodeOwnerResponse searchOwnerByShareCode(String plainShareCode) {
         String hashShareCode = hashCodeGenerator.generateShareCodeHash(plainShareCode);
-        ShareCode shareCode = shareCodeRepository.findShareCodeByHashCode(hashShareCode)
+        ShareCodeOwner shareCodeOwner = shareCodeLookupCache.findOwner(hashShareCode)
                 .orElseThrow(() -> new ShareCodeException(ShareCodeErrorStatus.NOT_FOUND));
-        User shareCodeOwner = userRepository.findById(shareCode.getUserId())
-                .orElseThrow(() -> new UserException(UserErrorStatus.NOT_FOUND));
         return SearchShareCodeOwnerResponse.toResponse(shareCodeOwner, hashShareCode);
     }
 
     @Transactional
     public void requestFriendRequest(String hashShareCode, Long userId) {
         // 대상자
-        ShareCode shareCode = shareCodeRepository.findShareCodeByHashCode(hashShareCode)
+        ShareCodeOwner shareCodeOwner = shareCodeLookupCache.findOwner(hashShareCode)
                 .orElseThrow(() -> new ShareCodeException(ShareCodeErrorStatus.NOT_FOUND));
-        Long shareCodeOwnerUserId = shareCode.getUserId();
+        // 캐시는 다른 노드에서 폐기된 코드를 ttl 동안 보여줄 수 있으므로 요청을 만들기 전에 DB 에서 다시 확인한다
+        if (!shareCodeRepository.existsByCodeHashAndStatus(hashShareCode, ShareCodeStatus.ACTIVE)) {
+            shareCodeLookupCache.invalidate(hashShareCode);
+            throw new ShareCodeException(ShareCodeErrorStatus.NOT_FOUND);
+        }
+        Long shareCodeOwnerUserId = shareCodeOwner.getUserId();
         AuthSession codeOwnerSession = sessionRepository.findByUserId(shareCodeOwnerUserId)
                 .orElseThrow(() -> new UserException(UserErrorStatus.NOT_FOUND));
 
@@ -75,28 +92,57 @@ public class FriendRequestService {
                         .createdAt(LocalDateTime.now())
                         .decidedAt(null)
                         .build());
+        pendingFriendRequestCounter.increment(shareCodeOwnerUserId);
         eventPublisher.publishEvent(new FriendRequestNotification(
                 codeOwnerSession.getSessionId(), id, shareCodeOwnerUserId, requesterUserId, requesterUser.getDisplayName()));
     }
 
+    public FriendRequestInboxResponse readInbox(Long userId, String cursor, Integer size) {
+        int pageSize = paginationProperties.resolveSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다
+        List<PendingFriendRequestRow> fetched = friendRequestRepository.findInbox(
+                userId, FriendRequestStatus.PENDING, parseInboxCursor(cursor), PageRequest.of(0, pageSize + 1));
+        return FriendRequestInboxResponse.toResponse(fetched, pageSize);
+    }
+
+    private String parseInboxCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return INBOX_FIRST_CURSOR;
+        }
+        if (!Ulid.isValid(cursor)) {
+            throw new FriendRequestException(FriendRequestErrorStatus.INVALID_CURSOR);
+        }
+        // 소문자로 들어와도 저장된 값과 같은 형태로 비교한다
+        return Ulid.from(cursor).toString();
+    }
+
     @Transactional
     public FriendRequestStatus decide(Long userId, FriendRequestActionRequest decideRequest) {
         friendRequestRepository.findPendingById(decideRequest.getId(), FriendRequestStatus.PENDING.name())
                 .orElseThrow(() -> new FriendRequestException(FriendRequestErrorStatus.ALREADY_DECIDED_REQUEST));
         if (decideRequest.getDecide().equals(FriendRequestStatus.ACCEPTED.name())) {
-            friendRequestRepository.updateStatusByUserAction(
+            int updated = friendRequestRepository.updateStatusByUserAction(
                     decideRequest.getId(),
                     userId,
                     FriendRequestStatus.ACCEPTED.name(),
                     LocalDateTime.now());
+            decrementPendingCountIfUpdated(userId, updated);
             // TODO 현재 유저에 대한 친구 목록에 추가 -> 현재 세션의 친구 목록을 관리할 테이블
             return FriendRequestStatus.ACCEPTED;
         }
-        friendRequestRepository.updateStatusByUserAction(
+        int updated = friendRequestRepository.updateStatusByUserAction(
                 decideRequest.getId(),
                 userId,
                 FriendRequestStatus.DECLINED.name(),
                 LocalDateTime.now());
+        decrementPendingCountIfUpdated(userId, updated);
         return FriendRequestStatus.DECLINED;
     }
+
+    // PENDING 에서 실제로 바뀐 경우에만 감소 -> 동시에 같은 요청을 결정해도 한 번만 줄어든다
+    private void decrementPendingCountIfUpdated(Long userId, int updated) {
+        if (updated == 1) {
+            pendingFriendRequestCounter.decrement(userId);
+        }
+    }
 }
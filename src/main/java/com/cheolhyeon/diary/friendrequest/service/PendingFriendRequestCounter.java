@@ -0,0 +1,124 @@
+package com.cheolhyeon.diary.friendrequest.service;
+
+import com.cheolhyeon.diary.app.cache.ExpiringLruCache;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.app.util.TransactionHooks;
+import com.cheolhyeon.diary.friendrequest.entity.FriendRequestPendingCounter;
+import com.cheolhyeon.diary.friendrequest.repository.FriendRequestPendingCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 대기중 친구 요청 수. friend_request_pending_counter 테이블이 원본이고 메모리 캐시를 앞에 둔다.
+ * 증감은 호출한 트랜잭션 안에서 테이블에 반영하고, 캐시는 커밋 이후 무효화하여 다음 조회 때 다시 읽는다.
+ * 다른 노드의 캐시는 ttl 동안 이전 값을 볼 수 있으며, 주기적인 reconcile 로 테이블 값의 어긋남을 바로잡는다.
+ * 카운터 행이 아직 없는 사용자(테이블 도입 이전 요청만 있는 경우)는 조회 시 friend_request 에서 세어 행을 만든다.
+ */
+@Slf4j
+@Component
+public class PendingFriendRequestCounter implements StatsSource {
+    private final FriendRequestPendingCounterRepository counterRepository;
+    private final ExpiringLruCache<Long, Long> cache;
+    private final long ttlMillis;
+    private final int reconcileBatchSize;
+
+    public PendingFriendRequestCounter(FriendRequestPendingCounterRepository counterRepository,
+                                       @Value("${friend-request.pending-counter.max-size:50000}") int maxSize,
+                                       @Value("${friend-request.pending-counter.ttl:60s}") Duration ttl,
+                                       @Value("${friend-request.pending-counter.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.counterRepository = counterRepository;
+        this.cache = new ExpiringLruCache<>(maxSize);
+        this.ttlMillis = ttl.toMillis();
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public long getPendingCount(Long userId) {
+        long now = System.currentTimeMillis();
+        Long cached = cache.get(userId, now);
+        if (cached != null) {
+            return cached;
+        }
+        long count = counterRepository.findById(userId)
+                .map(FriendRequestPendingCounter::getPendingCount)
+                .orElseGet(() -> backfill(userId));
+        cache.put(userId, count, now + ttlMillis);
+        return count;
+    }
+
+    // 행이 없다고 0 으로 답하면 기존 대기 요청이 보이지 않으므로 COUNT(*) 로 채운 뒤 다시 읽는다
+    private int backfill(Long userId) {
+        counterRepository.backfill(userId);
+        return counterRepository.findById(userId)
+                .map(FriendRequestPendingCounter::getPendingCount)
+                .orElse(0);
+    }
+
+    public void increment(Long userId) {
+        counterRepository.increment(userId);
+        invalidate(userId);
+    }
+
+    public void decrement(Long userId) {
+        counterRepository.decrement(userId);
+        invalidate(userId);
+    }
+
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐싱하는 경우를 막기 위해 커밋 이후 한 번 더 제거한다
+    private void invalidate(Long userId) {
+        cache.invalidate(userId);
+        TransactionHooks.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * 테이블 값의 어긋남을 사용자 ID 배치 단위로 바로잡는다. 배치마다 짧은 트랜잭션이라 친구 요청 처리를 오래 막지 않는다.
+     * 기동 시에는 돌리지 않는다 -> 카운터 행이 없는 사용자는 조회 시 backfill 로 채운다.
+     */
+    @Scheduled(fixedDelayString = "${friend-request.pending-counter.reconcile-interval-ms:3600000}",
+            initialDelayString = "${friend-request.pending-counter.reconcile-initial-delay-ms:60000}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        int upserted = 0;
+        Long afterUserId = Long.MIN_VALUE;
+        List<Long> ownerIds;
+        do {
+            ownerIds = counterRepository.findPendingOwnerIds(afterUserId, reconcileBatchSize);
+            if (ownerIds.isEmpty()) {
+                break;
+            }
+            afterUserId = ownerIds.get(ownerIds.size() - 1);
+            upserted += counterRepository.reconcilePendingCounts(ownerIds.get(0), afterUserId);
+        } while (ownerIds.size() == reconcileBatchSize);
+
+        int reset = 0;
+        afterUserId = Long.MIN_VALUE;
+        List<Long> counterUserIds;
+        do {
+            counterUserIds = counterRepository.findNonZeroCounterUserIds(afterUserId, reconcileBatchSize);
+            if (counterUserIds.isEmpty()) {
+                break;
+            }
+            afterUserId = counterUserIds.get(counterUserIds.size() - 1);
+            reset += counterRepository.resetCountsWithoutPending(counterUserIds);
+        } while (counterUserIds.size() == reconcileBatchSize);
+
+        cache.invalidateAll();
+        log.info("Reconciled pending friend request counters - upserted: {}, reset: {}, elapsedMs: {}",
+                upserted, reset, System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public String statsName() {
+        return "Pending friend request counter cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,14 @@
+package com.cheolhyeon.diary.sharecode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공유 코드 해시로 찾은 코드 주인. {@link com.cheolhyeon.diary.sharecode.service.ShareCodeLookupCache} 에 저장된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ShareCodeOwner {
+    private Long userId;
+    private String displayName;
+}
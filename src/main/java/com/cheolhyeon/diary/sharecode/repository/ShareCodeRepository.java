@@ -1,6 +1,7 @@
 package com.cheolhyeon.diary.sharecode.repository;
 
 import com.cheolhyeon.diary.sharecode.entity.ShareCode;
+import com.cheolhyeon.diary.sharecode.enums.ShareCodeStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +27,6 @@ public interface ShareCodeRepository extends JpaRepository<ShareCode, Long> {
                     """, nativeQuery = true
     )
     Optional<ShareCode> findShareCodeByHashCode(@Param("shareCode") String shareCode);
+
+    boolean existsByCodeHashAndStatus(String codeHash, ShareCodeStatus status);
 }
@@ -0,0 +1,110 @@
+package com.cheolhyeon.diary.sharecode.service;
+
+import com.cheolhyeon.diary.app.cache.ExpiringLruCache;
+import com.cheolhyeon.diary.app.cluster.ClusterBroadcaster;
+import com.cheolhyeon.diary.app.exception.session.UserErrorStatus;
+import com.cheolhyeon.diary.app.exception.session.UserException;
+import com.cheolhyeon.diary.app.stats.StatsSource;
+import com.cheolhyeon.diary.app.util.TransactionHooks;
+import com.cheolhyeon.diary.auth.entity.User;
+import com.cheolhyeon.diary.auth.repository.UserRepository;
+import com.cheolhyeon.diary.sharecode.dto.ShareCodeOwner;
+import com.cheolhyeon.diary.sharecode.entity.ShareCode;
+import com.cheolhyeon.diary.sharecode.repository.ShareCodeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 공유 코드 해시 -> 코드 주인(userId, displayName) 조회 결과를 캐싱한다.
+ * 공개된 코드는 짧은 시간에 여러 번 조회되므로 share_code, users 조회를 한 번으로 줄인다.
+ * 존재하지 않는 코드도 짧게 캐싱하여 코드를 추측하는 반복 요청이 DB 까지 가지 않도록 한다.
+ * 무효화는 커밋 이후 {@link ClusterBroadcaster} 로 다른 노드에도 전달한다.
+ * 전달을 놓친 노드에서는 positive-ttl 동안 이전 코드가 조회될 수 있으므로, 친구 요청처럼 상태를 바꾸는 쪽은
+ * 코드가 아직 ACTIVE 인지 DB 에서 다시 확인한다.
+ */
+@Component
+public class ShareCodeLookupCache implements StatsSource {
+    private static final String TOPIC = "share-code-invalidation";
+
+    private final ShareCodeRepository shareCodeRepository;
+    private final UserRepository userRepository;
+    private final ClusterBroadcaster clusterBroadcaster;
+    // Optional.empty() 는 존재하지 않는 코드, null 은 캐시 미스
+    private final ExpiringLruCache<String, Optional<ShareCodeOwner>> cache;
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+
+    public ShareCodeLookupCache(ShareCodeRepository shareCodeRepository,
+                                UserRepository userRepository,
+                                ClusterBroadcaster clusterBroadcaster,
+                                @Value("${sharecode.lookup-cache.max-size:20000}") int maxSize,
+                                @Value("${sharecode.lookup-cache.positive-ttl:5m}") Duration positiveTtl,
+                                @Value("${sharecode.lookup-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.shareCodeRepository = shareCodeRepository;
+        this.userRepository = userRepository;
+        this.clusterBroadcaster = clusterBroadcaster;
+        this.cache = new ExpiringLruCache<>(maxSize);
+        this.positiveTtlMillis = positiveTtl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBroadcaster.subscribe(TOPIC, String.class, cache::invalidate);
+    }
+
+    public Optional<ShareCodeOwner> findOwner(String codeHash) {
+        long now = System.currentTimeMillis();
+        Optional<ShareCodeOwner> cached = cache.get(codeHash, now);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<ShareCode> shareCode = shareCodeRepository.findShareCodeByHashCode(codeHash);
+        if (shareCode.isEmpty()) {
+            cache.put(codeHash, Optional.empty(), now + negativeTtlMillis);
+            return Optional.empty();
+        }
+        // 코드는 있는데 주인이 없는 경우는 데이터가 어긋난 상태이므로 캐싱하지 않는다
+        User owner = userRepository.findById(shareCode.get().getUserId())
+                .orElseThrow(() -> new UserException(UserErrorStatus.NOT_FOUND));
+        Optional<ShareCodeOwner> found = Optional.of(new ShareCodeOwner(owner.getUserId(), owner.getDisplayName()));
+        cache.put(codeHash, found, now + positiveTtlMillis);
+        return found;
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 안이라면 커밋 이후 한 번 더 제거한다.
+     * 커밋 전에 다른 요청이 변경 전 상태를 다시 캐싱하는 경우를 막기 위함이다.
+     * 다른 노드에는 커밋 이후에 알린다.
+     */
+    public void invalidate(String codeHash) {
+        cache.invalidate(codeHash);
+        TransactionHooks.afterCommit(() -> {
+            cache.invalidate(codeHash);
+            clusterBroadcaster.broadcast(TOPIC, codeHash);
+        });
+    }
+
+    public double getHitRatio() {
+        return cache.getHitRatio();
+    }
+
+    public long getInvalidationCount() {
+        return cache.getInvalidationCount();
+    }
+
+    @Override
+    public String statsName() {
+        return "Share code lookup cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ShareCodeService {
     private final ShareCodeRepository shareCodeRepository;
     private final HashCodeGenerator hashCodeGenerator;
+    private final ShareCodeLookupCache shareCodeLookupCache;
 
 
     @Transactional
@@ -31,6 +32,8 @@ public class ShareCodeService {
         String codeHash = generateShareCodeHash(request.getCode());
         ShareCode entity = request.toEntity(userId, codeHash);
         shareCodeRepository.save(entity);
+        // 생성 전에 조회되어 "없는 코드" 로 캐싱된 항목을 지운다
+        shareCodeLookupCache.invalidate(codeHash);
         return ShareCodeCreateResponse.builder()
                 .statusCode(HttpStatus.OK.value())
                 .codePlain(request.getCode())
@@ -44,7 +47,10 @@ public class ShareCodeService {
                 .orElseThrow(() -> new ShareCodeException(ShareCodeErrorStatus.NOT_FOUND));
         String codePlain = request.getCode();
         String hashCode = generateShareCodeHash(codePlain);
+        String previousHashCode = shareCode.getCodeHash();
         shareCode.updateShareCode(hashCode, codePlain);
+        shareCodeLookupCache.invalidate(previousHashCode);
+        shareCodeLookupCache.invalidate(hashCode);
     }
 
     public String readMyShareCode(Long userId) {
@@ -58,6 +64,7 @@ public class ShareCodeService {
         ShareCode shareCode = shareCodeRepository.findShareCodeById(userId)
                 .orElseThrow(() -> new ShareCodeException(ShareCodeErrorStatus.NOT_FOUND));
         shareCode.revokedStatus(ShareCodeStatus.REVOKED);
+        shareCodeLookupCache.invalidate(shareCode.getCodeHash());
     }
 
     private String generateShareCodeHash(String code) {
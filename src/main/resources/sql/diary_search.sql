@@ -0,0 +1,19 @@
+-- 일기 검색용 스키마 (MySQL 8)
+-- ngram 파서는 서버 설정 ngram_token_size(기본 2) 단위로 색인하므로 한국어 단어도 부분 일치로 검색된다.
+-- FULLTEXT 인덱스 추가 중에는 diaries 쓰기가 막히므로(첫 추가 시 테이블 재구성) 트래픽이 적은 시간에 적용한다.
+
+ALTER TABLE diaries
+    ADD FULLTEXT INDEX ft_diaries_title_content (title, content) WITH PARSER ngram;
+
+-- 태그 정확 일치 필터용 정규화 테이블
+-- PK (writer_id, tag, diary_id) 순서로 "작성자의 태그 X 일기를 최신순" 조회가 인덱스만으로 끝난다
+CREATE TABLE IF NOT EXISTS diary_tag
+(
+    writer_id BIGINT       NOT NULL,
+    tag       VARCHAR(50)  NOT NULL,
+    diary_id  BINARY(16)   NOT NULL,
+    PRIMARY KEY (writer_id, tag, diary_id),
+    KEY idx_diary_tag_diary_id (diary_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_bin;
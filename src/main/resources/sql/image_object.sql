@@ -0,0 +1,16 @@
+-- 이미지 중복 제거용 참조 수 테이블 (MySQL 8)
+-- 같은 작성자가 같은 내용(SHA-256)의 이미지를 다시 올리면 기존 S3 객체를 재사용하고 ref_count 만 올린다.
+-- 이 테이블 도입 이전에 올린 이미지는 행이 없으며, 해제 시 참조 정보가 없으면 바로 지운다.
+-- variants_ready 는 원본 키에서 파생된 썸네일/중간 크기 변형을 이미 올렸는지 여부 -> 재사용한 이미지는 변형을 다시 만들지 않는다.
+CREATE TABLE IF NOT EXISTS image_object
+(
+    writer_id      BIGINT       NOT NULL,
+    content_hash   BINARY(32)   NOT NULL,
+    s3_key         VARCHAR(255) NOT NULL,
+    ref_count      INT          NOT NULL,
+    variants_ready BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (writer_id, content_hash),
+    UNIQUE KEY uk_image_object_s3_key (s3_key)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,6 @@
+-- 서버에서 만든 썸네일/중간 크기 이미지 키 (MySQL 8)
+-- 원본 키 -> {"thumbnailKey": ..., "mediumKey": ...} 형태이며, 변형이 없는 기존 일기는 NULL 로 남는다.
+-- thumbnail_image_key 에는 첫 이미지의 썸네일 변형 키를 기록하므로 캘린더 조회 쿼리는 바뀌지 않는다.
+
+ALTER TABLE diaries
+    ADD COLUMN image_variants_json JSON NULL AFTER image_keys_json;
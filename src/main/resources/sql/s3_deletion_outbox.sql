@@ -0,0 +1,19 @@
+-- S3 객체 삭제 outbox (MySQL 8)
+-- 이미지 참조를 끊는 트랜잭션 안에서 지울 키를 기록하고, S3DeletionSweeper 가 DeleteObjects(최대 1000 키)로 모아서 지운다.
+-- 삭제가 끝난 행은 지우고, 실패한 행은 next_attempt_at 을 지수 백오프로 미뤄 다시 시도한다.
+-- retry-max-attempts 번 실패한 행은 dead_lettered_at 을 기록하고 더 이상 시도하지 않는다 (last_error 로 원인을 확인한다).
+-- 없는 키를 지우는 것도 성공으로 처리되므로 같은 행을 여러 번 처리해도 안전하다.
+CREATE TABLE IF NOT EXISTS s3_deletion_outbox
+(
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    s3_key           VARCHAR(255) NOT NULL,
+    attempts         INT          NOT NULL,
+    last_error       VARCHAR(500) NULL,
+    next_attempt_at  DATETIME(6)  NOT NULL,
+    dead_lettered_at DATETIME(6)  NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    -- 재시도 대상(dead_lettered_at IS NULL)만 마감 순으로 읽는다
+    KEY idx_s3_deletion_outbox_next_attempt_at (dead_lettered_at, next_attempt_at, id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
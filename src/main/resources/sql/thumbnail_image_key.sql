@@ -0,0 +1,6 @@
+-- 캘린더/타임라인 썸네일 키 (MySQL 8)
+-- 업로드 시점에 기록하므로 조회 시 S3 listObjects 로 thumbnail_ 이미지를 찾지 않는다.
+-- 컬럼 추가 이전에 작성된 일기는 diary.thumbnail-backfill.enabled=true 로 기동하면 ThumbnailBackfillRunner 가 채운다.
+
+ALTER TABLE diaries
+    ADD COLUMN thumbnail_image_key VARCHAR(255) NULL AFTER image_keys_json;
@@ -0,0 +1,101 @@
+package com.cheolhyeon.diary.app.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ExpiringLruCacheTest {
+
+    @Test
+    @DisplayName("만료 전에는 캐시된 값을 반환하고 hit 로 집계한다")
+    void get_BeforeExpiration_ReturnsCachedValue() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key1", "url1", 1000L);
+
+        // When
+        String result = cache.get("key1", 999L);
+
+        // Then
+        assertThat(result).isEqualTo("url1");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 null 을 반환하고 항목을 제거한다")
+    void get_AfterExpiration_ReturnsNull() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key1", "url1", 1000L);
+
+        // When
+        String result = cache.get("key1", 1000L);
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void put_OverMaxSize_EvictsLeastRecentlyUsed() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2);
+        cache.put("key1", "url1", Long.MAX_VALUE);
+        cache.put("key2", "url2", Long.MAX_VALUE);
+        cache.get("key1", 0L);
+
+        // When
+        cache.put("key3", "url3", Long.MAX_VALUE);
+
+        // Then
+        assertThat(cache.get("key1", 0L)).isEqualTo("url1");
+        assertThat(cache.get("key2", 0L)).isNull();
+        assertThat(cache.get("key3", 0L)).isEqualTo("url3");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate 시 항목을 제거하고 무효화 횟수를 집계한다")
+    void invalidate_RemovesEntry() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key1", "url1", Long.MAX_VALUE);
+
+        // When
+        cache.invalidate("key1");
+        cache.invalidate("unknown");
+
+        // Then
+        assertThat(cache.get("key1", 0L)).isNull();
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stats 는 크기와 적중률, 집계 값을 순서대로 담는다")
+    void stats_ReturnsCounters() {
+        // Given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key1", "url1", Long.MAX_VALUE);
+        cache.get("key1", 0L);
+        cache.get("unknown", 0L);
+
+        // When
+        Map<String, Object> stats = cache.stats();
+
+        // Then
+        assertThat(stats).containsExactly(
+                entry("size", 1),
+                entry("hitRatio", String.format("%.2f", 0.5)),
+                entry("hits", 1L),
+                entry("misses", 1L),
+                entry("evictions", 0L),
+                entry("invalidations", 0L));
+    }
+}
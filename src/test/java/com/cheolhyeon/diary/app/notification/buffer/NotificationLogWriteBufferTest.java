@@ -0,0 +1,116 @@
+package com.cheolhyeon.diary.app.notification.buffer;
+
+import com.cheolhyeon.diary.app.notification.enums.EventType;
+import com.cheolhyeon.diary.app.notification.enums.NotificationStatus;
+import com.cheolhyeon.diary.app.notification.repository.NotificationLogBatchRepository;
+import com.cheolhyeon.diary.app.properties.NotificationLogBufferProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationLogWriteBufferTest {
+
+    @Mock
+    NotificationLogBatchRepository notificationLogBatchRepository;
+
+    NotificationLogWriteBuffer notificationLogWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        NotificationLogBufferProperties properties = new NotificationLogBufferProperties();
+        properties.setBatchSize(3);
+        properties.setMaxPending(4);
+        notificationLogWriteBuffer = new NotificationLogWriteBuffer(notificationLogBatchRepository, properties);
+    }
+
+    @Test
+    @DisplayName("같은 알림의 시도와 상태 변경은 한 행으로 합쳐져 flush 된다")
+    @SuppressWarnings("unchecked")
+    void flush_CoalescesTransitionsOfSameNotification() {
+        // Given
+        notificationLogWriteBuffer.recordAttempt("tx-1", 10L, EventType.FRIEND_REQUEST);
+        notificationLogWriteBuffer.recordStatus("tx-1", 10L, EventType.FRIEND_REQUEST, NotificationStatus.CHECKED, null);
+
+        // When
+        notificationLogWriteBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<NotificationLogRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationLogBatchRepository).upsertAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        NotificationLogRecord record = captor.getValue().get(0);
+        assertThat(record.getStatus()).isEqualTo(NotificationStatus.CHECKED);
+        assertThat(record.getAttemptIncrement()).isEqualTo(1);
+        assertThat(notificationLogWriteBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("batchSize 만큼 쌓이면 주기를 기다리지 않고 flush 한다")
+    void record_ReachingBatchSize_FlushesImmediately() {
+        // When
+        notificationLogWriteBuffer.recordAttempt("tx-1", 10L, EventType.FRIEND_REQUEST);
+        notificationLogWriteBuffer.recordAttempt("tx-2", 10L, EventType.FRIEND_REQUEST);
+        verify(notificationLogBatchRepository, never()).upsertAll(anyList());
+        notificationLogWriteBuffer.recordAttempt("tx-3", 10L, EventType.FRIEND_REQUEST);
+
+        // Then
+        verify(notificationLogBatchRepository, times(1)).upsertAll(anyList());
+        assertThat(notificationLogWriteBuffer.getFlushedCount()).isEqualTo(3);
+        assertThat(notificationLogWriteBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 쓰기가 실패하면 기록을 버퍼에 되돌리고 이후 상태 변화와 합친다")
+    @SuppressWarnings("unchecked")
+    void flush_Failure_RequeuesAndMergesWithNewerRecord() {
+        // Given
+        given(notificationLogBatchRepository.upsertAll(anyList()))
+                .willThrow(new RuntimeException("db down"))
+                .willReturn(1);
+        notificationLogWriteBuffer.recordAttempt("tx-1", 10L, EventType.FRIEND_REQUEST);
+        notificationLogWriteBuffer.flush();
+        notificationLogWriteBuffer.recordStatus("tx-1", 10L, EventType.FRIEND_REQUEST, NotificationStatus.ERROR, "send failed");
+
+        // When
+        notificationLogWriteBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<NotificationLogRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationLogBatchRepository, times(2)).upsertAll(captor.capture());
+        NotificationLogRecord record = captor.getAllValues().get(1).get(0);
+        assertThat(record.getStatus()).isEqualTo(NotificationStatus.ERROR);
+        assertThat(record.getErrorMessage()).isEqualTo("send failed");
+        assertThat(record.getAttemptIncrement()).isEqualTo(1);
+        assertThat(notificationLogWriteBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차고 flush 도 실패하면 새 기록은 버려진다")
+    void record_BufferFullAndFlushFails_DropsRecord() {
+        // Given
+        given(notificationLogBatchRepository.upsertAll(anyList()))
+                .willThrow(new RuntimeException("db down"));
+        for (int i = 0; i < 4; i++) {
+            notificationLogWriteBuffer.recordAttempt("tx-" + i, 10L, EventType.FRIEND_REQUEST);
+        }
+
+        // When
+        notificationLogWriteBuffer.recordAttempt("tx-overflow", 10L, EventType.FRIEND_REQUEST);
+
+        // Then
+        assertThat(notificationLogWriteBuffer.getPendingCount()).isEqualTo(4);
+        assertThat(notificationLogWriteBuffer.getDroppedCount()).isEqualTo(1);
+    }
+}
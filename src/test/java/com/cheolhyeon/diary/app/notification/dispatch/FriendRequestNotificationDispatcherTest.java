@@ -0,0 +1,122 @@
+package com.cheolhyeon.diary.app.notification.dispatch;
+
+import com.cheolhyeon.diary.app.event.friendrequest.FriendRequestNotification;
+import com.cheolhyeon.diary.app.notification.buffer.NotificationLogWriteBuffer;
+import com.cheolhyeon.diary.app.notification.enums.EventType;
+import com.cheolhyeon.diary.app.notification.enums.NotificationStatus;
+import com.cheolhyeon.diary.app.sse.SseEmitterService;
+import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
+import com.cheolhyeon.diary.friendrequest.repository.FriendRequestRepository;
+import com.cheolhyeon.diary.friendrequest.service.PendingFriendRequestCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendRequestNotificationDispatcherTest {
+
+    @Mock
+    FriendRequestRepository friendRequestRepository;
+    @Mock
+    PendingFriendRequestCounter pendingFriendRequestCounter;
+    @Mock
+    SseEmitterService sseEmitterService;
+    @Mock
+    NotificationLogWriteBuffer notificationLogWriteBuffer;
+
+    private final FriendRequestNotification notification =
+            new FriendRequestNotification("owner-session", "tx-1", 10L, 20L, "요청자");
+
+    @Test
+    @DisplayName("PENDING 요청이면 대기 개수를 SSE 로 보내고 CHECKED 로 기록한다")
+    void dispatch_PendingRequest_SendsCountAndRecordsChecked() {
+        // Given
+        FriendRequestNotificationDispatcher dispatcher = createDispatcher(Runnable::run);
+        given(friendRequestRepository.existsPendingByRequestId("tx-1", FriendRequestStatus.PENDING.name()))
+                .willReturn(true);
+        given(pendingFriendRequestCounter.getPendingCount(10L)).willReturn(3L);
+
+        // When
+        boolean dispatched = dispatcher.dispatch(notification);
+
+        // Then
+        assertThat(dispatched).isTrue();
+        verify(sseEmitterService).sendToSid("owner-session", "pending-count", 3L);
+        verify(notificationLogWriteBuffer).recordAttempt("tx-1", 10L, EventType.FRIEND_REQUEST);
+        verify(notificationLogWriteBuffer).recordStatus("tx-1", 10L, EventType.FRIEND_REQUEST, NotificationStatus.CHECKED, null);
+        assertThat(dispatcher.getDeliveredCount()).isEqualTo(1);
+        assertThat(dispatcher.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("SSE 발송 중 예외가 발생하면 ERROR 로 기록해 재시도 대상이 된다")
+    void dispatch_SendFailure_RecordsError() {
+        // Given
+        FriendRequestNotificationDispatcher dispatcher = createDispatcher(Runnable::run);
+        given(friendRequestRepository.existsPendingByRequestId("tx-1", FriendRequestStatus.PENDING.name()))
+                .willReturn(true);
+        given(pendingFriendRequestCounter.getPendingCount(10L)).willReturn(3L);
+        doThrow(new IllegalStateException("broker down"))
+                .when(sseEmitterService).sendToSid(anyString(), anyString(), any());
+
+        // When
+        dispatcher.dispatch(notification);
+
+        // Then
+        verify(notificationLogWriteBuffer).recordStatus(
+                eq("tx-1"), eq(10L), eq(EventType.FRIEND_REQUEST), eq(NotificationStatus.ERROR), anyString());
+        assertThat(dispatcher.getDeliveredCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("executor 가 포화되면 요청 스레드에서 발송하지 않고 ERROR 로 기록한다")
+    void dispatch_ExecutorSaturated_RecordsErrorWithoutDelivering() {
+        // Given
+        FriendRequestNotificationDispatcher dispatcher = createDispatcher(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // When
+        boolean dispatched = dispatcher.dispatch(notification);
+
+        // Then
+        assertThat(dispatched).isFalse();
+        assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+        verifyNoInteractions(friendRequestRepository, pendingFriendRequestCounter, sseEmitterService);
+        verify(notificationLogWriteBuffer).recordStatus(
+                eq("tx-1"), eq(10L), eq(EventType.FRIEND_REQUEST), eq(NotificationStatus.ERROR), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 처리 중인 알림은 중복으로 발송하지 않는다")
+    void dispatch_AlreadyInFlight_SkipsDuplicate() {
+        // Given
+        Runnable[] queued = new Runnable[1];
+        FriendRequestNotificationDispatcher dispatcher = createDispatcher(task -> queued[0] = task);
+
+        // When
+        boolean first = dispatcher.dispatch(notification);
+        boolean second = dispatcher.dispatch(notification);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+    }
+
+    private FriendRequestNotificationDispatcher createDispatcher(Executor executor) {
+        return new FriendRequestNotificationDispatcher(
+                friendRequestRepository, pendingFriendRequestCounter, sseEmitterService, notificationLogWriteBuffer, executor);
+    }
+}
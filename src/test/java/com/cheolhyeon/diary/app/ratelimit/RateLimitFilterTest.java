@@ -0,0 +1,153 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import com.cheolhyeon.diary.app.properties.ClientIpProperties;
+import com.cheolhyeon.diary.app.properties.RateLimitProperties;
+import com.cheolhyeon.diary.app.util.ClientIpResolver;
+import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    HttpServletRequest request;
+
+    @Mock
+    HttpServletResponse response;
+
+    @Mock
+    FilterChain filterChain;
+
+    @Mock
+    PrintWriter printWriter;
+
+    RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(1000);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("사용자별 제한을 넘으면 429 를 반환하고 다음 필터로 넘기지 않는다")
+    void doFilter_UserLimitExceeded_Returns429() throws ServletException, IOException {
+        // Given
+        RateLimitFilter filter = createFilter(new RateLimitProperties.Policy(
+                "search-user", "GET", "/api/friend-request/*", RateLimitKeyType.USER, 2, 2, Duration.ofMinutes(1)));
+        authenticate(1L);
+        given(request.getMethod()).willReturn("GET");
+        given(request.getRequestURI()).willReturn("/api/friend-request/PLAIN_CODE");
+        given(response.getWriter()).willReturn(printWriter);
+
+        // When
+        filter.doFilter(request, response, filterChain);
+        filter.doFilter(request, response, filterChain);
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(2)).doFilter(request, response);
+        verify(response).setStatus(429);
+        verify(response).setHeader("Retry-After", "30");
+        verify(printWriter).write(contains("요청이 너무 많습니다"));
+        assertThat(rateLimiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자마다 버킷이 분리된다")
+    void doFilter_DifferentUsers_SeparateBuckets() throws ServletException, IOException {
+        // Given
+        RateLimitFilter filter = createFilter(new RateLimitProperties.Policy(
+                "search-user", "GET", "/api/friend-request/*", RateLimitKeyType.USER, 1, 1, Duration.ofMinutes(1)));
+        given(request.getMethod()).willReturn("GET");
+        given(request.getRequestURI()).willReturn("/api/friend-request/PLAIN_CODE");
+
+        // When
+        authenticate(1L);
+        filter.doFilter(request, response, filterChain);
+        authenticate(2L);
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(2)).doFilter(request, response);
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("IP 정책은 클라이언트가 앞에 붙인 X-Forwarded-For 값이 바뀌어도 프록시가 기록한 주소로 제한한다")
+    void doFilter_IpPolicy_IgnoresSpoofedForwardedAddress() throws ServletException, IOException {
+        // Given
+        RateLimitFilter filter = createFilter(new RateLimitProperties.Policy(
+                "search-ip", "GET", "/api/friend-request/*", RateLimitKeyType.IP, 1, 1, Duration.ofMinutes(1)));
+        given(request.getMethod()).willReturn("GET");
+        given(request.getRequestURI()).willReturn("/api/friend-request/PLAIN_CODE");
+        given(request.getRemoteAddr()).willReturn("10.0.0.1");
+        given(request.getHeader("X-Forwarded-For")).willReturn("198.51.100.1, 203.0.113.7", "198.51.100.2, 203.0.113.7");
+        given(response.getWriter()).willReturn(printWriter);
+
+        // When
+        filter.doFilter(request, response, filterChain);
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(response).setStatus(429);
+    }
+
+    @Test
+    @DisplayName("정책에 맞지 않는 요청은 제한하지 않는다")
+    void doFilter_NonMatchingRequest_PassesThrough() throws ServletException, IOException {
+        // Given
+        RateLimitFilter filter = createFilter(new RateLimitProperties.Policy(
+                "search-user", "GET", "/api/friend-request/*", RateLimitKeyType.USER, 1, 1, Duration.ofMinutes(1)));
+        authenticate(1L);
+        given(request.getMethod()).willReturn("GET");
+        given(request.getRequestURI()).willReturn("/api/friend-request");
+
+        // When
+        filter.doFilter(request, response, filterChain);
+        filter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(filterChain, times(2)).doFilter(request, response);
+        assertThat(rateLimiter.getBucketCount()).isZero();
+    }
+
+    private RateLimitFilter createFilter(RateLimitProperties.Policy policy) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policy));
+        return new RateLimitFilter(rateLimiter, new ClientIpResolver(new ClientIpProperties()), properties);
+    }
+
+    private void authenticate(Long userId) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId, "session-" + userId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
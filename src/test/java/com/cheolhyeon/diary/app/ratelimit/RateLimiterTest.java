@@ -0,0 +1,31 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import com.cheolhyeon.diary.app.properties.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("버킷 수가 상한에 도달하면 새 주체는 정책별 공용 버킷을 나눠 쓴다")
+    void tryAcquire_MaxBuckets_NewSubjectsShareOverflowBucket() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(1);
+        RateLimitRule rule = new RateLimitRule(new RateLimitProperties.Policy(
+                "search-ip", "GET", "/api/friend-request/*", RateLimitKeyType.IP, 1, 1, Duration.ofMinutes(1)));
+        rateLimiter.tryAcquire(rule, "ip:203.0.113.1");
+
+        // When
+        boolean first = rateLimiter.tryAcquire(rule, "ip:203.0.113.2");
+        boolean second = rateLimiter.tryAcquire(rule, "ip:203.0.113.3");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(2);
+    }
+}
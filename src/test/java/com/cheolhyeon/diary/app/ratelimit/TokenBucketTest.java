@@ -0,0 +1,97 @@
+package com.cheolhyeon.diary.app.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 요청을 허용하고 이후에는 거절한다")
+    void tryConsume_BurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1, SECOND, 0L);
+
+        // When & Then
+        assertThat(bucket.tryConsume(0L)).isTrue();
+        assertThat(bucket.tryConsume(0L)).isTrue();
+        assertThat(bucket.tryConsume(0L)).isTrue();
+        assertThat(bucket.tryConsume(0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 경과 시간만큼 토큰이 채워진다")
+    void tryConsume_RefillsOverTime() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1, SECOND, 0L);
+        bucket.tryConsume(0L);
+        bucket.tryConsume(0L);
+
+        // When
+        boolean beforeRefill = bucket.tryConsume(SECOND / 2);
+        boolean afterRefill = bucket.tryConsume(SECOND);
+
+        // Then
+        assertThat(beforeRefill).isFalse();
+        assertThat(afterRefill).isTrue();
+        assertThat(bucket.tryConsume(SECOND)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버킷 크기 이상으로는 채워지지 않는다")
+    void tryConsume_RefillCappedAtCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1, SECOND, 0L);
+        bucket.tryConsume(0L);
+
+        // When
+        long later = 100 * SECOND;
+
+        // Then
+        assertThat(bucket.isFull(later)).isTrue();
+        assertThat(bucket.tryConsume(later)).isTrue();
+        assertThat(bucket.tryConsume(later)).isTrue();
+        assertThat(bucket.tryConsume(later)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 꺼내도 버킷 크기만큼만 허용한다")
+    void tryConsume_Concurrent_NeverExceedsCapacity() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, 1, 1000 * SECOND, 0L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1000);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryConsume(0L)) {
+                    allowed.incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("버킷 크기가 0 이하이면 예외가 발생한다")
+    void constructor_InvalidCapacity_ThrowsException() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, SECOND, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.cheolhyeon.diary.app.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimerWheelTest {
+
+    @Test
+    @DisplayName("마감 시각이 지난 항목만 반환한다")
+    void expire_ReturnsOnlyDueItems() {
+        // Given
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(1000L, 8, 0L);
+        wheel.schedule("early", 2500L);
+        wheel.schedule("late", 5000L);
+
+        // When
+        List<String> first = wheel.expire(3000L);
+        List<String> second = wheel.expire(5000L);
+
+        // Then
+        assertThat(first).containsExactly("early");
+        assertThat(second).containsExactly("late");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 마감은 바퀴가 돌아도 마감 전까지 유지된다")
+    void expire_DeadlineBeyondOneRotation_KeepsUntilDue() {
+        // Given
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(1000L, 4, 0L);
+        wheel.schedule("far", 10000L);
+
+        // When
+        List<String> beforeDue = wheel.expire(9000L);
+        List<String> afterDue = wheel.expire(10000L);
+
+        // Then
+        assertThat(beforeDue).isEmpty();
+        assertThat(afterDue).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감으로 예약해도 다음 처리에서 반환된다")
+    void schedule_PastDeadline_ExpiresOnNextTicks() {
+        // Given
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(1000L, 8, 0L);
+        wheel.expire(5000L);
+        wheel.schedule("past", 1000L);
+
+        // When
+        List<String> result = wheel.expire(7000L);
+
+        // Then
+        assertThat(result).containsExactly("past");
+    }
+
+    @Test
+    @DisplayName("휠 크기가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void constructor_WheelSizeNotPowerOfTwo_ThrowsException() {
+        assertThatThrownBy(() -> new HashedTimerWheel<String>(1000L, 6, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
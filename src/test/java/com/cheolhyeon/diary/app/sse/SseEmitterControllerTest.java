@@ -1,8 +1,7 @@
 package com.cheolhyeon.diary.app.sse;
 
 import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
-import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
-import com.cheolhyeon.diary.friendrequest.repository.FriendRequestRepository;
+import com.cheolhyeon.diary.friendrequest.service.PendingFriendRequestCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,7 +24,7 @@ class SseEmitterControllerTest {
     private SseEmitterService sseEmitterService;
 
     @Mock
-    private FriendRequestRepository friendRequestRepository;
+    private PendingFriendRequestCounter pendingFriendRequestCounter;
 
     @InjectMocks
     private SseEmitterController sseEmitterController;
@@ -40,8 +39,7 @@ class SseEmitterControllerTest {
 
         SseEmitter mockEmitter = new SseEmitter();
         given(sseEmitterService.subscribe(sessionId, userId)).willReturn(mockEmitter);
-        given(friendRequestRepository.countByRecipientId(userId, FriendRequestStatus.PENDING.name()))
-                .willReturn(0L);
+        given(pendingFriendRequestCounter.getPendingCount(userId)).willReturn(0L);
 
         // When
         SseEmitter result = sseEmitterController.subscribe(user);
@@ -51,7 +49,7 @@ class SseEmitterControllerTest {
         assertThat(result).isEqualTo(mockEmitter);
 
         verify(sseEmitterService).subscribe(sessionId, userId);
-        verify(friendRequestRepository).countByRecipientId(userId, FriendRequestStatus.PENDING.name());
+        verify(pendingFriendRequestCounter).getPendingCount(userId);
         verify(sseEmitterService).sendToSid(sessionId, "pending-count", 0L);
     }
 
@@ -65,8 +63,7 @@ class SseEmitterControllerTest {
 
         SseEmitter mockEmitter = new SseEmitter();
         given(sseEmitterService.subscribe(sessionId, userId)).willReturn(mockEmitter);
-        given(friendRequestRepository.countByRecipientId(userId, FriendRequestStatus.PENDING.name()))
-                .willReturn(5L);
+        given(pendingFriendRequestCounter.getPendingCount(userId)).willReturn(5L);
 
         // When
         SseEmitter result = sseEmitterController.subscribe(user);
@@ -75,7 +72,7 @@ class SseEmitterControllerTest {
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(mockEmitter);
         verify(sseEmitterService).subscribe(sessionId, userId);
-        verify(friendRequestRepository).countByRecipientId(userId, FriendRequestStatus.PENDING.name());
+        verify(pendingFriendRequestCounter).getPendingCount(userId);
         verify(sseEmitterService).sendToSid(sessionId, "pending-count", 5L);
     }
 
@@ -89,14 +86,14 @@ class SseEmitterControllerTest {
 
         SseEmitter mockEmitter = new SseEmitter();
         given(sseEmitterService.subscribe(anyString(), anyLong())).willReturn(mockEmitter);
-        given(friendRequestRepository.countByRecipientId(anyLong(), anyString())).willReturn(3L);
+        given(pendingFriendRequestCounter.getPendingCount(anyLong())).willReturn(3L);
 
         // When
         sseEmitterController.subscribe(user);
 
         // Then
         verify(sseEmitterService).subscribe(sessionId, userId);
-        verify(friendRequestRepository).countByRecipientId(userId, FriendRequestStatus.PENDING.name());
+        verify(pendingFriendRequestCounter).getPendingCount(userId);
         verify(sseEmitterService).sendToSid(sessionId, "pending-count", 3L);
     }
 
@@ -117,10 +114,8 @@ class SseEmitterControllerTest {
 
         given(sseEmitterService.subscribe(sessionId1, userId1)).willReturn(emitter1);
         given(sseEmitterService.subscribe(sessionId2, userId2)).willReturn(emitter2);
-        given(friendRequestRepository.countByRecipientId(userId1, FriendRequestStatus.PENDING.name()))
-                .willReturn(1L);
-        given(friendRequestRepository.countByRecipientId(userId2, FriendRequestStatus.PENDING.name()))
-                .willReturn(2L);
+        given(pendingFriendRequestCounter.getPendingCount(userId1)).willReturn(1L);
+        given(pendingFriendRequestCounter.getPendingCount(userId2)).willReturn(2L);
 
         // When
         SseEmitter result1 = sseEmitterController.subscribe(user1);
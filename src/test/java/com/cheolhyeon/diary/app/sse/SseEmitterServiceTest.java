@@ -1,10 +1,17 @@
 package com.cheolhyeon.diary.app.sse;
 
+import com.cheolhyeon.diary.app.sse.broker.InMemorySseBroker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("SseEmitterService 단위 테스트")
@@ -14,7 +21,7 @@ class SseEmitterServiceTest {
 
     @BeforeEach
     void setUp() {
-        sseEmitterService = new SseEmitterService();
+        sseEmitterService = new SseEmitterService(new InMemorySseBroker(), Runnable::run);
     }
 
     @Test
@@ -310,5 +317,126 @@ class SseEmitterServiceTest {
         sseEmitterService.removeConnection(session1);
         assertThat(sseEmitterService.getActiveConnectionCount()).isEqualTo(1);
     }
-}
 
+    @Test
+    @DisplayName("heartbeat 는 마지막 전송 후 임계값(25초)이 지난 세션에만 보내고, 보낸 뒤 다시 예약한다")
+    void sendHeartbeat_DispatchesOnlyDueSessions() {
+        // Given
+        AtomicLong now = new AtomicLong(1_000_000L);
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        SseEmitterService service = new SseEmitterService(new InMemorySseBroker(), tasks::add, now::get, 5000);
+        service.subscribe("session-1", 1L);
+
+        // When - 임계값 전에는 보내지 않는다
+        now.addAndGet(24_000);
+        service.sendHeartbeat();
+
+        // Then
+        assertThat(tasks).isEmpty();
+
+        // When - 임계값이 지나면 heartbeat executor 에 전송을 넘긴다
+        now.addAndGet(2_000);
+        service.sendHeartbeat();
+
+        // Then
+        assertThat(tasks).hasSize(1);
+
+        // When - 전송이 끝나면 그 시각 기준으로 다시 예약된다
+        tasks.get(0).run();
+        now.addAndGet(24_000);
+        service.sendHeartbeat();
+        assertThat(tasks).hasSize(1);
+        now.addAndGet(2_000);
+        service.sendHeartbeat();
+
+        // Then
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("마감 전에 다른 이벤트를 보냈다면 heartbeat 없이 마지막 전송 시각 기준으로 다시 예약한다")
+    void sendHeartbeat_RecentEvent_Reschedules() {
+        // Given
+        AtomicLong now = new AtomicLong(1_000_000L);
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        SseEmitterService service = new SseEmitterService(new InMemorySseBroker(), tasks::add, now::get, 5000);
+        service.subscribe("session-1", 1L);
+        now.addAndGet(20_000);
+        service.sendToSid("session-1", "pending-count", 1L);
+
+        // When
+        now.addAndGet(6_000);
+        service.sendHeartbeat();
+
+        // Then
+        assertThat(tasks).isEmpty();
+
+        // When - 마지막 이벤트 전송 후 25초가 지나면 보낸다
+        now.addAndGet(20_000);
+        service.sendHeartbeat();
+
+        // Then
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송이 제한 시간을 넘기면 전송 작업을 취소하고, 연결은 다음 tick 에 정리한다")
+    void sendHeartbeat_SendTimeout_CancelsTaskAndClosesOnNextTick() throws Exception {
+        // Given - 전송 작업을 실행하지 않아 멈춘 클라이언트를 흉내낸다
+        AtomicLong now = new AtomicLong(1_000_000L);
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        SseEmitterService service = new SseEmitterService(new InMemorySseBroker(), tasks::add, now::get, 50);
+        service.subscribe("session-1", 1L);
+        now.addAndGet(26_000);
+        service.sendHeartbeat();
+        Future<?> stuckSend = (Future<?>) tasks.get(0);
+
+        // When
+        long waitUntil = System.currentTimeMillis() + 5000;
+        while (!stuckSend.isCancelled() && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+
+        // Then - 지연 스레드에서는 취소만 하고 연결 정리는 하지 않는다
+        assertThat(stuckSend.isCancelled()).isTrue();
+        assertThat(service.getHeartbeatTimeoutCount()).isEqualTo(1);
+        assertThat(service.getActiveConnectionCount()).isEqualTo(1);
+
+        // When
+        now.addAndGet(1_000);
+        service.sendHeartbeat();
+
+        // Then - 연결 목록에서 빠지고, emitter 종료는 heartbeat executor 에 넘겨진다
+        assertThat(service.getActiveConnectionCount()).isZero();
+        assertThat(service.getUserConnectionCount(1L)).isZero();
+        assertThat(tasks).hasSize(2);
+        assertThatCode(() -> tasks.get(1).run()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("heartbeat executor 가 포화 상태면 다음 tick 에 다시 시도한다")
+    void sendHeartbeat_ExecutorRejected_RetriesNextTick() {
+        // Given
+        AtomicLong now = new AtomicLong(1_000_000L);
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        AtomicLong rejectRemaining = new AtomicLong(1);
+        SseEmitterService service = new SseEmitterService(new InMemorySseBroker(), task -> {
+            if (rejectRemaining.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("full");
+            }
+            tasks.add(task);
+        }, now::get, 5000);
+        service.subscribe("session-1", 1L);
+
+        // When
+        now.addAndGet(26_000);
+        service.sendHeartbeat();
+        now.addAndGet(2_000);
+        service.sendHeartbeat();
+
+        // Then
+        assertThat(service.getHeartbeatRejectedCount()).isEqualTo(1);
+        assertThat(tasks).hasSize(1);
+        assertThat(service.getActiveConnectionCount()).isEqualTo(1);
+    }
+}
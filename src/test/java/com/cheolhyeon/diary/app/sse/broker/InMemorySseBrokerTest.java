@@ -0,0 +1,88 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+import com.cheolhyeon.diary.app.sse.SseEmitterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemorySseBroker 단위 테스트")
+class InMemorySseBrokerTest {
+
+    private InMemorySseHub hub;
+    private InMemorySseBroker nodeA;
+    private InMemorySseBroker nodeB;
+    private final List<String> deliveredToA = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        hub = new InMemorySseHub();
+        nodeA = new InMemorySseBroker(hub);
+        nodeB = new InMemorySseBroker(hub);
+        nodeA.bindLocalDelivery((sessionId, eventName, payload) -> deliveredToA.add(sessionId + ":" + eventName + ":" + payload));
+        nodeB.bindLocalDelivery((sessionId, eventName, payload) -> false);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 등록된 세션으로 보낸 이벤트는 소유 노드에만 전달된다")
+    void publish_RemoteSession_DeliveredToOwnerNode() {
+        // Given
+        nodeA.register("session-1");
+
+        // When
+        boolean delivered = nodeB.publish("session-1", "pending-count", 3L);
+
+        // Then
+        assertThat(delivered).isTrue();
+        assertThat(deliveredToA).containsExactly("session-1:pending-count:3");
+    }
+
+    @Test
+    @DisplayName("어느 노드에도 등록되지 않은 세션이면 전달하지 않는다")
+    void publish_UnknownSession_ReturnsFalse() {
+        // When
+        boolean delivered = nodeB.publish("unknown-session", "pending-count", 1L);
+
+        // Then
+        assertThat(delivered).isFalse();
+        assertThat(deliveredToA).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드로 재연결된 세션은 이전 노드가 해제해도 유지된다")
+    void unregister_ByPreviousOwner_KeepsNewOwner() {
+        // Given
+        nodeA.register("session-1");
+        nodeB.register("session-1");
+
+        // When
+        nodeA.unregister("session-1");
+
+        // Then
+        assertThat(hub.ownerOf("session-1")).isSameAs(nodeB);
+    }
+
+    @Test
+    @DisplayName("SseEmitterService 는 로컬에 없는 세션을 브로커를 통해 다른 노드로 전달한다")
+    void sendToSid_RemoteSession_RoutedThroughBroker() {
+        // Given
+        InMemorySseBroker brokerA = new InMemorySseBroker(hub);
+        InMemorySseBroker brokerB = new InMemorySseBroker(hub);
+        SseEmitterService serviceA = new SseEmitterService(brokerA, Runnable::run);
+        SseEmitterService serviceB = new SseEmitterService(brokerB, Runnable::run);
+        serviceA.subscribe("session-2", 1L);
+
+        // When
+        boolean delivered = brokerB.publish("session-2", "pending-count", 5L);
+        serviceB.sendToSid("session-2", "pending-count", 5L);
+
+        // Then
+        assertThat(delivered).isTrue();
+        assertThat(serviceB.getActiveConnectionCount()).isZero();
+        assertThat(serviceA.getActiveConnectionCount()).isEqualTo(1);
+    }
+}
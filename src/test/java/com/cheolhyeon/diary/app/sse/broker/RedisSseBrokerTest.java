@@ -0,0 +1,149 @@
+package com.cheolhyeon.diary.app.sse.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RedisSseBroker 통합 테스트")
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSseBrokerTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final Duration SESSION_TTL = Duration.ofMinutes(10);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisSseBroker nodeA;
+    private RedisSseBroker nodeB;
+    private final List<String> deliveredToA = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+
+        nodeA = new RedisSseBroker(redisTemplate, new ObjectMapper(), connectionFactory, SESSION_TTL);
+        nodeB = new RedisSseBroker(redisTemplate, new ObjectMapper(), connectionFactory, SESSION_TTL);
+        nodeA.bindLocalDelivery((sessionId, eventName, payload) -> deliveredToA.add(sessionId + ":" + eventName + ":" + payload));
+        nodeB.bindLocalDelivery((sessionId, eventName, payload) -> false);
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("등록하면 세션 소유 노드를 TTL 과 함께 저장한다")
+    void register_StoresOwnerWithTtl() {
+        // When
+        nodeA.register("session-1");
+
+        // Then
+        assertThat(redisTemplate.opsForValue().get("sse:session:session-1")).isNotNull();
+        assertThat(redisTemplate.getExpire("sse:session:session-1", TimeUnit.SECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(SESSION_TTL.toSeconds());
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 줄어든 TTL 이 갱신된다")
+    void register_Again_RefreshesTtl() {
+        // Given
+        nodeA.register("session-1");
+        redisTemplate.expire("sse:session:session-1", Duration.ofSeconds(5));
+
+        // When
+        nodeA.register("session-1");
+
+        // Then
+        assertThat(redisTemplate.getExpire("sse:session:session-1", TimeUnit.SECONDS))
+                .isGreaterThan(5);
+    }
+
+    @Test
+    @DisplayName("다른 노드로 재연결된 세션은 이전 노드가 해제해도 유지된다")
+    void unregister_ByPreviousOwner_KeepsNewOwner() {
+        // Given
+        nodeA.register("session-1");
+        String ownerA = redisTemplate.opsForValue().get("sse:session:session-1");
+        nodeB.register("session-1");
+
+        // When
+        nodeA.unregister("session-1");
+
+        // Then
+        String owner = redisTemplate.opsForValue().get("sse:session:session-1");
+        assertThat(owner).isNotNull().isNotEqualTo(ownerA);
+
+        // When
+        nodeB.unregister("session-1");
+
+        // Then
+        assertThat(redisTemplate.hasKey("sse:session:session-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 등록된 세션으로 보낸 이벤트는 소유 노드의 채널로 전달된다")
+    void publish_RemoteSession_DeliveredToOwnerNode() throws Exception {
+        // Given
+        nodeA.register("session-1");
+
+        // When
+        // 구독은 비동기로 연결되므로 구독자가 생길 때까지 다시 보낸다
+        boolean delivered = false;
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!delivered && System.currentTimeMillis() < deadline) {
+            delivered = nodeB.publish("session-1", "pending-count", 3L);
+            if (!delivered) {
+                Thread.sleep(50);
+            }
+        }
+
+        // Then
+        assertThat(delivered).isTrue();
+        while (deliveredToA.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(deliveredToA).containsExactly("session-1:pending-count:3");
+    }
+
+    @Test
+    @DisplayName("어느 노드에도 등록되지 않은 세션이면 전달하지 않는다")
+    void publish_UnknownSession_ReturnsFalse() {
+        // When
+        boolean delivered = nodeB.publish("unknown-session", "pending-count", 1L);
+
+        // Then
+        assertThat(delivered).isFalse();
+        assertThat(deliveredToA).isEmpty();
+    }
+}
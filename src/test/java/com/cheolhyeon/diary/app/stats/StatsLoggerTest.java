@@ -0,0 +1,66 @@
+package com.cheolhyeon.diary.app.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatsLoggerTest {
+
+    @Test
+    @DisplayName("직전에 기록한 값과 같은 지표는 다시 기록하지 않는다")
+    void collectChanged_Unchanged_Skips() {
+        // Given
+        AtomicLong hits = new AtomicLong(1);
+        StatsLogger statsLogger = new StatsLogger(List.of(source("Test cache", () -> Map.of("hits", hits.get()))));
+
+        // When
+        Map<String, Map<String, Object>> first = statsLogger.collectChanged();
+        Map<String, Map<String, Object>> unchanged = statsLogger.collectChanged();
+        hits.incrementAndGet();
+        Map<String, Map<String, Object>> changed = statsLogger.collectChanged();
+
+        // Then
+        assertThat(first).containsEntry("Test cache", Map.of("hits", 1L));
+        assertThat(unchanged).isEmpty();
+        assertThat(changed).containsEntry("Test cache", Map.of("hits", 2L));
+    }
+
+    @Test
+    @DisplayName("비어 있는 지표와 수집에 실패한 지표는 건너뛰고 나머지는 기록한다")
+    void collectChanged_EmptyOrFailed_Skips() {
+        // Given
+        StatsLogger statsLogger = new StatsLogger(List.of(
+                source("Disabled", Map::of),
+                source("Broken", () -> {
+                    throw new IllegalStateException("boom");
+                }),
+                source("Healthy", () -> new LinkedHashMap<>(Map.of("size", 3)))));
+
+        // When
+        Map<String, Map<String, Object>> result = statsLogger.collectChanged();
+
+        // Then
+        assertThat(result).containsOnlyKeys("Healthy");
+    }
+
+    private static StatsSource source(String name, Supplier<Map<String, Object>> stats) {
+        return new StatsSource() {
+            @Override
+            public String statsName() {
+                return name;
+            }
+
+            @Override
+            public Map<String, Object> stats() {
+                return stats.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.cheolhyeon.diary.app.util;
+
+import com.cheolhyeon.diary.app.properties.ClientIpProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClientIpResolverTest {
+
+    @Mock
+    HttpServletRequest request;
+
+    ClientIpResolver clientIpResolver;
+
+    @BeforeEach
+    void setUp() {
+        clientIpResolver = new ClientIpResolver(new ClientIpProperties());
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 오른쪽부터 처음 만나는 외부 주소를 사용한다")
+    void resolve_TrustedProxy_UsesRightMostUntrustedHop() {
+        // Given
+        given(request.getRemoteAddr()).willReturn("10.0.0.5");
+        given(request.getHeader("X-Forwarded-For")).willReturn("1.2.3.4, 203.0.113.7, 10.0.0.9");
+
+        // When
+        String result = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(result).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("직접 연결한 클라이언트가 보낸 프록시 헤더는 무시한다")
+    void resolve_UntrustedRemote_IgnoresHeaders() {
+        // Given
+        given(request.getRemoteAddr()).willReturn("203.0.113.7");
+
+        // When
+        String result = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(result).isEqualTo("203.0.113.7");
+        verify(request, never()).getHeader("X-Forwarded-For");
+    }
+
+    @Test
+    @DisplayName("호스트 이름 같은 주소가 아닌 값은 신뢰하는 프록시로 보지 않는다")
+    void resolve_NonIpHop_NotTrusted() {
+        // Given
+        given(request.getRemoteAddr()).willReturn("127.0.0.1");
+        given(request.getHeader("X-Forwarded-For")).willReturn("localhost");
+
+        // When
+        String result = clientIpResolver.resolve(request);
+
+        // Then
+        assertThat(result).isEqualTo("localhost");
+    }
+}
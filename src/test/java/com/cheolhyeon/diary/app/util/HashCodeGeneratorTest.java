@@ -5,6 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -61,4 +71,50 @@ class HashCodeGeneratorTest {
         assertFalse(hash.contains("/"));
         assertFalse(hash.contains("="));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("해시 코드 생성 테스트 - 기존 구현(매번 Mac 생성 + 문자 치환)과 같은 값을 생성해야 함")
+    void testGenerateShareCodeHash_MatchesLegacyEncoding() throws Exception {
+        // given
+        String secret = Base64.getEncoder().encodeToString("hash-code-generator-test-secret-key".getBytes(StandardCharsets.UTF_8));
+        HashCodeGenerator generator = new HashCodeGenerator(secret);
+        String testCode = "testCode123?>~";
+
+        Mac legacyMac = Mac.getInstance("HmacSHA256");
+        legacyMac.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+        String legacyHash = Base64.getEncoder().encodeToString(legacyMac.doFinal(testCode.getBytes(StandardCharsets.UTF_8)))
+                .replace('+', '-')
+                .replace('/', '_')
+                .replace("=", "");
+
+        // when
+        String hash = generator.generateShareCodeHash(testCode);
+
+        // then
+        assertEquals(legacyHash, hash);
+    }
+
+    @Test
+    @DisplayName("해시 코드 생성 테스트 - 여러 스레드에서 동시에 호출해도 같은 입력은 같은 해시를 생성해야 함")
+    void testGenerateShareCodeHash_ConcurrentCallsAreConsistent() throws Exception {
+        // given
+        String testCode = "testCode123";
+        String expected = hashCodeGenerator.generateShareCodeHash(testCode);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(executor.submit(() -> hashCodeGenerator.generateShareCodeHash(testCode)));
+        }
+
+        // then
+        try {
+            for (Future<String> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
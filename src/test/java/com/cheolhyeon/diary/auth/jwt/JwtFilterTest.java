@@ -1,9 +1,8 @@
 package com.cheolhyeon.diary.auth.jwt;
 
 import com.cheolhyeon.diary.app.exception.session.SessionErrorStatus;
-import com.cheolhyeon.diary.auth.entity.AuthSession;
 import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
-import com.cheolhyeon.diary.auth.session.SessionRepository;
+import com.cheolhyeon.diary.auth.session.SessionValidityCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +18,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,7 +32,7 @@ class JwtFilterTest {
     JwtProvider jwtProvider;
 
     @Mock
-    SessionRepository sessionRepository;
+    SessionValidityCache sessionValidityCache;
 
     @Mock
     HttpServletRequest request;
@@ -114,10 +114,9 @@ class JwtFilterTest {
         String sessionId = "test-session-id";
         
         given(request.getHeader("Authorization")).willReturn(bearerToken);
-        given(jwtProvider.validateAccessToken(accessToken)).willReturn(true);
-        given(jwtProvider.getUserIdFromAccessToken(accessToken)).willReturn(userId);
-        given(jwtProvider.getSessionIdFromAccessToken(accessToken)).willReturn(sessionId);
-        given(sessionRepository.findById(sessionId)).willReturn(Optional.of(mock(AuthSession.class)));
+        given(jwtProvider.verifyAccessToken(accessToken))
+                .willReturn(Optional.of(new AccessTokenClaims(userId, sessionId, Instant.now().plusSeconds(3600))));
+        given(sessionValidityCache.isValid(sessionId)).willReturn(true);
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -201,7 +200,7 @@ class JwtFilterTest {
         String accessToken = "invalid.jwt.token";
         
         given(request.getHeader("Authorization")).willReturn(bearerToken);
-        given(jwtProvider.validateAccessToken(accessToken)).willReturn(false);
+        given(jwtProvider.verifyAccessToken(accessToken)).willReturn(Optional.empty());
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -222,10 +221,9 @@ class JwtFilterTest {
         String sessionId = "test-session-id";
         
         given(request.getHeader("Authorization")).willReturn(bearerToken);
-        given(jwtProvider.validateAccessToken(accessToken)).willReturn(true);
-        given(jwtProvider.getUserIdFromAccessToken(accessToken)).willReturn(userId);
-        given(jwtProvider.getSessionIdFromAccessToken(accessToken)).willReturn(sessionId);
-        given(sessionRepository.findById(sessionId)).willReturn(Optional.empty()); // 세션을 찾을 수 없음
+        given(jwtProvider.verifyAccessToken(accessToken))
+                .willReturn(Optional.of(new AccessTokenClaims(userId, sessionId, Instant.now().plusSeconds(3600))));
+        given(sessionValidityCache.isValid(sessionId)).willReturn(false); // 세션을 찾을 수 없음
         given(response.getWriter()).willReturn(printWriter);
 
         // When
@@ -2,6 +2,7 @@ package com.cheolhyeon.diary.auth.jwt;
 
 import com.cheolhyeon.diary.app.properties.JwtProperties;
 import com.cheolhyeon.diary.app.util.HashCodeGenerator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +10,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -31,11 +34,16 @@ class JwtProviderTest {
     private final int accessTokenExpiration = 3600000; // 1시간
     private final int rtLengthBytes = 32;
 
+    @BeforeEach
+    void setUp() {
+        given(jwtProperties.getSecret()).willReturn(testSecret);
+        jwtProvider.init();
+    }
+
     @Test
     @DisplayName("Access Token 생성 성공 테스트")
     void generateAccessToken_Success() {
         // Given
-        given(jwtProperties.getSecret()).willReturn(testSecret);
         given(jwtProperties.getIss()).willReturn(testIssuer);
         given(jwtProperties.getAccessTokenExpiration()).willReturn(accessTokenExpiration);
         
@@ -55,7 +63,6 @@ class JwtProviderTest {
     @DisplayName("Access Token에서 Session ID 추출 성공 테스트")
     void getSessionIdFromAccessToken_Success() {
         // Given
-        given(jwtProperties.getSecret()).willReturn(testSecret);
         given(jwtProperties.getIss()).willReturn(testIssuer);
         given(jwtProperties.getAccessTokenExpiration()).willReturn(accessTokenExpiration);
         
@@ -74,7 +81,6 @@ class JwtProviderTest {
     @DisplayName("Access Token에서 User ID 추출 성공 테스트")
     void getUserIdFromAccessToken_Success() {
         // Given
-        given(jwtProperties.getSecret()).willReturn(testSecret);
         given(jwtProperties.getIss()).willReturn(testIssuer);
         given(jwtProperties.getAccessTokenExpiration()).willReturn(accessTokenExpiration);
         
@@ -93,7 +99,6 @@ class JwtProviderTest {
     @DisplayName("Access Token 유효성 검증 성공 테스트")
     void validateAccessToken_ValidToken_Success() {
         // Given
-        given(jwtProperties.getSecret()).willReturn(testSecret);
         given(jwtProperties.getIss()).willReturn(testIssuer);
         given(jwtProperties.getAccessTokenExpiration()).willReturn(accessTokenExpiration);
         
@@ -112,8 +117,6 @@ class JwtProviderTest {
     @DisplayName("Access Token 유효성 검증 실패 - 잘못된 서명")
     void validateAccessToken_InvalidSignature_Failure() {
         // Given
-        given(jwtProperties.getSecret()).willReturn(testSecret);
-        
         String invalidToken = "invalid.token.signature";
 
         // When
@@ -191,4 +194,35 @@ class JwtProviderTest {
         // Then
         assertThat(expirationTime).isEqualTo(currentTime + refreshTokenExpiration);
     }
+
+    @Test
+    @DisplayName("Access Token 한 번의 검증으로 userId, sessionId, 만료 시각 추출")
+    void verifyAccessToken_ValidToken_ReturnsClaims() {
+        // Given
+        given(jwtProperties.getIss()).willReturn(testIssuer);
+        given(jwtProperties.getAccessTokenExpiration()).willReturn(accessTokenExpiration);
+
+        Long userId = 1L;
+        String sessionId = "test-session-id";
+        String accessToken = jwtProvider.generateAccessToken(userId, sessionId);
+
+        // When
+        Optional<AccessTokenClaims> claims = jwtProvider.verifyAccessToken(accessToken);
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getUserId()).isEqualTo(userId);
+        assertThat(claims.get().getSessionId()).isEqualTo(sessionId);
+        assertThat(claims.get().getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("Access Token 검증 실패 시 빈 Optional 반환")
+    void verifyAccessToken_InvalidToken_ReturnsEmpty() {
+        // When
+        Optional<AccessTokenClaims> claims = jwtProvider.verifyAccessToken("invalid.token.signature");
+
+        // Then
+        assertThat(claims).isEmpty();
+    }
 }
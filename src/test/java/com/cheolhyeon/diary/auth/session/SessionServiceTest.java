@@ -2,6 +2,7 @@ package com.cheolhyeon.diary.auth.session;
 
 import com.cheolhyeon.diary.app.exception.session.SessionErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.SessionException;
+import com.cheolhyeon.diary.app.util.ClientIpResolver;
 import com.cheolhyeon.diary.auth.entity.AuthSession;
 import com.cheolhyeon.diary.auth.jwt.JwtProvider;
 import jakarta.servlet.http.HttpServletResponse;
@@ -32,6 +33,12 @@ class SessionServiceTest {
     @Mock
     SessionRepository sessionRepository;
 
+    @Mock
+    SessionValidityCache sessionValidityCache;
+
+    @Mock
+    ClientIpResolver clientIpResolver;
+
     @Mock
     HttpServletResponse response;
 
@@ -88,6 +95,7 @@ class SessionServiceTest {
                 .hasFieldOrPropertyWithValue("errorStatus", SessionErrorStatus.SESSION_EXPIRED);
 
         verify(sessionRepository).deleteById(testSid);
+        verify(sessionValidityCache).invalidate(testSid);
         verify(response, times(2)).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
     }
 
@@ -123,6 +131,7 @@ class SessionServiceTest {
                 .hasFieldOrPropertyWithValue("errorStatus", SessionErrorStatus.SESSION_EXPIRED);
 
         verify(sessionRepository).deleteById(testSid);
+        verify(sessionValidityCache).invalidate(testSid);
         verify(response, times(2)).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
     }
 
@@ -0,0 +1,131 @@
+package com.cheolhyeon.diary.auth.session;
+
+import com.cheolhyeon.diary.app.cluster.ClusterBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SessionValidityCacheTest {
+
+    @Mock
+    SessionRepository sessionRepository;
+
+    @Mock
+    ClusterBroadcaster clusterBroadcaster;
+
+    SessionValidityCache sessionValidityCache;
+
+    private final String testSid = "test-session-id";
+
+    @BeforeEach
+    void setUp() {
+        sessionValidityCache = new SessionValidityCache(
+                sessionRepository, clusterBroadcaster, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("존재하는 세션은 한 번만 조회하고 이후에는 캐시에서 응답한다")
+    void isValid_ExistingSession_CachesResult() {
+        // Given
+        given(sessionRepository.existsById(testSid)).willReturn(true);
+
+        // When
+        boolean first = sessionValidityCache.isValid(testSid);
+        boolean second = sessionValidityCache.isValid(testSid);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(sessionRepository, times(1)).existsById(testSid);
+        assertThat(sessionValidityCache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 세션도 캐싱한다")
+    void isValid_MissingSession_CachesNegativeResult() {
+        // Given
+        given(sessionRepository.existsById(testSid)).willReturn(false);
+
+        // When
+        sessionValidityCache.isValid(testSid);
+        boolean result = sessionValidityCache.isValid(testSid);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(sessionRepository, times(1)).existsById(testSid);
+    }
+
+    @Test
+    @DisplayName("무효화된 세션은 다시 DB 에서 조회한다")
+    void invalidate_ForcesReload() {
+        // Given
+        given(sessionRepository.existsById(testSid)).willReturn(true, false);
+        sessionValidityCache.isValid(testSid);
+
+        // When
+        sessionValidityCache.invalidate(testSid);
+        boolean result = sessionValidityCache.isValid(testSid);
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(sessionValidityCache.getInvalidationCount()).isEqualTo(1);
+        verify(sessionRepository, times(2)).existsById(testSid);
+        verify(clusterBroadcaster).broadcast("session-invalidation", testSid);
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 무효화되면 읽은 값을 캐싱하지 않는다")
+    void isValid_InvalidatedDuringLoad_NotCached() {
+        // Given
+        given(sessionRepository.existsById(testSid))
+                .willAnswer(invocation -> {
+                    // DB 를 읽은 직후 로그아웃이 커밋된 경우
+                    sessionValidityCache.invalidate(testSid);
+                    return true;
+                })
+                .willReturn(false);
+
+        // When
+        boolean stale = sessionValidityCache.isValid(testSid);
+        boolean result = sessionValidityCache.isValid(testSid);
+
+        // Then
+        assertThat(stale).isTrue();
+        assertThat(result).isFalse();
+        verify(sessionRepository, times(2)).existsById(testSid);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 무효화된 세션은 이 노드의 캐시에서도 빠진다")
+    void subscribe_RemoteInvalidation_EvictsLocalEntry() {
+        // Given
+        given(sessionRepository.existsById(testSid)).willReturn(true, false);
+        sessionValidityCache.subscribe();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(clusterBroadcaster).subscribe(eq("session-invalidation"), eq(String.class), handler.capture());
+        sessionValidityCache.isValid(testSid);
+
+        // When
+        handler.getValue().accept(testSid);
+        boolean result = sessionValidityCache.isValid(testSid);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(sessionRepository, times(2)).existsById(testSid);
+    }
+}
@@ -6,7 +6,10 @@ import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryCreateRequest;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryUpdateRequest;
 import com.cheolhyeon.diary.diary.dto.response.*;
+import com.cheolhyeon.diary.diary.enums.ExportFormat;
+import com.cheolhyeon.diary.diary.service.DiaryExportService;
 import com.cheolhyeon.diary.diary.service.DiaryService;
+import com.cheolhyeon.diary.diary.service.DiaryTagService;
 import com.github.f4b6a3.ulid.Ulid;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,9 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -28,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class DiaryControllerTest {
@@ -35,6 +42,12 @@ class DiaryControllerTest {
     @Mock
     DiaryService diaryService;
 
+    @Mock
+    DiaryExportService diaryExportService;
+
+    @Mock
+    DiaryTagService diaryTagService;
+
     @Mock
     MultipartFile mockImage1;
 
@@ -159,6 +172,38 @@ class DiaryControllerTest {
         verify(diaryService).readDiariesByYearAndMonth(userId, year, month);
     }
 
+    @Test
+    @DisplayName("타임라인 조회 API 테스트")
+    void getTimeline_Success() {
+        // Given
+        CustomUserPrincipal user = new CustomUserPrincipal(userId, "test-session-id");
+        String cursor = "01K5GMK22MR1DZGJ0MD191NRJ6";
+
+        DiarySummaryResponse mockDiary = DiarySummaryResponse.builder()
+                .diaryIdString("01K5GMK22MR1DZGJ0MD191NRJ5")
+                .displayName("테스트유저")
+                .title("테스트 제목")
+                .build();
+        DiarySliceResponse expectedResponse = DiarySliceResponse.builder()
+                .diaries(List.of(mockDiary))
+                .nextCursor("01K5GMK22MR1DZGJ0MD191NRJ5")
+                .hasNext(true)
+                .build();
+
+        given(diaryService.readTimeline(userId, cursor, 1))
+                .willReturn(expectedResponse);
+
+        // When
+        ResponseEntity<DiarySliceResponse> result = diaryController.getTimeline(user, cursor, 1);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isNotNull();
+        assertThat(result.getBody().getDiaries()).hasSize(1);
+        assertThat(result.getBody().getNextCursor()).isEqualTo("01K5GMK22MR1DZGJ0MD191NRJ5");
+        verify(diaryService).readTimeline(userId, cursor, 1);
+    }
+
     @Test
     @DisplayName("다이어리 ID로 조회 API 테스트")
     void getDiaryById_Success() {
@@ -357,4 +402,69 @@ class DiaryControllerTest {
 
         verify(diaryService).deleteDiary(diaryIdBytes);
     }
+
+    @Test
+    @DisplayName("일기 검색 API 테스트")
+    void searchDiaries_Success() {
+        // Given
+        CustomUserPrincipal user = new CustomUserPrincipal(userId, "test-session-id");
+        DiarySliceResponse expectedResponse = new DiarySliceResponse(List.of(), null, false);
+        given(diaryService.searchDiaries(userId, "제주", "여행", null, 20)).willReturn(expectedResponse);
+
+        // When
+        ResponseEntity<DiarySliceResponse> result = diaryController.searchDiaries(user, "제주", "여행", null, 20);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(expectedResponse);
+        verify(diaryService).searchDiaries(userId, "제주", "여행", null, 20);
+    }
+
+    @Test
+    @DisplayName("자주 사용한 태그 조회 API 테스트")
+    void getTopTags_Success() {
+        // Given
+        CustomUserPrincipal user = new CustomUserPrincipal(userId, "test-session-id");
+        List<TagCountResponse> expectedResponse = List.of(new TagCountResponse("여행", 3));
+        given(diaryTagService.readTopTags(userId, 10)).willReturn(expectedResponse);
+
+        // When
+        ResponseEntity<List<TagCountResponse>> result = diaryController.getTopTags(user, 10);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isSameAs(expectedResponse);
+    }
+
+    @Test
+    @DisplayName("일기 내보내기 API - 형식에 맞는 Content-Type 과 첨부파일 헤더를 응답한다")
+    void exportDiaries_Zip_Success() {
+        // Given
+        CustomUserPrincipal user = new CustomUserPrincipal(userId, "test-session-id");
+        StreamingResponseBody body = outputStream -> {};
+        given(diaryExportService.export(userId, ExportFormat.ZIP, null)).willReturn(body);
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = diaryController.exportDiaries(user, "zip", null);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/zip"));
+        assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=diary-export.zip");
+        assertThat(result.getBody()).isSameAs(body);
+    }
+
+    @Test
+    @DisplayName("일기 내보내기 API - 지원하지 않는 형식이면 예외 발생")
+    void exportDiaries_InvalidFormat_ThrowsException() {
+        // Given
+        CustomUserPrincipal user = new CustomUserPrincipal(userId, "test-session-id");
+
+        // When & Then
+        assertThatThrownBy(() -> diaryController.exportDiaries(user, "csv", null))
+                .isInstanceOf(DiaryException.class)
+                .hasMessage(DiaryErrorStatus.INVALID_EXPORT_FORMAT.getErrorDescription());
+        verifyNoInteractions(diaryExportService);
+    }
 }
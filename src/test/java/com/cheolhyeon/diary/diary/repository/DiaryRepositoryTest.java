@@ -1,9 +1,11 @@
 package com.cheolhyeon.diary.diary.repository;
 
 import com.cheolhyeon.diary.app.util.UlidGenerator;
+import com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow;
 import com.cheolhyeon.diary.diary.entity.Diaries;
 import com.cheolhyeon.diary.diary.enums.Mood;
 import com.cheolhyeon.diary.diary.enums.Weather;
+import com.github.f4b6a3.ulid.UlidCreator;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,7 +77,7 @@ class DiaryRepositoryTest {
         createTestDiary(id3,"일기3",testStart.plusDays(15));
 
         //when
-        List<Diaries> result = diaryRepository.findAllByYearAndMonth(1L, startMonth, endMonth);
+        List<DiaryCalendarRow> result = diaryRepository.findCalendarByYearAndMonth(1L, startMonth, endMonth, 100);
 
         //then
         Assertions.assertEquals(3, result.size());
@@ -85,6 +87,52 @@ class DiaryRepositoryTest {
         Assertions.assertEquals("일기1", result.get(2).getTitle());
     }
 
+    @Test
+    @DisplayName("캘린더 조회는 삭제된 일기를 제외하고 본문은 미리보기 길이만큼만 가져온다")
+    void findCalendarByYearAndMonth_ExcludesDeletedAndTruncatesContent() {
+        //given
+        byte[] id1 = UlidGenerator.generatorUlidAsBytes();
+        byte[] id2 = UlidGenerator.generatorUlidAsBytes();
+        LocalDate searchDate = LocalDate.of(2024, 1, 1);
+        LocalDateTime startMonth = searchDate.atStartOfDay();
+        LocalDateTime endMonth = startMonth.plusMonths(1);
+
+        createTestDiary(id1,"일기1",testStart.plusHours(1));
+        createTestDiary(id2,"일기2",testStart.plusDays(10));
+        diaryRepository.findById(id2).orElseThrow().softDeletedAt();
+        diaryRepository.flush();
+
+        //when
+        List<DiaryCalendarRow> result = diaryRepository.findCalendarByYearAndMonth(1L, startMonth, endMonth, 2);
+
+        //then
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals("일기1", result.get(0).getTitle());
+        Assertions.assertEquals("테스", result.get(0).getContentPreview());
+    }
+
+    @Test
+    @DisplayName("타임라인은 커서보다 오래된 일기를 diary_id 역순으로 limit 만큼 조회한다")
+    void findTimeline() {
+        //given
+        // 같은 ms 안에서도 순서가 보장되도록 monotonic ULID 사용
+        byte[] id1 = UlidCreator.getMonotonicUlid().toBytes();
+        byte[] id2 = UlidCreator.getMonotonicUlid().toBytes();
+        byte[] id3 = UlidCreator.getMonotonicUlid().toBytes();
+
+        createTestDiary(id1,"일기1",testStart.plusHours(1));
+        createTestDiary(id2,"일기2",testStart.plusHours(2));
+        createTestDiary(id3,"일기3",testStart.plusHours(3));
+
+        //when
+        List<Diaries> result = diaryRepository.findTimeline(1L, id3, 10);
+
+        //then
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals("일기2", result.get(0).getTitle());
+        Assertions.assertEquals("일기1", result.get(1).getTitle());
+    }
+
     private void createTestDiary(byte[] diaryId, String title, LocalDateTime updatedAt) {
         Diaries diary = Diaries.builder()
                 .writerId(1L)
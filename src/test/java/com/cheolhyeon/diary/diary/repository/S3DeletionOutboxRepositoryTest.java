@@ -0,0 +1,127 @@
+package com.cheolhyeon.diary.diary.repository;
+
+import com.cheolhyeon.diary.diary.entity.S3DeletionOutbox;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@DataJpaTest
+@Transactional
+@ActiveProfiles("test")
+class S3DeletionOutboxRepositoryTest {
+    @Autowired
+    private S3DeletionOutboxRepository s3DeletionOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        s3DeletionOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("실패가 많이 쌓여도 백오프 계산이 DOUBLE 범위를 넘지 않고 최대 대기 시간으로 묶인다")
+    void markFailed_ManyAttempts_CapsDelay() {
+        //given
+        S3DeletionOutbox row = save("a.jpg", 2000, dbNow().minusMinutes(1));
+
+        //when
+        LocalDateTime before = dbNow();
+        int updated = s3DeletionOutboxRepository.markFailed(row.getId(), "SlowDown", 30L, 3600L, 5000);
+
+        //then
+        Assertions.assertEquals(1, updated);
+        S3DeletionOutbox result = reload(row.getId());
+        Assertions.assertEquals(2001, result.getAttempts());
+        Assertions.assertEquals("SlowDown", result.getLastError());
+        Assertions.assertNull(result.getDeadLetteredAt());
+        Duration delay = Duration.between(before, result.getNextAttemptAt());
+        Assertions.assertTrue(delay.toSeconds() >= 3599 && delay.toSeconds() <= 3601, delay.toString());
+    }
+
+    @Test
+    @DisplayName("증가 전 attempts 로 지수 백오프를 계산한다")
+    void markFailed_UsesAttemptsBeforeIncrement() {
+        //given
+        S3DeletionOutbox row = save("a.jpg", 2, dbNow().minusMinutes(1));
+
+        //when
+        LocalDateTime before = dbNow();
+        s3DeletionOutboxRepository.markFailed(row.getId(), "SlowDown", 30L, 3600L, 30);
+
+        //then
+        S3DeletionOutbox result = reload(row.getId());
+        Assertions.assertEquals(3, result.getAttempts());
+        //30 * 2^2 = 120초
+        Duration delay = Duration.between(before, result.getNextAttemptAt());
+        Assertions.assertTrue(delay.toSeconds() >= 119 && delay.toSeconds() <= 121, delay.toString());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 행은 dead letter 로 남고 더 이상 꺼내지 않는다")
+    void markFailed_MaxAttempts_DeadLetters() {
+        //given
+        S3DeletionOutbox row = save("a.jpg", 29, dbNow().minusMinutes(1));
+
+        //when
+        s3DeletionOutboxRepository.markFailed(row.getId(), "AccessDenied", 0L, 0L, 30);
+
+        //then
+        S3DeletionOutbox result = reload(row.getId());
+        Assertions.assertEquals(30, result.getAttempts());
+        Assertions.assertNotNull(result.getDeadLetteredAt());
+        Assertions.assertTrue(s3DeletionOutboxRepository.findDue(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("다음 시도 시각이 지난 행만 오래된 순으로 꺼낸다")
+    void findDue_ReturnsOnlyDueRowsInOrder() {
+        //given
+        LocalDateTime now = dbNow();
+        save("later.jpg", 0, now.minusSeconds(10));
+        save("future.jpg", 0, LocalDateTime.of(2999, 1, 1, 0, 0));
+        save("earlier.jpg", 1, now.minusMinutes(10));
+
+        //when
+        List<S3DeletionOutbox> result = s3DeletionOutboxRepository.findDue(10);
+
+        //then
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals("earlier.jpg", result.get(0).getS3Key());
+        Assertions.assertEquals("later.jpg", result.get(1).getS3Key());
+    }
+
+    //NOW(6) 는 DB 시계를 따르므로 기준 시각도 DB 에서 읽는다
+    private LocalDateTime dbNow() {
+        Object now = entityManager.createNativeQuery("SELECT NOW(6)").getSingleResult();
+        return now instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) now;
+    }
+
+    private S3DeletionOutbox reload(Long id) {
+        entityManager.clear();
+        return s3DeletionOutboxRepository.findById(id).orElseThrow();
+    }
+
+    private S3DeletionOutbox save(String s3Key, int attempts, LocalDateTime nextAttemptAt) {
+        S3DeletionOutbox row = S3DeletionOutbox.builder()
+                .s3Key(s3Key)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(nextAttemptAt)
+                .build();
+        return s3DeletionOutboxRepository.saveAndFlush(row);
+    }
+}
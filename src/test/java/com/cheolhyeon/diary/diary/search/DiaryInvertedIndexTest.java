@@ -0,0 +1,220 @@
+package com.cheolhyeon.diary.diary.search;
+
+import com.cheolhyeon.diary.app.event.diary.DiaryIndexEvent;
+import com.cheolhyeon.diary.app.properties.DiarySearchProperties;
+import com.cheolhyeon.diary.diary.enums.SearchEngine;
+import com.github.f4b6a3.ulid.Ulid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryInvertedIndexTest {
+
+    DiaryInvertedIndex diaryInvertedIndex;
+
+    private final Long writerId = 100L;
+    private final byte[] firstCursor = createFirstCursor();
+
+    @BeforeEach
+    void setUp() {
+        DiarySearchProperties properties = new DiarySearchProperties();
+        properties.setEngine(SearchEngine.MEMORY);
+        diaryInvertedIndex = new DiaryInvertedIndex(properties);
+        diaryInvertedIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 일기만 diaryId 내림차순으로 찾는다")
+    void search_AllTermsRequired_OrderedByDiaryIdDesc() {
+        // Given
+        Ulid base = Ulid.fast();
+        byte[] older = base.toBytes();
+        byte[] newer = base.increment().toBytes();
+        byte[] other = base.increment().increment().toBytes();
+        diaryInvertedIndex.upsert(writerId, older, "제주 여행", "바다가 좋았다", List.of());
+        diaryInvertedIndex.upsert(writerId, newer, "제주 둘째 날", "바다 수영", List.of());
+        diaryInvertedIndex.upsert(writerId, other, "제주 출장", "회의", List.of());
+
+        // When
+        List<byte[]> result = diaryInvertedIndex.search(writerId, List.of("제주", "바다"), null, firstCursor, 10);
+
+        // Then
+        assertThat(result).containsExactly(newer, older);
+    }
+
+    @Test
+    @DisplayName("stats 는 읽기만 하므로 여러 번 불러도 같은 값을 돌려준다")
+    void stats_RepeatedReads_ReturnSameSnapshot() {
+        // Given
+        diaryInvertedIndex.upsert(writerId, Ulid.fast().toBytes(), "제주 여행", "바다", List.of());
+        diaryInvertedIndex.search(writerId, List.of("제주"), null, firstCursor, 10);
+
+        // When
+        Map<String, Object> first = diaryInvertedIndex.stats();
+        Map<String, Object> second = diaryInvertedIndex.stats();
+
+        // Then
+        assertThat(first).containsEntry("searches", 1L);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("다른 작성자의 일기는 검색되지 않는다")
+    void search_OtherWriter_NotMatched() {
+        // Given
+        diaryInvertedIndex.upsert(writerId, Ulid.fast().toBytes(), "제주 여행", "바다", List.of());
+
+        // When
+        List<byte[]> result = diaryInvertedIndex.search(200L, List.of("제주"), null, firstCursor, 10);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태그는 정규화하여 정확히 일치하는 일기만 찾는다")
+    void search_Tag_ExactMatch() {
+        // Given
+        byte[] tagged = Ulid.fast().toBytes();
+        diaryInvertedIndex.upsert(writerId, tagged, "일기", "내용", List.of("#Travel"));
+        diaryInvertedIndex.upsert(writerId, Ulid.fast().toBytes(), "일기", "내용", List.of("travel-log"));
+
+        // When
+        List<byte[]> result = diaryInvertedIndex.search(writerId, List.of(), " travel ", firstCursor, 10);
+
+        // Then
+        assertThat(result).containsExactly(tagged);
+    }
+
+    @Test
+    @DisplayName("수정 이벤트는 이전 내용을 색인에서 지우고 삭제 이벤트는 일기를 뺀다")
+    void apply_UpdateAndDelete() {
+        // Given
+        byte[] diaryId = Ulid.fast().toBytes();
+        diaryInvertedIndex.apply(new DiaryIndexEvent(writerId, diaryId, "제주", "바다", List.of(), false));
+
+        // When
+        diaryInvertedIndex.apply(new DiaryIndexEvent(writerId, diaryId, "서울", "카페", List.of(), false));
+
+        // Then
+        assertThat(diaryInvertedIndex.search(writerId, List.of("제주"), null, firstCursor, 10)).isEmpty();
+        assertThat(diaryInvertedIndex.search(writerId, List.of("카페"), null, firstCursor, 10)).containsExactly(diaryId);
+
+        // When
+        diaryInvertedIndex.apply(new DiaryIndexEvent(writerId, diaryId, null, null, null, true));
+
+        // Then
+        assertThat(diaryInvertedIndex.search(writerId, List.of("카페"), null, firstCursor, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("준비되기 전 변경은 로딩이 덮어쓰지 못하도록 모아 두었다가 순서대로 반영한다")
+    void apply_BeforeReady_ReplayedInOrderAfterLoad() {
+        // Given
+        DiarySearchProperties properties = new DiarySearchProperties();
+        properties.setEngine(SearchEngine.MEMORY);
+        DiaryInvertedIndex loading = new DiaryInvertedIndex(properties);
+        byte[] diaryId = Ulid.fast().toBytes();
+        loading.apply(new DiaryIndexEvent(writerId, diaryId, "서울", "카페", List.of(), false));
+        loading.apply(new DiaryIndexEvent(writerId, diaryId, "부산", "해변", List.of(), false));
+        // 로딩 중 DB 에서 읽은 이전 버전
+        loading.upsert(writerId, diaryId, "제주", "바다", List.of());
+
+        // When
+        int replayed = loading.markReady();
+
+        // Then
+        assertThat(replayed).isEqualTo(2);
+        assertThat(loading.search(writerId, List.of("제주"), null, firstCursor, 10)).isEmpty();
+        assertThat(loading.search(writerId, List.of("카페"), null, firstCursor, 10)).isEmpty();
+        assertThat(loading.search(writerId, List.of("해변"), null, firstCursor, 10)).containsExactly(diaryId);
+    }
+
+    @Test
+    @DisplayName("로딩에 실패하면 이후 변경을 모으지 않는다")
+    void apply_Abandoned_Ignored() {
+        // Given
+        DiarySearchProperties properties = new DiarySearchProperties();
+        properties.setEngine(SearchEngine.MEMORY);
+        DiaryInvertedIndex failed = new DiaryInvertedIndex(properties);
+        failed.apply(new DiaryIndexEvent(writerId, Ulid.fast().toBytes(), "제주", "바다", List.of(), false));
+
+        // When
+        failed.abandon();
+        failed.apply(new DiaryIndexEvent(writerId, Ulid.fast().toBytes(), "서울", "카페", List.of(), false));
+
+        // Then
+        assertThat(failed.isReady()).isFalse();
+        assertThat(failed.getPartitionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("cursor 보다 작은 diaryId 만 limit 건 반환한다")
+    void search_CursorAndLimit() {
+        // Given
+        Ulid base = Ulid.fast();
+        byte[] first = base.toBytes();
+        byte[] second = base.increment().toBytes();
+        byte[] third = base.increment().increment().toBytes();
+        for (byte[] diaryId : List.of(first, second, third)) {
+            diaryInvertedIndex.upsert(writerId, diaryId, "산책", "", List.of());
+        }
+
+        // When
+        List<byte[]> result = diaryInvertedIndex.search(writerId, List.of("산책"), null, third, 1);
+
+        // Then
+        assertThat(result).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("엔진이 memory 가 아니면 이벤트를 무시한다")
+    void apply_Disabled_Ignored() {
+        // Given
+        DiaryInvertedIndex disabled = new DiaryInvertedIndex(new DiarySearchProperties());
+
+        // When
+        disabled.apply(new DiaryIndexEvent(writerId, Ulid.fast().toBytes(), "제주", "바다", List.of(), false));
+
+        // Then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.getPartitionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 쓰고 다시 읽으면 같은 검색 결과를 돌려준다")
+    void snapshot_RoundTrip(@TempDir Path tempDir) throws Exception {
+        // Given
+        byte[] kept = Ulid.fast().toBytes();
+        byte[] removed = Ulid.fast().increment().toBytes();
+        diaryInvertedIndex.upsert(writerId, kept, "제주 여행", "바다", List.of("여행"));
+        diaryInvertedIndex.upsert(writerId, removed, "제주 출장", "바다", List.of());
+        diaryInvertedIndex.remove(writerId, removed);
+        Path snapshot = tempDir.resolve("index.bin");
+        diaryInvertedIndex.writeSnapshot(snapshot, 1234L);
+
+        // When
+        DiarySearchProperties properties = new DiarySearchProperties();
+        properties.setEngine(SearchEngine.MEMORY);
+        DiaryInvertedIndex restored = new DiaryInvertedIndex(properties);
+        long takenAt = restored.readSnapshot(snapshot);
+
+        // Then
+        assertThat(takenAt).isEqualTo(1234L);
+        assertThat(restored.search(writerId, List.of("바다"), "여행", firstCursor, 10)).containsExactly(kept);
+    }
+
+    private static byte[] createFirstCursor() {
+        byte[] cursor = new byte[16];
+        Arrays.fill(cursor, (byte) 0xFF);
+        return cursor;
+    }
+}
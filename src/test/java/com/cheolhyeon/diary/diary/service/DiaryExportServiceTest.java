@@ -0,0 +1,224 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
+import com.cheolhyeon.diary.app.exception.diary.DiaryException;
+import com.cheolhyeon.diary.app.exception.s3.S3ErrorStatus;
+import com.cheolhyeon.diary.app.exception.s3.S3Exception;
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.enums.ExportFormat;
+import com.cheolhyeon.diary.diary.enums.Mood;
+import com.cheolhyeon.diary.diary.enums.Weather;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.f4b6a3.ulid.Ulid;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryExportServiceTest {
+
+    @Mock
+    DiaryRepository diaryRepository;
+
+    @Mock
+    S3Service s3Service;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    DiaryExportService diaryExportService;
+
+    private final Long writerId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        diaryExportService = new DiaryExportService(
+                diaryRepository, s3Service, entityManager, transactionTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기는 일기 한 건을 한 줄로 기록한다")
+    void export_Ndjson_WritesOneLinePerDiary() throws Exception {
+        // Given
+        Diaries first = diary("첫 번째", List.of());
+        Diaries second = diary("두 번째", List.of());
+        givenTransactionExecutesCallback();
+        given(diaryRepository.findExportPage(eq(writerId), any(byte[].class), eq(100))).willReturn(List.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        StreamingResponseBody body = diaryExportService.export(writerId, ExportFormat.NDJSON, null);
+        body.writeTo(out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"title\":\"첫 번째\"")
+                .contains("\"diaryId\":\"" + Ulid.from(first.getDiaryId()) + "\"");
+        assertThat(lines[1]).contains("\"title\":\"두 번째\"");
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("ZIP 내보내기는 일기 JSON 과 이미지 원본을 엔트리로 기록한다")
+    void export_Zip_WritesDiaryAndImageEntries() throws Exception {
+        // Given
+        Diaries diary = diary("사진 일기", List.of("diary_service/100/a/1/photo.jpg"));
+        String diaryId = Ulid.from(diary.getDiaryId()).toString();
+        givenTransactionExecutesCallback();
+        given(diaryRepository.findExportPage(eq(writerId), any(byte[].class), eq(100))).willReturn(List.of(diary));
+        given(s3Service.openImage("diary_service/100/a/1/photo.jpg"))
+                .willReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        diaryExportService.export(writerId, ExportFormat.ZIP, null).writeTo(out);
+
+        // Then
+        List<String> entryNames = new ArrayList<>();
+        byte[] imageBytes = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                if (entry.getName().startsWith("images/")) {
+                    imageBytes = zip.readAllBytes();
+                }
+            }
+        }
+        assertThat(entryNames).containsExactly(
+                "diaries/" + diaryId + ".json",
+                "images/" + diaryId + "/photo.jpg");
+        assertThat(imageBytes).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("ZIP 내보내기 중 이미지를 읽지 못하면 해당 이미지만 건너뛴다")
+    void export_Zip_ImageLoadFails_SkipsImage() throws Exception {
+        // Given
+        Diaries diary = diary("사진 일기", List.of("diary_service/100/a/1/missing.jpg"));
+        givenTransactionExecutesCallback();
+        given(diaryRepository.findExportPage(eq(writerId), any(byte[].class), eq(100))).willReturn(List.of(diary));
+        given(s3Service.openImage("diary_service/100/a/1/missing.jpg"))
+                .willThrow(new S3Exception(S3ErrorStatus.FAILED_LOAD_IMAGE, List.of("diary_service/100/a/1/missing.jpg")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        diaryExportService.export(writerId, ExportFormat.ZIP, null).writeTo(out);
+
+        // Then
+        int entryCount = 0;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            while (zip.getNextEntry() != null) {
+                entryCount++;
+            }
+        }
+        assertThat(entryCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서를 넘기면 해당 diaryId 다음부터 내보낸다")
+    void export_WithCursor_StreamsAfterCursor() throws Exception {
+        // Given
+        String cursor = "01K5GMK22MR1DZGJ0MD191NRJ6";
+        givenTransactionExecutesCallback();
+        given(diaryRepository.findExportPage(eq(writerId), any(byte[].class), eq(100))).willReturn(List.of());
+
+        // When
+        diaryExportService.export(writerId, ExportFormat.NDJSON, cursor).writeTo(new ByteArrayOutputStream());
+
+        // Then
+        verify(diaryRepository, times(1)).findExportPage(writerId, Ulid.from(cursor).toBytes(), 100);
+    }
+
+    @Test
+    @DisplayName("한 페이지가 가득 차면 마지막 diaryId 다음부터 다음 페이지를 짧은 트랜잭션으로 읽는다")
+    void export_FullPage_ReadsNextPageAfterLastDiary() throws Exception {
+        // Given
+        List<Diaries> firstPage = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            firstPage.add(diary("일기" + i, List.of()));
+        }
+        Diaries last = diary("마지막", List.of());
+        byte[] lastIdOfFirstPage = firstPage.get(99).getDiaryId();
+        givenTransactionExecutesCallback();
+        given(diaryRepository.findExportPage(eq(writerId), any(byte[].class), eq(100))).willReturn(firstPage);
+        given(diaryRepository.findExportPage(writerId, lastIdOfFirstPage, 100)).willReturn(List.of(last));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        diaryExportService.export(writerId, ExportFormat.NDJSON, null).writeTo(out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(101);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 응답을 쓰기 전에 예외가 발생한다")
+    void export_InvalidCursor_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> diaryExportService.export(writerId, ExportFormat.NDJSON, "not-a-ulid"))
+                .isInstanceOf(DiaryException.class)
+                .hasMessage(DiaryErrorStatus.INVALID_CURSOR.getErrorDescription());
+        verifyNoInteractions(diaryRepository, transactionTemplate);
+    }
+
+    private Diaries diary(String title, List<String> imageKeys) {
+        return Diaries.builder()
+                .diaryId(Ulid.fast().toBytes())
+                .writerId(writerId)
+                .writer("테스트유저")
+                .title(title)
+                .content("내용")
+                .mood(Mood.HAPPY)
+                .weather(Weather.SUNNY)
+                .imageKeysJson(imageKeys)
+                .tagsJson(List.of("태그"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void givenTransactionExecutesCallback() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+}
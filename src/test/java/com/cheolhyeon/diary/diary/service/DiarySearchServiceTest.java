@@ -0,0 +1,147 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
+import com.cheolhyeon.diary.app.exception.diary.DiaryException;
+import com.cheolhyeon.diary.diary.entity.Diaries;
+import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import com.cheolhyeon.diary.diary.search.DiaryInvertedIndex;
+import com.github.f4b6a3.ulid.Ulid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DiarySearchServiceTest {
+
+    @Mock
+    DiaryRepository diaryRepository;
+
+    @Mock
+    DiaryInvertedIndex diaryInvertedIndex;
+
+    @InjectMocks
+    DiarySearchService diarySearchService;
+
+    private final Long writerId = 100L;
+    private final byte[] cursor = new byte[16];
+
+    @Test
+    @DisplayName("검색어만 있으면 FULLTEXT 검색을 수행한다")
+    void search_KeywordOnly_SearchesByKeyword() {
+        // When
+        diarySearchService.search(writerId, "제주 여행", null, cursor, 21);
+
+        // Then
+        verify(diaryRepository).searchByKeyword(writerId, "+\"제주\" +\"여행\"", cursor, 21);
+    }
+
+    @Test
+    @DisplayName("태그만 있으면 정규화한 태그로 검색한다")
+    void search_TagOnly_SearchesByNormalizedTag() {
+        // When
+        diarySearchService.search(writerId, "  ", " #Travel ", cursor, 21);
+
+        // Then
+        verify(diaryRepository).searchByTag(writerId, "travel", cursor, 21);
+    }
+
+    @Test
+    @DisplayName("검색어와 태그가 모두 있으면 두 조건을 함께 적용한다")
+    void search_KeywordAndTag_SearchesByBoth() {
+        // When
+        diarySearchService.search(writerId, "바다", "제주", cursor, 21);
+
+        // Then
+        verify(diaryRepository).searchByKeywordAndTag(writerId, "+\"바다\"", "제주", cursor, 21);
+    }
+
+    @Test
+    @DisplayName("검색어와 태그가 모두 비어 있으면 예외가 발생한다")
+    void search_NoCondition_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> diarySearchService.search(writerId, "+-*", "#", cursor, 21))
+                .isInstanceOf(DiaryException.class)
+                .hasMessage(DiaryErrorStatus.INVALID_SEARCH_QUERY.getErrorDescription());
+        verifyNoInteractions(diaryRepository);
+    }
+
+    @Test
+    @DisplayName("메모리 색인이 준비되었으면 색인 결과 순서대로 일기를 조회하고 삭제된 일기는 뺀다")
+    void search_IndexReady_UsesInMemoryIndex() {
+        // Given
+        byte[] newer = Ulid.fast().toBytes();
+        byte[] older = Ulid.fast().toBytes();
+        given(diaryInvertedIndex.isReady()).willReturn(true);
+        given(diaryInvertedIndex.search(writerId, List.of("제주"), null, cursor, 21))
+                .willReturn(List.of(newer, older));
+        given(diaryRepository.findAllById(List.of(newer, older)))
+                .willReturn(List.of(diary(older, null), diary(newer, null)));
+
+        // When
+        List<Diaries> result = diarySearchService.search(writerId, "제주", null, cursor, 21);
+
+        // Then
+        assertThat(result).extracting(Diaries::getDiaryId).containsExactly(newer, older);
+        verifyNoMoreInteractions(diaryRepository);
+    }
+
+    @Test
+    @DisplayName("메모리 색인 결과 중 이미 삭제된 일기는 제외한다")
+    void search_IndexReady_SkipsDeletedDiary() {
+        // Given
+        byte[] deletedId = Ulid.fast().toBytes();
+        given(diaryInvertedIndex.isReady()).willReturn(true);
+        given(diaryInvertedIndex.search(writerId, List.of(), "여행", cursor, 21)).willReturn(List.of(deletedId));
+        given(diaryRepository.findAllById(List.of(deletedId)))
+                .willReturn(List.of(diary(deletedId, LocalDateTime.now())));
+
+        // When
+        List<Diaries> result = diarySearchService.search(writerId, null, "여행", cursor, 21);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("boolean mode 연산자는 제거하고 각 단어를 필수 구문으로 묶는다")
+    void toBooleanQuery_StripsOperators() {
+        // When
+        String result = DiarySearchService.toBooleanQuery("-회사 \"야근\" (맥주)*");
+
+        // Then
+        assertThat(result).isEqualTo("+\"회사\" +\"야근\" +\"맥주\"");
+    }
+
+    @Test
+    @DisplayName("검색어는 최대 10개까지만 사용한다")
+    void toBooleanQuery_LimitsTerms() {
+        // When
+        String result = DiarySearchService.toBooleanQuery("a1 a2 a3 a4 a5 a6 a7 a8 a9 a10 a11 a12");
+
+        // Then
+        assertThat(result).endsWith("+\"a10\"");
+    }
+
+    private Diaries diary(byte[] diaryId, LocalDateTime deletedAt) {
+        return Diaries.builder()
+                .diaryId(diaryId)
+                .writerId(writerId)
+                .title("제주 여행")
+                .content("내용")
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.cheolhyeon.diary.diary.service;
 
+import com.cheolhyeon.diary.app.event.diary.DiaryIndexEvent;
 import com.cheolhyeon.diary.app.event.s3.S3RollbackCleanup;
 import com.cheolhyeon.diary.app.exception.diary.DiaryErrorStatus;
 import com.cheolhyeon.diary.app.exception.diary.DiaryException;
@@ -7,9 +8,11 @@ import com.cheolhyeon.diary.app.exception.s3.S3ErrorStatus;
 import com.cheolhyeon.diary.app.exception.s3.S3Exception;
 import com.cheolhyeon.diary.app.exception.session.UserErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.UserException;
+import com.cheolhyeon.diary.app.properties.PaginationProperties;
 import com.cheolhyeon.diary.app.util.UlidGenerator;
 import com.cheolhyeon.diary.auth.entity.User;
 import com.cheolhyeon.diary.auth.repository.UserRepository;
+import com.cheolhyeon.diary.diary.dto.projection.DiaryCalendarRow;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryCreateRequest;
 import com.cheolhyeon.diary.diary.dto.reqeust.DiaryUpdateRequest;
 import com.cheolhyeon.diary.diary.dto.response.*;
@@ -17,14 +20,19 @@ import com.cheolhyeon.diary.diary.entity.Diaries;
 import com.cheolhyeon.diary.diary.enums.Mood;
 import com.cheolhyeon.diary.diary.enums.Weather;
 import com.cheolhyeon.diary.diary.repository.DiaryRepository;
+import com.github.f4b6a3.ulid.Ulid;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -32,6 +40,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +60,16 @@ class DiaryServiceTest {
     @Mock
     S3Service s3Service;
     @Mock
+    TransactionTemplate transactionTemplate;
+    @Spy
+    PaginationProperties paginationProperties = new PaginationProperties();
+    @Mock
+    DiaryTagService diaryTagService;
+    @Mock
+    DiarySearchService diarySearchService;
+    @Mock
+    ImageVariantService imageVariantService;
+    @Mock
     MultipartFile mockImage1;
     @Mock
     MultipartFile mockImage2;
@@ -84,12 +103,14 @@ class DiaryServiceTest {
                 .build();
 
         List<MultipartFile> images = Arrays.asList(mockImage1, mockImage2);
-        List<String> s3Keys = Arrays.asList("key1", "key2");
+        String thumbnailKey = "diary_service/4384897461/ULID/2025/09/23/1/thumbnail_abc.jpg";
+        List<String> s3Keys = Arrays.asList(thumbnailKey, "diary_service/4384897461/ULID/2025/09/23/2/def.jpg");
 
         given(userRepository.findById(writerId))
                 .willReturn(Optional.of(mockUser));
         given(s3Service.upload(eq(mockUser.getUserId()), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt())).willReturn(s3Keys);
 
+        givenTransactionExecutesCallback();
         ArgumentCaptor<Diaries> diaryCaptor = ArgumentCaptor.forClass(Diaries.class);
         given(diaryRepository.save(diaryCaptor.capture())).willAnswer(invocation -> {
             return invocation.getArgument(0); // 전달받은 Diaries 객체를 그대로 반환
@@ -104,10 +125,87 @@ class DiaryServiceTest {
 
         verify(userRepository).findById(writerId);
         verify(s3Service).upload(eq(mockUser.getUserId()), any(byte[].class), eq(images), anyInt(), anyInt(), anyInt());
-        ArgumentCaptor<S3RollbackCleanup> eventCaptor = ArgumentCaptor.forClass(S3RollbackCleanup.class);
-        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
-        assertThat(eventCaptor.getValue().getImageKeys()).isEqualTo(s3Keys);
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues().get(0)).isInstanceOf(S3RollbackCleanup.class);
+        assertThat(((S3RollbackCleanup) eventCaptor.getAllValues().get(0)).getImageKeys()).isEqualTo(s3Keys);
+        assertThat(eventCaptor.getAllValues().get(1)).isInstanceOf(DiaryIndexEvent.class);
         verify(diaryRepository).save(any(Diaries.class));
+        assertThat(diaryCaptor.getValue().getThumbnailImageKey()).isEqualTo(thumbnailKey);
+        verify(diaryTagService).syncTags(eq(writerId), any(byte[].class), eq(request.getTags()));
+    }
+
+    @Test
+    @DisplayName("서버에서 만든 썸네일 변형을 캘린더 썸네일로 기록한다")
+    void createDiary_WithVariants_RecordsThumbnailVariant() {
+        // Given
+        Long writerId = 4384897461L;
+        User mockUser = new User(writerId, "", "", "테스트유저", null, null, null);
+        DiaryCreateRequest request = DiaryCreateRequest.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .tags(List.of())
+                .build();
+        List<MultipartFile> images = List.of(mockImage1);
+        String originalKey = "diary_service/4384897461/ULID/2025/09/23/1/abc.png";
+        ImageVariantKeys variant = new ImageVariantKeys(
+                "diary_service/4384897461/ULID/2025/09/23/1/abc_thumb.jpg",
+                "diary_service/4384897461/ULID/2025/09/23/1/abc_medium.jpg");
+
+        given(userRepository.findById(writerId)).willReturn(Optional.of(mockUser));
+        given(s3Service.upload(eq(writerId), any(byte[].class), eq(images), anyInt(), anyInt(), anyInt()))
+                .willReturn(List.of(originalKey));
+        given(imageVariantService.createVariants(List.of(originalKey), images))
+                .willReturn(Map.of(originalKey, variant));
+        givenTransactionExecutesCallback();
+        ArgumentCaptor<Diaries> diaryCaptor = ArgumentCaptor.forClass(Diaries.class);
+        given(diaryRepository.save(diaryCaptor.capture())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        diaryService.createDiary(writerId, request, images);
+
+        // Then
+        Diaries saved = diaryCaptor.getValue();
+        assertThat(saved.getThumbnailImageKey()).isEqualTo(variant.getThumbnailKey());
+        assertThat(saved.getImageVariantsJson()).containsEntry(originalKey, variant);
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(((S3RollbackCleanup) eventCaptor.getAllValues().get(0)).getImageKeys())
+                .containsExactly(originalKey);
+    }
+
+    @Test
+    @DisplayName("변형 이미지를 만들지 못하면(풀 포화, 디코딩 실패) 첫 번째 원본 이미지를 썸네일로 기록한다")
+    void createDiary_NoVariants_FallsBackToFirstOriginal() {
+        // Given
+        Long writerId = 4384897461L;
+        User mockUser = new User(writerId, "", "", "테스트유저", null, null, null);
+        DiaryCreateRequest request = DiaryCreateRequest.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .tags(List.of())
+                .build();
+        List<MultipartFile> images = List.of(mockImage1, mockImage2);
+        List<String> originalKeys = List.of(
+                "diary_service/4384897461/ULID/2025/09/23/1/abc.png",
+                "diary_service/4384897461/ULID/2025/09/23/2/def.png");
+
+        given(userRepository.findById(writerId)).willReturn(Optional.of(mockUser));
+        given(s3Service.upload(eq(writerId), any(byte[].class), eq(images), anyInt(), anyInt(), anyInt()))
+                .willReturn(originalKeys);
+        // 풀이 가득 차 거절되었거나 디코딩에 실패하면 변형 없이 빈 결과가 돌아온다
+        given(imageVariantService.createVariants(originalKeys, images)).willReturn(Map.of());
+        givenTransactionExecutesCallback();
+        ArgumentCaptor<Diaries> diaryCaptor = ArgumentCaptor.forClass(Diaries.class);
+        given(diaryRepository.save(diaryCaptor.capture())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        diaryService.createDiary(writerId, request, images);
+
+        // Then
+        Diaries saved = diaryCaptor.getValue();
+        assertThat(saved.getThumbnailImageKey()).isEqualTo(originalKeys.get(0));
+        assertThat(saved.getImageVariantsJson()).isNull();
     }
 
     @Test
@@ -169,6 +267,7 @@ class DiaryServiceTest {
 
         given(userRepository.findById(writerId)).willReturn(Optional.of(mockUser));
         given(s3Service.upload(eq(mockUser.getUserId()), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt())).willReturn(s3Keys);
+        givenTransactionExecutesCallback();
         given(diaryRepository.save(any(Diaries.class))).willReturn(savedDiary);
 
         // When
@@ -181,6 +280,63 @@ class DiaryServiceTest {
         verify(s3Service).upload(eq(mockUser.getUserId()), any(byte[].class), eq(images), anyInt(), anyInt(), anyInt());
     }
 
+    @Test
+    @DisplayName("업로드 후 변형 이미지 생성이 실패하면 업로드로 잡은 참조를 되돌리고 예외를 전파한다")
+    void createDiary_VariantFailure_CompensatesUploads() {
+        // Given
+        Long writerId = 4384897461L;
+        User mockUser = new User(writerId, "", "", "테스트유저", null, null, null);
+        DiaryCreateRequest request = DiaryCreateRequest.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .build();
+        List<MultipartFile> images = Collections.singletonList(mockImage1);
+        List<String> uploadedKeys = List.of("diary_service/4384897461/ULID/2025/09/23/1/abc.png");
+
+        given(userRepository.findById(writerId)).willReturn(Optional.of(mockUser));
+        given(s3Service.upload(eq(writerId), any(byte[].class), eq(images), anyInt(), anyInt(), anyInt()))
+                .willReturn(uploadedKeys);
+        given(imageVariantService.createVariants(uploadedKeys, images))
+                .willThrow(new IllegalStateException("image_object lookup failed"));
+
+        // When
+        assertThatThrownBy(() -> diaryService.createDiary(writerId, request, images))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        verify(s3Service).compensate(uploadedKeys);
+        verify(transactionTemplate, never()).execute(any());
+        verify(diaryRepository, never()).save(any(Diaries.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 실패하면 참조는 롤백 이벤트로만 되돌리고 직접 되돌리지 않는다")
+    void createDiary_SaveFailure_LeavesCompensationToRollbackEvent() {
+        // Given
+        Long writerId = 4384897461L;
+        User mockUser = new User(writerId, "", "", "테스트유저", null, null, null);
+        DiaryCreateRequest request = DiaryCreateRequest.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .build();
+        List<MultipartFile> images = Collections.singletonList(mockImage1);
+        List<String> uploadedKeys = List.of("diary_service/4384897461/ULID/2025/09/23/1/abc.png");
+
+        given(userRepository.findById(writerId)).willReturn(Optional.of(mockUser));
+        given(s3Service.upload(eq(writerId), any(byte[].class), eq(images), anyInt(), anyInt(), anyInt()))
+                .willReturn(uploadedKeys);
+        givenTransactionExecutesCallback();
+        given(diaryRepository.save(any(Diaries.class))).willThrow(new IllegalStateException("insert failed"));
+
+        // When
+        assertThatThrownBy(() -> diaryService.createDiary(writerId, request, images))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        verify(applicationEventPublisher).publishEvent(any(S3RollbackCleanup.class));
+        verify(s3Service, never()).compensate(anyList());
+    }
+
     @Test
     @DisplayName("S3Service 업로드 실패 시 예외 전파")
     void createDiary_S3UploadFailure_ThrowsException() {
@@ -233,6 +389,7 @@ class DiaryServiceTest {
                 .willReturn(Optional.of(mockUser));
         given(s3Service.upload(eq(mockUser.getUserId()), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt()))
                 .willReturn(s3Keys);
+        givenTransactionExecutesCallback();
         given(diaryRepository.save(any(Diaries.class))).willAnswer(invocation -> {
             return invocation.getArgument(0); // 전달받은 Diaries 객체를 그대로 반환
         });
@@ -241,9 +398,13 @@ class DiaryServiceTest {
         diaryService.createDiary(writerId, request, images);
 
         // Then
-        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(S3RollbackCleanup.class);
-        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
-        assertThat(eventCaptor.getValue()).isNotNull();
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .hasExactlyElementsOfTypes(S3RollbackCleanup.class, DiaryIndexEvent.class);
+        DiaryIndexEvent indexEvent = (DiaryIndexEvent) eventCaptor.getAllValues().get(1);
+        assertThat(indexEvent.getWriterId()).isEqualTo(writerId);
+        assertThat(indexEvent.isDeleted()).isFalse();
     }
 
     @Test
@@ -267,19 +428,18 @@ class DiaryServiceTest {
                 .weather(Weather.SUNNY)
                 .location(new Location())
                 .tagsJson(List.of())
-                .imageKeysJson(List.of("key1"))
+                .imageKeysJson(List.of("key1", "thumbnail_key1"))
+                .thumbnailImageKey("thumbnail_key1")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         List<Diaries> mockDiaries = Collections.singletonList(mockDiary);
-        List<String> thumbnailKeys = List.of("key1");
+        List<String> thumbnailKeys = List.of("thumbnail_key1");
         List<String> thumbnailUrls = List.of("url1");
 
         given(diaryRepository.findByMonthAndDay(writerId, startDay, endDay))
                 .willReturn(mockDiaries);
-        given(s3Service.getThumbnailImageKey(writerId, year, month, day, mockDiaries))
-                .willReturn(thumbnailKeys);
         given(s3Service.createImageUrl(thumbnailKeys))
                 .willReturn(thumbnailUrls);
         // When
@@ -291,7 +451,6 @@ class DiaryServiceTest {
         assertThat(result.get(0).getThumbnailUrl()).isEqualTo("url1");
 
         verify(diaryRepository, times(1)).findByMonthAndDay(writerId, startDay, endDay);
-        verify(s3Service, times(1)).getThumbnailImageKey(writerId, year, month, day, mockDiaries);
         verify(s3Service, times(1)).createImageUrl(thumbnailKeys);
     }
 
@@ -308,10 +467,6 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByMonthAndDay(writerId, startDay, endDay))
                 .willReturn(List.of());
-        given(s3Service.getThumbnailImageKey(writerId, year, month, day, List.of()))
-                .willReturn(List.of());
-        given(s3Service.createImageUrl(List.of()))
-                .willReturn(List.of());
 
         // When
         List<DiaryResponseByMonthAndDay> result = diaryService.readDiariesByMonthAndDay(writerId, year, month, day);
@@ -322,13 +477,12 @@ class DiaryServiceTest {
                 .isEmpty();
 
         verify(diaryRepository, times(1)).findByMonthAndDay(writerId, startDay, endDay);
-        verify(s3Service, times(1)).getThumbnailImageKey(writerId, year, month, day, List.of());
-        verify(s3Service, times(1)).createImageUrl(List.of());
+        verify(s3Service, never()).createImageUrl(anyList());
     }
 
     @Test
-    @DisplayName("S3Service에서 썸네일 키 조회 실패 시 예외 전파")
-    void readDiariesByMonthAndDay_S3ThumbnailKeyFailure_ThrowsException() {
+    @DisplayName("S3Service에서 썸네일 URL 생성 실패 시 예외 전파")
+    void readDiariesByMonthAndDay_S3ThumbnailUrlFailure_ThrowsException() {
         // Given
         int year = 2024;
         int month = 1;
@@ -345,23 +499,23 @@ class DiaryServiceTest {
                 .content("테스트 내용")
                 .mood(Mood.HAPPY)
                 .weather(Weather.SUNNY)
+                .thumbnailImageKey("thumbnail_key1")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         given(diaryRepository.findByMonthAndDay(writerId, startDay, endDay))
                 .willReturn(Collections.singletonList(mockDiary));
-        given(s3Service.getThumbnailImageKey(writerId, year, month, day, Collections.singletonList(mockDiary)))
-                .willThrow(new RuntimeException("S3 썸네일 키 조회 실패"));
+        given(s3Service.createImageUrl(List.of("thumbnail_key1")))
+                .willThrow(new RuntimeException("S3 썸네일 URL 생성 실패"));
 
         // When
         assertThatThrownBy(() -> diaryService.readDiariesByMonthAndDay(writerId, year, month, day))
                 .isInstanceOf(RuntimeException.class)
-                .hasMessage("S3 썸네일 키 조회 실패");
+                .hasMessage("S3 썸네일 URL 생성 실패");
         // Then
         verify(diaryRepository).findByMonthAndDay(writerId, startDay, endDay);
-        verify(s3Service).getThumbnailImageKey(writerId, year, month, day, Collections.singletonList(mockDiary));
-        verify(s3Service, never()).createImageUrl(anyList());
+        verify(s3Service).createImageUrl(List.of("thumbnail_key1"));
     }
 
     @Test
@@ -382,6 +536,34 @@ class DiaryServiceTest {
         verify(s3Service, never()).createImageUrl(anyList());
     }
 
+    @Test
+    @DisplayName("일기 ID로 조회 시 중간 크기 변형이 있으면 변형 URL 을 함께 내려준다")
+    void getDiaryById_WithVariants_ReturnsMediumImageUrls() {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        List<String> imageKeys = List.of("key1", "key2");
+        Diaries mockDiary = Diaries.builder()
+                .diaryId(diaryId)
+                .writerId(1L)
+                .imageKeysJson(imageKeys)
+                .imageVariantsJson(Map.of("key1", new ImageVariantKeys("key1_thumb.jpg", "key1_medium.jpg")))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(mockDiary));
+        given(s3Service.createImageUrl(imageKeys)).willReturn(List.of("url1", "url2"));
+        given(s3Service.createImageUrl(List.of("key1_medium.jpg", "key2")))
+                .willReturn(List.of("mediumUrl1", "url2"));
+
+        // When
+        DiaryResponseById result = diaryService.readDiaryById(diaryId);
+
+        // Then
+        assertThat(result.getImageUrls()).containsExactly("url1", "url2");
+        assertThat(result.getMediumImageUrls()).containsExactly("mediumUrl1", "url2");
+    }
+
     @Test
     @DisplayName("일기 ID로 조회 시 S3 이미지 URL 생성 실패하면 S3Exception 발생")
     void getDiaryById_S3ImageUrlCreationFailure_ThrowsException() {
@@ -474,44 +656,36 @@ class DiaryServiceTest {
         LocalDateTime startMonth = searchDate.atStartOfDay();
         LocalDateTime endMonth = startMonth.plusMonths(1);
 
-        Diaries diary1 = Diaries.builder()
-                .diaryId(UlidGenerator.generatorUlidAsBytes())
-                .writerId(writerId)
-                .writer("테스트유저1")
-                .title("9월 첫 번째 일기")
-                .content("9월 첫 번째 일기 내용")
-                .mood(Mood.HAPPY)
-                .weather(Weather.SUNNY)
-                .location(new Location())
-                .tagsJson(List.of("9월", "첫째"))
-                .imageKeysJson(List.of("key1", "key2"))
-                .createdAt(LocalDateTime.of(2025, 9, 5, 10, 30))
-                .updatedAt(LocalDateTime.of(2025, 9, 5, 10, 30))
-                .build();
+        DiaryCalendarRow diary1 = new DiaryCalendarRow(
+                UlidGenerator.generatorUlidAsBytes(),
+                "테스트유저1",
+                "9월 첫 번째 일기",
+                "9월 첫 번째 일기 내용",
+                Mood.HAPPY,
+                Weather.SUNNY,
+                "thumbnail_key1",
+                LocalDateTime.of(2025, 9, 5, 10, 30),
+                LocalDateTime.of(2025, 9, 5, 10, 30)
+        );
 
-        Diaries diary2 = Diaries.builder()
-                .diaryId(UlidGenerator.generatorUlidAsBytes())
-                .writerId(writerId)
-                .writer("테스트유저2")
-                .title("9월 두 번째 일기")
-                .content("9월 두 번째 일기 내용")
-                .mood(Mood.SAD)
-                .weather(Weather.RAIN)
-                .location(new Location())
-                .tagsJson(List.of("9월", "둘째"))
-                .imageKeysJson(List.of("key3", "key4"))
-                .createdAt(LocalDateTime.of(2025, 9, 15, 14, 20))
-                .updatedAt(LocalDateTime.of(2025, 9, 15, 14, 20))
-                .build();
+        DiaryCalendarRow diary2 = new DiaryCalendarRow(
+                UlidGenerator.generatorUlidAsBytes(),
+                "테스트유저2",
+                "9월 두 번째 일기",
+                "9월 두 번째 일기 내용",
+                Mood.SAD,
+                Weather.RAIN,
+                "thumbnail_key2",
+                LocalDateTime.of(2025, 9, 15, 14, 20),
+                LocalDateTime.of(2025, 9, 15, 14, 20)
+        );
 
-        List<Diaries> mockDiaries = List.of(diary1, diary2);
+        List<DiaryCalendarRow> mockDiaries = List.of(diary1, diary2);
         List<String> thumbnailKeys = List.of("thumbnail_key1", "thumbnail_key2");
         List<String> thumbnailUrls = List.of("https://s3.url1", "https://s3.url2");
 
-        given(diaryRepository.findAllByYearAndMonth(writerId, startMonth, endMonth))
+        given(diaryRepository.findCalendarByYearAndMonth(writerId, startMonth, endMonth, 100))
                 .willReturn(mockDiaries);
-        given(s3Service.getThumbnailImageKey(writerId, year, month, mockDiaries))
-                .willReturn(thumbnailKeys);
         given(s3Service.createImageUrl(thumbnailKeys))
                 .willReturn(thumbnailUrls);
 
@@ -545,8 +719,7 @@ class DiaryServiceTest {
         assertThat(secondDiary.getThumbnailUrl()).isEqualTo("https://s3.url2");
         assertThat(secondDiary.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 9, 15, 14, 20));
 
-        verify(diaryRepository).findAllByYearAndMonth(writerId, startMonth, endMonth);
-        verify(s3Service).getThumbnailImageKey(writerId, year, month, mockDiaries);
+        verify(diaryRepository).findCalendarByYearAndMonth(writerId, startMonth, endMonth, 100);
         verify(s3Service).createImageUrl(thumbnailKeys);
     }
 
@@ -561,17 +734,11 @@ class DiaryServiceTest {
         LocalDateTime startMonth = searchDate.atStartOfDay();
         LocalDateTime endMonth = startMonth.plusMonths(1);
 
-        List<Diaries> emptyDiaries = List.of();
-        List<String> emptyThumbnailKeys = List.of();
-        List<String> emptyThumbnailUrls = List.of();
+        List<DiaryCalendarRow> emptyDiaries = List.of();
 
         // Mock 설정
-        given(diaryRepository.findAllByYearAndMonth(writerId, startMonth, endMonth))
+        given(diaryRepository.findCalendarByYearAndMonth(writerId, startMonth, endMonth, 100))
                 .willReturn(emptyDiaries);
-        given(s3Service.getThumbnailImageKey(writerId, year, month, emptyDiaries))
-                .willReturn(emptyThumbnailKeys);
-        given(s3Service.createImageUrl(emptyThumbnailKeys))
-                .willReturn(emptyThumbnailUrls);
 
         // When
         List<DiaryResponseByYearAndMonth> result = diaryService.readDiariesByYearAndMonth(writerId, year, month);
@@ -582,14 +749,13 @@ class DiaryServiceTest {
                 .isEmpty();
 
         // Mock 호출 검증
-        verify(diaryRepository).findAllByYearAndMonth(writerId, startMonth, endMonth);
-        verify(s3Service).getThumbnailImageKey(writerId, year, month, emptyDiaries);
-        verify(s3Service).createImageUrl(emptyThumbnailKeys);
+        verify(diaryRepository).findCalendarByYearAndMonth(writerId, startMonth, endMonth, 100);
+        verify(s3Service, never()).createImageUrl(anyList());
     }
 
     @Test
-    @DisplayName("년/월로 일기 조회 시 S3 썸네일 키 조회 실패하면 예외 발생")
-    void readDiariesByYearAndMonth_S3ThumbnailKeyFailure_ThrowsException() {
+    @DisplayName("년/월로 일기 조회 시 S3 썸네일 URL 생성 실패하면 예외 발생")
+    void readDiariesByYearAndMonth_S3ThumbnailUrlFailure_ThrowsException() {
         // Given
         int year = 2025;
         int month = 9;
@@ -598,37 +764,33 @@ class DiaryServiceTest {
         LocalDateTime startMonth = searchDate.atStartOfDay();
         LocalDateTime endMonth = startMonth.plusMonths(1);
 
-        Diaries mockDiary = Diaries.builder()
-                .diaryId(UlidGenerator.generatorUlidAsBytes())
-                .writerId(writerId)
-                .writer("테스트유저")
-                .title("테스트 일기")
-                .content("테스트 내용")
-                .mood(Mood.HAPPY)
-                .weather(Weather.SUNNY)
-                .location(new Location())
-                .tagsJson(List.of())
-                .imageKeysJson(List.of("key1"))
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+        DiaryCalendarRow mockDiary = new DiaryCalendarRow(
+                UlidGenerator.generatorUlidAsBytes(),
+                "테스트유저",
+                "테스트 일기",
+                "테스트 내용",
+                Mood.HAPPY,
+                Weather.SUNNY,
+                "thumbnail_key1",
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
 
-        List<Diaries> mockDiaries = List.of(mockDiary);
+        List<DiaryCalendarRow> mockDiaries = List.of(mockDiary);
 
         // Mock 설정
-        given(diaryRepository.findAllByYearAndMonth(writerId, startMonth, endMonth))
+        given(diaryRepository.findCalendarByYearAndMonth(writerId, startMonth, endMonth, 100))
                 .willReturn(mockDiaries);
-        given(s3Service.getThumbnailImageKey(writerId, year, month, mockDiaries))
-                .willThrow(new S3Exception(S3ErrorStatus.FAILED_LOAD_IMAGE, List.of("S3 썸네일 키 조회 실패")));
+        given(s3Service.createImageUrl(List.of("thumbnail_key1")))
+                .willThrow(new S3Exception(S3ErrorStatus.FAILED_LOAD_IMAGE, List.of("thumbnail_key1")));
 
         // When
         assertThatThrownBy(() -> diaryService.readDiariesByYearAndMonth(writerId, year, month))
                 .isInstanceOf(S3Exception.class)
                 .hasMessage(S3ErrorStatus.FAILED_LOAD_IMAGE.getErrorDescription());
         // Then
-        verify(diaryRepository).findAllByYearAndMonth(writerId, startMonth, endMonth);
-        verify(s3Service).getThumbnailImageKey(writerId, year, month, mockDiaries);
-        verify(s3Service, never()).createImageUrl(anyList());
+        verify(diaryRepository).findCalendarByYearAndMonth(writerId, startMonth, endMonth, 100);
+        verify(s3Service).createImageUrl(List.of("thumbnail_key1"));
     }
 
     @Test
@@ -671,6 +833,8 @@ class DiaryServiceTest {
         assertThat(result.getImageCount()).isEqualTo(2);
 
         verify(diaryRepository).findById(diaryId);
+        verify(diaryTagService).syncTags(1L, diaryId, List.of("수정", "테스트"));
+        verify(applicationEventPublisher).publishEvent(any(DiaryIndexEvent.class));
     }
 
     @Test
@@ -715,13 +879,14 @@ class DiaryServiceTest {
 
         given(diaryRepository.findById(diaryId))
                 .willReturn(Optional.of(existingDiary));
+        givenTransactionExecutesCallback();
 
         // When
         diaryService.updateImages(diaryId, deleteImageKeys, newImages);
 
         // Then
         verify(diaryRepository).findById(diaryId);
-        verify(s3Service, times(2)).delete(anyString()); // key1, key2 삭제
+        verify(s3Service).release(List.of("key1", "key2"));
         verify(s3Service, never()).upload(anyLong(), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt());
     }
 
@@ -749,14 +914,19 @@ class DiaryServiceTest {
                 .willReturn(Optional.of(existingDiary));
         given(s3Service.upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt()))
                 .willReturn(newImageKeys);
+        givenTransactionExecutesCallback();
 
         // When
         diaryService.updateImages(diaryId, deleteImageKeys, newImages);
 
         // Then
-        verify(diaryRepository).findById(diaryId);
-        verify(s3Service, never()).delete(anyString());
-        verify(s3Service).upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt());
+        // 업로드 전에 한 번, 트랜잭션 안에서 한 번 읽는다
+        verify(diaryRepository, times(2)).findById(diaryId);
+        verify(s3Service, never()).release(anyList());
+        // 업로드가 끝난 뒤에 트랜잭션을 연다 -> 업로드 동안 요청 스레드가 커넥션을 잡지 않는다
+        InOrder inOrder = inOrder(s3Service, transactionTemplate);
+        inOrder.verify(s3Service).upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt());
+        inOrder.verify(transactionTemplate).execute(any());
     }
 
     @Test
@@ -783,13 +953,15 @@ class DiaryServiceTest {
                 .willReturn(Optional.of(existingDiary));
         given(s3Service.upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt()))
                 .willReturn(newImageKeys);
+        givenTransactionExecutesCallback();
 
         // When
         diaryService.updateImages(diaryId, deleteImageKeys, newImages);
 
         // Then
-        verify(diaryRepository).findById(diaryId);
-        verify(s3Service).delete("key1");
+        // 업로드 전에 한 번, 트랜잭션 안에서 한 번 읽는다
+        verify(diaryRepository, times(2)).findById(diaryId);
+        verify(s3Service).release(List.of("key1"));
         verify(s3Service).upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt());
     }
 
@@ -803,6 +975,7 @@ class DiaryServiceTest {
 
         given(diaryRepository.findById(diaryId))
                 .willReturn(Optional.empty());
+        givenTransactionExecutesCallback();
 
         // When & Then
         assertThatThrownBy(() -> diaryService.updateImages(diaryId, deleteImageKeys, newImages))
@@ -810,10 +983,86 @@ class DiaryServiceTest {
                 .hasMessage(DiaryErrorStatus.NOT_FOUND.getErrorDescription());
 
         verify(diaryRepository).findById(diaryId);
-        verify(s3Service, never()).delete(anyString());
+        verify(s3Service, never()).release(anyList());
         verify(s3Service, never()).upload(anyLong(), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt());
     }
 
+    @Test
+    @DisplayName("이미지 업데이트 - 삭제한 이미지의 참조를 내리고 새 이미지의 변형을 기록한다")
+    void updateImages_WithVariants_DeletesAndRecordsVariants() {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        ImageVariantKeys oldVariant = new ImageVariantKeys("key1_thumb.jpg", "key1_medium.jpg");
+        ImageVariantKeys keptVariant = new ImageVariantKeys("key2_thumb.jpg", "key2_medium.jpg");
+        ImageVariantKeys newVariant = new ImageVariantKeys("newKey1_thumb.jpg", "newKey1_medium.jpg");
+        List<MultipartFile> newImages = List.of(mockImage1);
+
+        Diaries existingDiary = Diaries.builder()
+                .diaryId(diaryId)
+                .writerId(1L)
+                .imageKeysJson(List.of("key1", "key2"))
+                .imageVariantsJson(Map.of("key1", oldVariant, "key2", keptVariant))
+                .thumbnailImageKey(oldVariant.getThumbnailKey())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(existingDiary));
+        given(s3Service.upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt()))
+                .willReturn(List.of("newKey1"));
+        given(imageVariantService.createVariants(List.of("newKey1"), newImages))
+                .willReturn(Map.of("newKey1", newVariant));
+        givenTransactionExecutesCallback();
+
+        // When
+        diaryService.updateImages(diaryId, List.of("key1"), newImages);
+
+        // Then
+        verify(s3Service).release(List.of("key1"));
+        assertThat(existingDiary.getImageKeysJson()).containsExactly("key2", "newKey1");
+        assertThat(existingDiary.getImageVariantsJson())
+                .containsOnlyKeys("key2", "newKey1")
+                .containsEntry("newKey1", newVariant);
+        assertThat(existingDiary.getThumbnailImageKey()).isEqualTo(keptVariant.getThumbnailKey());
+    }
+
+    @Test
+    @DisplayName("이미지 업데이트 - 같은 이미지를 지우고 다시 올리면 기존 객체와 변형을 그대로 사용한다")
+    void updateImages_ReuploadSameImage_ReusesObjectAndVariants() {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        ImageVariantKeys variant = new ImageVariantKeys("key1_thumb.jpg", "key1_medium.jpg");
+        List<MultipartFile> newImages = List.of(mockImage1);
+
+        Diaries existingDiary = Diaries.builder()
+                .diaryId(diaryId)
+                .writerId(1L)
+                .imageKeysJson(List.of("key1", "key2"))
+                .imageVariantsJson(Map.of("key1", variant))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(existingDiary));
+        // 내용이 같으므로 S3Service 는 기존 키를 돌려준다
+        given(s3Service.upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt()))
+                .willReturn(List.of("key1"));
+        // 변형이 이미 있는 키이므로 ImageVariantService 는 새로 만들지 않고 파생 키만 돌려준다
+        given(imageVariantService.createVariants(List.of("key1"), newImages))
+                .willReturn(Map.of("key1", variant));
+        givenTransactionExecutesCallback();
+
+        // When
+        diaryService.updateImages(diaryId, List.of("key1"), newImages);
+
+        // Then
+        InOrder inOrder = inOrder(s3Service);
+        inOrder.verify(s3Service).upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt());
+        inOrder.verify(s3Service).release(List.of("key1"));
+        assertThat(existingDiary.getImageKeysJson()).containsExactly("key2", "key1");
+        assertThat(existingDiary.getImageVariantsJson()).containsEntry("key1", variant);
+    }
+
     @Test
     @DisplayName("이미지 업데이트 - 아무것도 변경하지 않은 경우")
     void updateImages_NoChanges_Success() {
@@ -835,19 +1084,20 @@ class DiaryServiceTest {
 
         given(diaryRepository.findById(diaryId))
                 .willReturn(Optional.of(existingDiary));
+        givenTransactionExecutesCallback();
 
         // When
         diaryService.updateImages(diaryId, deleteImageKeys, newImages);
 
         // Then
         verify(diaryRepository).findById(diaryId);
-        verify(s3Service, never()).delete(anyString());
+        verify(s3Service, never()).release(anyList());
         verify(s3Service, never()).upload(anyLong(), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt());
     }
 
     @Test
-    @DisplayName("이미지 업데이트 - S3 삭제 실패 시 예외 전파")
-    void updateImages_S3DeleteFailure_ThrowsException() {
+    @DisplayName("이미지 업데이트 - 이미지 참조 해제 실패 시 예외 전파")
+    void updateImages_ReleaseFailure_ThrowsException() {
         // Given
         byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
         List<String> deleteImageKeys = List.of("key1");
@@ -866,16 +1116,17 @@ class DiaryServiceTest {
 
         given(diaryRepository.findById(diaryId))
                 .willReturn(Optional.of(existingDiary));
-        doThrow(new RuntimeException("S3 삭제 실패"))
-                .when(s3Service).delete("key1");
+        doThrow(new RuntimeException("참조 해제 실패"))
+                .when(s3Service).release(List.of("key1"));
+        givenTransactionExecutesCallback();
 
         // When & Then
         assertThatThrownBy(() -> diaryService.updateImages(diaryId, deleteImageKeys, newImages))
                 .isInstanceOf(RuntimeException.class)
-                .hasMessage("S3 삭제 실패");
+                .hasMessage("참조 해제 실패");
 
         verify(diaryRepository).findById(diaryId);
-        verify(s3Service).delete("key1");
+        verify(s3Service).release(List.of("key1"));
         verify(s3Service, never()).upload(anyLong(), any(byte[].class), anyList(), anyInt(), anyInt(), anyInt());
     }
 
@@ -910,8 +1161,44 @@ class DiaryServiceTest {
                 .hasMessage(S3ErrorStatus.FAILED_UPLOAD_IMAGE.getErrorDescription());
 
         verify(diaryRepository).findById(diaryId);
-        verify(s3Service, never()).delete(anyString());
+        verify(s3Service, never()).release(anyList());
         verify(s3Service).upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt());
+        // 업로드가 실패하면 트랜잭션을 열지 않는다
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("이미지 업데이트 - 업로드 후 변형 이미지 생성이 실패하면 업로드로 잡은 참조를 되돌린다")
+    void updateImages_VariantFailure_CompensatesUploads() {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        List<MultipartFile> newImages = Collections.singletonList(mockImage1);
+        List<String> newImageKeys = List.of("newKey1");
+
+        Diaries existingDiary = Diaries.builder()
+                .diaryId(diaryId)
+                .writerId(1L)
+                .writer("테스트유저")
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .imageKeysJson(List.of("key1"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(existingDiary));
+        given(s3Service.upload(eq(1L), eq(diaryId), eq(newImages), anyInt(), anyInt(), anyInt()))
+                .willReturn(newImageKeys);
+        given(imageVariantService.createVariants(newImageKeys, newImages))
+                .willThrow(new IllegalStateException("image_object lookup failed"));
+
+        // When & Then
+        assertThatThrownBy(() -> diaryService.updateImages(diaryId, List.of("key1"), newImages))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(s3Service).compensate(newImageKeys);
+        verify(s3Service, never()).release(anyList());
+        verify(transactionTemplate, never()).execute(any());
     }
 
     @Test
@@ -942,6 +1229,11 @@ class DiaryServiceTest {
         // Then
         verify(diaryRepository).findById(diaryId);
         assertThat(existingDiary.getDeletedAt()).isNotNull();
+        ArgumentCaptor<DiaryIndexEvent> eventCaptor = ArgumentCaptor.forClass(DiaryIndexEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isDeleted()).isTrue();
+        assertThat(eventCaptor.getValue().getDiaryId()).isEqualTo(diaryId);
+        verify(diaryTagService).removeTags(diaryId);
     }
 
     @Test
@@ -986,5 +1278,122 @@ class DiaryServiceTest {
 
         verify(diaryRepository).findById(diaryId);
     }
-}
 
+    @Test
+    @DisplayName("타임라인 첫 페이지 조회 시 size 만큼 반환하고 다음 커서를 내려준다")
+    void readTimeline_FirstPage_ReturnsSliceWithNextCursor() {
+        // Given
+        Long writerId = 4384897461L;
+        Diaries newest = createTimelineDiary(writerId, "세 번째 일기", "thumbnail_key3");
+        Diaries middle = createTimelineDiary(writerId, "두 번째 일기", null);
+        Diaries oldest = createTimelineDiary(writerId, "첫 번째 일기", null);
+        byte[] firstCursor = new byte[16];
+        Arrays.fill(firstCursor, (byte) 0xFF);
+
+        given(diaryRepository.findTimeline(eq(writerId), eq(firstCursor), eq(3)))
+                .willReturn(List.of(newest, middle, oldest));
+        given(s3Service.createImageUrl(List.of("thumbnail_key3")))
+                .willReturn(List.of("https://s3.url3"));
+
+        // When
+        DiarySliceResponse result = diaryService.readTimeline(writerId, null, 2);
+
+        // Then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getDiaries())
+                .extracting(DiarySummaryResponse::getTitle)
+                .containsExactly("세 번째 일기", "두 번째 일기");
+        assertThat(result.getDiaries().get(0).getThumbnailUrl()).isEqualTo("https://s3.url3");
+        assertThat(result.getNextCursor()).isEqualTo(Ulid.from(middle.getDiaryId()).toString());
+    }
+
+    @Test
+    @DisplayName("타임라인 마지막 페이지는 다음 커서가 없다")
+    void readTimeline_LastPage_ReturnsNoNextCursor() {
+        // Given
+        Long writerId = 4384897461L;
+        Diaries oldest = createTimelineDiary(writerId, "첫 번째 일기", null);
+        String cursor = Ulid.from(UlidGenerator.generatorUlidAsBytes()).toString();
+
+        given(diaryRepository.findTimeline(eq(writerId), eq(Ulid.from(cursor).toBytes()), eq(21)))
+                .willReturn(List.of(oldest));
+
+        // When
+        DiarySliceResponse result = diaryService.readTimeline(writerId, cursor, null);
+
+        // Then
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getDiaries()).hasSize(1);
+        verify(s3Service, never()).createImageUrl(anyList());
+    }
+
+    @Test
+    @DisplayName("타임라인 커서가 ULID 형식이 아니면 예외가 발생한다")
+    void readTimeline_InvalidCursor_ThrowsException() {
+        // Given
+        Long writerId = 4384897461L;
+
+        // When & Then
+        assertThatThrownBy(() -> diaryService.readTimeline(writerId, "not-a-ulid", 20))
+                .isInstanceOf(DiaryException.class)
+                .hasMessage(DiaryErrorStatus.INVALID_CURSOR.getErrorDescription());
+        verify(diaryRepository, never()).findTimeline(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("검색 결과가 size 보다 많으면 다음 커서를 내려준다")
+    void searchDiaries_HasNext_ReturnsSliceWithNextCursor() {
+        // Given
+        Long writerId = 4384897461L;
+        Diaries newest = createTimelineDiary(writerId, "제주 여행 둘째 날", null);
+        Diaries oldest = createTimelineDiary(writerId, "제주 여행 첫째 날", null);
+        byte[] firstCursor = new byte[16];
+        Arrays.fill(firstCursor, (byte) 0xFF);
+
+        given(diarySearchService.search(eq(writerId), eq("제주"), eq(null), eq(firstCursor), eq(2)))
+                .willReturn(List.of(newest, oldest));
+
+        // When
+        DiarySliceResponse result = diaryService.searchDiaries(writerId, "제주", null, null, 1);
+
+        // Then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getDiaries())
+                .extracting(DiarySummaryResponse::getTitle)
+                .containsExactly("제주 여행 둘째 날");
+        assertThat(result.getNextCursor()).isEqualTo(Ulid.from(newest.getDiaryId()).toString());
+    }
+
+    @Test
+    @DisplayName("검색 커서가 ULID 형식이 아니면 예외가 발생한다")
+    void searchDiaries_InvalidCursor_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> diaryService.searchDiaries(1L, "제주", null, "not-a-ulid", 20))
+                .isInstanceOf(DiaryException.class)
+                .hasMessage(DiaryErrorStatus.INVALID_CURSOR.getErrorDescription());
+        verifyNoInteractions(diarySearchService);
+    }
+
+    private Diaries createTimelineDiary(Long writerId, String title, String thumbnailImageKey) {
+        return Diaries.builder()
+                .diaryId(UlidGenerator.generatorUlidAsBytes())
+                .writerId(writerId)
+                .writer("테스트유저")
+                .title(title)
+                .content(title + " 내용")
+                .mood(Mood.HAPPY)
+                .weather(Weather.SUNNY)
+                .thumbnailImageKey(thumbnailImageKey)
+                .createdAt(LocalDateTime.of(2025, 9, 5, 10, 30))
+                .updatedAt(LocalDateTime.of(2025, 9, 5, 10, 30))
+                .build();
+    }
+
+    private void givenTransactionExecutesCallback() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.properties.PaginationProperties;
+import com.cheolhyeon.diary.diary.dto.projection.TagCountRow;
+import com.cheolhyeon.diary.diary.dto.response.TagCountResponse;
+import com.cheolhyeon.diary.diary.repository.DiaryTagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryTagServiceTest {
+
+    @Mock
+    DiaryTagRepository diaryTagRepository;
+
+    @Spy
+    PaginationProperties paginationProperties = new PaginationProperties();
+
+    @InjectMocks
+    DiaryTagService diaryTagService;
+
+    private final Long writerId = 100L;
+    private final byte[] diaryId = new byte[16];
+
+    @Test
+    @DisplayName("바뀐 태그만 삭제하고 추가한다")
+    void syncTags_AppliesOnlyDifference() {
+        // Given
+        given(diaryTagRepository.findTagsByDiaryId(diaryId)).willReturn(List.of("여행", "제주"));
+
+        // When
+        diaryTagService.syncTags(writerId, diaryId, List.of("제주", "#바다"));
+
+        // Then
+        verify(diaryTagRepository).deleteByDiaryIdAndTagIn(diaryId, List.of("여행"));
+        verify(diaryTagRepository).insertIgnore(writerId, "바다", diaryId);
+        verify(diaryTagRepository, never()).insertIgnore(writerId, "제주", diaryId);
+    }
+
+    @Test
+    @DisplayName("태그가 그대로면 쓰기를 하지 않는다")
+    void syncTags_Unchanged_NoWrites() {
+        // Given
+        given(diaryTagRepository.findTagsByDiaryId(diaryId)).willReturn(List.of("travel"));
+
+        // When
+        diaryTagService.syncTags(writerId, diaryId, List.of("Travel", " travel "));
+
+        // Then
+        verify(diaryTagRepository, never()).deleteByDiaryIdAndTagIn(any(), any());
+        verify(diaryTagRepository, never()).insertIgnore(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("태그를 모두 지우면 기존 태그를 삭제한다")
+    void syncTags_NullTags_DeletesAll() {
+        // Given
+        given(diaryTagRepository.findTagsByDiaryId(diaryId)).willReturn(List.of("여행"));
+
+        // When
+        diaryTagService.syncTags(writerId, diaryId, null);
+
+        // Then
+        verify(diaryTagRepository).deleteByDiaryIdAndTagIn(diaryId, List.of("여행"));
+    }
+
+    @Test
+    @DisplayName("자주 사용한 태그를 사용 횟수 순으로 반환한다")
+    void readTopTags_ReturnsCounts() {
+        // Given
+        given(diaryTagRepository.findTopTags(writerId, PageRequest.of(0, 2)))
+                .willReturn(List.of(new TagCountRow("여행", 12), new TagCountRow("일상", 7)));
+
+        // When
+        List<TagCountResponse> result = diaryTagService.readTopTags(writerId, 2);
+
+        // Then
+        assertThat(result).extracting(TagCountResponse::getTag).containsExactly("여행", "일상");
+        assertThat(result).extracting(TagCountResponse::getDiaryCount).containsExactly(12L, 7L);
+    }
+
+    @Test
+    @DisplayName("limit 이 없으면 기본 페이지 크기만큼 조회한다")
+    void readTopTags_NoLimit_UsesDefaultSize() {
+        // Given
+        given(diaryTagRepository.findTopTags(writerId, PageRequest.of(0, 20))).willReturn(List.of());
+
+        // When
+        List<TagCountResponse> result = diaryTagService.readTopTags(writerId, null);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일기를 삭제하면 태그도 함께 지운다")
+    void removeTags_DeletesByDiaryId() {
+        // When
+        diaryTagService.removeTags(diaryId);
+
+        // Then
+        verify(diaryTagRepository).deleteByDiaryId(diaryId);
+    }
+
+    @Test
+    @DisplayName("태그는 앞뒤 공백과 # 을 제거하고 소문자로 정규화한다")
+    void normalizeTag_TrimsHashAndLowercases() {
+        // When & Then
+        assertThat(DiaryTagService.normalizeTag("  ##Jeju ")).isEqualTo("jeju");
+        assertThat(DiaryTagService.normalizeTag(" # ")).isNull();
+        assertThat(DiaryTagService.normalizeTag("가".repeat(60))).hasSize(50);
+    }
+}
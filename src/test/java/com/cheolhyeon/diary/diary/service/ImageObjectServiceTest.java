@@ -0,0 +1,54 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.diary.repository.ImageObjectRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImageObjectServiceTest {
+    @Mock
+    ImageObjectRepository imageObjectRepository;
+    @Mock
+    S3DeletionOutboxService s3DeletionOutboxService;
+
+    @InjectMocks
+    ImageObjectService imageObjectService;
+
+    @Test
+    @DisplayName("참조가 0 이 된 객체만 변형 이미지와 함께 삭제 대기열에 넣는다")
+    void release_EnqueuesOnlyUnreferencedObjects() {
+        // Given
+        given(imageObjectRepository.decrementRefCount("shared.jpg")).willReturn(1);
+        given(imageObjectRepository.deleteIfUnreferenced("shared.jpg")).willReturn(0);
+        given(imageObjectRepository.decrementRefCount("last.jpg")).willReturn(1);
+        given(imageObjectRepository.deleteIfUnreferenced("last.jpg")).willReturn(1);
+
+        // When
+        imageObjectService.release(List.of("shared.jpg", "last.jpg"));
+
+        // Then
+        verify(s3DeletionOutboxService).enqueue(List.of("last.jpg", "last_thumb.jpg", "last_medium.jpg"));
+    }
+
+    @Test
+    @DisplayName("참조 정보가 없는 기존 키는 바로 삭제 대기열에 넣는다")
+    void compensate_LegacyKey_Enqueued() {
+        // Given
+        given(imageObjectRepository.decrementRefCount("legacy.png")).willReturn(0);
+
+        // When
+        imageObjectService.compensate(List.of("legacy.png"));
+
+        // Then
+        verify(s3DeletionOutboxService).enqueue(List.of("legacy.png", "legacy_thumb.jpg", "legacy_medium.jpg"));
+    }
+}
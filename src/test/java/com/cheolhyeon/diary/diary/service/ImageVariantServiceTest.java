@@ -0,0 +1,231 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.diary.dto.response.ImageVariantKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+    @Mock
+    S3Service s3Service;
+    @Mock
+    ImageObjectService imageObjectService;
+    @Mock
+    MultipartFile mockImage;
+
+    private ImageVariantService imageVariantService;
+
+    private final String originalKey = "diary_service/1/ULID/2025/09/23/1/abc.png";
+
+    @BeforeEach
+    void setUp() {
+        // 호출한 스레드에서 바로 실행하여 결과를 결정적으로 만든다
+        imageVariantService = new ImageVariantService(s3Service, imageObjectService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("원본 키에서 파생된 키로 긴 변 기준 중간 크기와 썸네일 JPEG 를 올린다")
+    void createVariants_UploadsResizedJpegs() throws Exception {
+        // Given
+        given(mockImage.getInputStream()).willReturn(new ByteArrayInputStream(createPng(4000, 2000)));
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        ImageVariantKeys variant = variants.get(originalKey);
+        assertThat(variant.getMediumKey()).isEqualTo("diary_service/1/ULID/2025/09/23/1/abc_medium.jpg");
+        assertThat(variant.getThumbnailKey()).isEqualTo("diary_service/1/ULID/2025/09/23/1/abc_thumb.jpg");
+
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadVariant(eq(variant.getMediumKey()), medium.capture());
+        verify(s3Service).uploadVariant(eq(variant.getThumbnailKey()), thumbnail.capture());
+        BufferedImage mediumImage = ImageIO.read(new ByteArrayInputStream(medium.getValue()));
+        BufferedImage thumbnailImage = ImageIO.read(new ByteArrayInputStream(thumbnail.getValue()));
+        assertThat(mediumImage.getWidth()).isEqualTo(1280);
+        assertThat(mediumImage.getHeight()).isEqualTo(640);
+        assertThat(thumbnailImage.getWidth()).isEqualTo(320);
+        assertThat(thumbnailImage.getHeight()).isEqualTo(160);
+        verify(imageObjectService).markVariantsReady(List.of(originalKey));
+    }
+
+    @Test
+    @DisplayName("변형을 이미 올린 이미지(재사용한 원본)는 디코딩/업로드 없이 파생 키만 돌려준다")
+    void createVariants_VariantsReady_SkipsGeneration() {
+        // Given
+        given(imageObjectService.findKeysWithVariants(List.of(originalKey))).willReturn(Set.of(originalKey));
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        assertThat(variants.get(originalKey).getMediumKey()).isEqualTo("diary_service/1/ULID/2025/09/23/1/abc_medium.jpg");
+        assertThat(variants.get(originalKey).getThumbnailKey()).isEqualTo("diary_service/1/ULID/2025/09/23/1/abc_thumb.jpg");
+        verifyNoInteractions(mockImage);
+        verify(s3Service, never()).uploadVariant(anyString(), any());
+        verify(imageObjectService, never()).markVariantsReady(anyCollection());
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 한 번에 여러 장 올려 키가 반복되면 변형은 한 번만 만든다")
+    void createVariants_DuplicateKeys_CreatesOnce() throws Exception {
+        // Given
+        given(mockImage.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(createPng(400, 200)));
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(
+                List.of(originalKey, originalKey), List.of(mockImage, mockImage));
+
+        // Then
+        assertThat(variants).containsOnlyKeys(originalKey);
+        verify(s3Service).uploadVariant(eq("diary_service/1/ULID/2025/09/23/1/abc_medium.jpg"), any());
+        verify(s3Service).uploadVariant(eq("diary_service/1/ULID/2025/09/23/1/abc_thumb.jpg"), any());
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 확대하지 않는다")
+    void createVariants_SmallImage_NotUpscaled() throws Exception {
+        // Given
+        given(mockImage.getInputStream()).willReturn(new ByteArrayInputStream(createPng(200, 100)));
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadVariant(eq(variants.get(originalKey).getMediumKey()), medium.capture());
+        assertThat(ImageIO.read(new ByteArrayInputStream(medium.getValue())).getWidth()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 형식이면 변형 없이 원본만 사용한다")
+    void createVariants_UnreadableImage_Skipped() throws Exception {
+        // Given
+        given(mockImage.getInputStream()).willReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        assertThat(variants).isEmpty();
+        verify(s3Service, never()).uploadVariant(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드에 실패하면 변형을 기록하지 않고, 공유될 수 있는 중간 크기 이미지는 지우지 않는다")
+    void createVariants_UploadFailure_NotRecorded() throws Exception {
+        // Given
+        given(mockImage.getInputStream()).willReturn(new ByteArrayInputStream(createPng(400, 400)));
+        willThrow(new RuntimeException("S3 PUT 실패"))
+                .given(s3Service).uploadVariant(eq("diary_service/1/ULID/2025/09/23/1/abc_thumb.jpg"), any());
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        assertThat(variants).isEmpty();
+        verify(s3Service, never()).deleteAll(anyCollection());
+        verify(imageObjectService, never()).markVariantsReady(anyCollection());
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 이 있는 JPEG 는 보이는 방향대로 회전해 변형을 만든다")
+    void createVariants_ExifOrientation_Rotated() throws Exception {
+        // Given
+        // 6: 시계 방향 90도 회전해서 보여야 하는 사진
+        given(mockImage.getInputStream()).willReturn(new ByteArrayInputStream(createJpegWithOrientation(400, 200, 6)));
+
+        // When
+        Map<String, ImageVariantKeys> variants = imageVariantService.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadVariant(eq(variants.get(originalKey).getMediumKey()), medium.capture());
+        BufferedImage mediumImage = ImageIO.read(new ByteArrayInputStream(medium.getValue()));
+        assertThat(mediumImage.getWidth()).isEqualTo(200);
+        assertThat(mediumImage.getHeight()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("디코딩 풀이 가득 차면 요청 스레드에서 디코딩하지 않고 원본만 사용한다")
+    void createVariants_ExecutorSaturated_Skipped() {
+        // Given
+        ImageVariantService saturated = new ImageVariantService(s3Service, imageObjectService, task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        // When
+        Map<String, ImageVariantKeys> variants = saturated.createVariants(List.of(originalKey), List.of(mockImage));
+
+        // Then
+        assertThat(variants).isEmpty();
+        verifyNoInteractions(mockImage);
+        verify(imageObjectService, never()).markVariantsReady(anyCollection());
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 이 없거나 잘린 세그먼트면 그대로(1) 본다")
+    void exifOrientation_MissingOrTruncated_Normal() {
+        assertThat(ImageVariantService.exifOrientation(new byte[]{'E', 'x', 'i', 'f', 0, 0})).isEqualTo(1);
+        assertThat(ImageVariantService.exifOrientation(
+                new byte[]{'E', 'x', 'i', 'f', 0, 0, 'M', 'M', 0, 42, 0, 0, 0, 8, 0, 5})).isEqualTo(1);
+    }
+
+    private static byte[] createPng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    // ImageIO 는 EXIF 를 쓰지 않으므로 JFIF(APP0) 뒤에 Orientation 만 담은 APP1 세그먼트를 직접 끼워 넣는다
+    private static byte[] createJpegWithOrientation(int width, int height, int orientation) throws Exception {
+        ByteArrayOutputStream jpegOut = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", jpegOut);
+        byte[] jpeg = jpegOut.toByteArray();
+        int insertAt = 2 + 2 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, insertAt);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((exif.length + 2) >> 8);
+        out.write((exif.length + 2) & 0xFF);
+        out.write(exif);
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+}
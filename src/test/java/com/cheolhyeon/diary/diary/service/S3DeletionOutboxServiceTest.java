@@ -0,0 +1,90 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.properties.S3DeletionProperties;
+import com.cheolhyeon.diary.diary.entity.S3DeletionOutbox;
+import com.cheolhyeon.diary.diary.repository.S3DeletionOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeletionOutboxServiceTest {
+    @Mock
+    S3DeletionOutboxRepository s3DeletionOutboxRepository;
+    @Spy
+    S3DeletionProperties s3DeletionProperties = new S3DeletionProperties();
+
+    @InjectMocks
+    S3DeletionOutboxService s3DeletionOutboxService;
+
+    private static S3DeletionOutbox row(long id, String s3Key) {
+        return S3DeletionOutbox.builder().id(id).s3Key(s3Key).build();
+    }
+
+    @Test
+    @DisplayName("키마다 바로 시도할 수 있는 대기 행을 기록한다")
+    @SuppressWarnings("unchecked")
+    void enqueue_SavesPendingRows() {
+        // When
+        s3DeletionOutboxService.enqueue(List.of("a.jpg", "a_thumb.jpg"));
+
+        // Then
+        ArgumentCaptor<List<S3DeletionOutbox>> rows = ArgumentCaptor.forClass(List.class);
+        verify(s3DeletionOutboxRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).extracting(S3DeletionOutbox::getS3Key).containsExactly("a.jpg", "a_thumb.jpg");
+        assertThat(rows.getValue()).allSatisfy(row -> {
+            assertThat(row.getAttempts()).isZero();
+            assertThat(row.getNextAttemptAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("지울 키가 없으면 기록하지 않는다")
+    void enqueue_Empty_SavesNothing() {
+        // When
+        s3DeletionOutboxService.enqueue(List.of());
+
+        // Then
+        verify(s3DeletionOutboxRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("설정한 배치 크기만큼 꺼낸다 (1000 개를 넘는 배치는 S3Service 가 나눠서 지운다)")
+    void findDue_UsesConfiguredBatchSize() {
+        // Given
+        s3DeletionProperties.setBatchSize(5000);
+
+        // When
+        s3DeletionOutboxService.findDue();
+
+        // Then
+        verify(s3DeletionOutboxRepository).findDue(5000);
+    }
+
+    @Test
+    @DisplayName("지워진 키의 행은 지우고 실패한 키의 행은 백오프로 미룬다")
+    void complete_DeletesSucceededAndReschedulesFailed() {
+        // Given
+        List<S3DeletionOutbox> rows = List.of(row(1L, "a.jpg"), row(2L, "b.jpg"), row(3L, "c.jpg"));
+
+        // When
+        s3DeletionOutboxService.complete(rows, Map.of("b.jpg", "AccessDenied: Access Denied"));
+
+        // Then
+        verify(s3DeletionOutboxRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(s3DeletionOutboxRepository).markFailed(2L, "AccessDenied: Access Denied", 30L, 3600L, 30);
+    }
+}
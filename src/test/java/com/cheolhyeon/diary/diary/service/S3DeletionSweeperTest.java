@@ -0,0 +1,64 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.diary.entity.S3DeletionOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeletionSweeperTest {
+    @Mock
+    S3DeletionOutboxService s3DeletionOutboxService;
+    @Mock
+    S3Service s3Service;
+
+    @InjectMocks
+    S3DeletionSweeper s3DeletionSweeper;
+
+    private static S3DeletionOutbox row(long id, String s3Key) {
+        return S3DeletionOutbox.builder().id(id).s3Key(s3Key).build();
+    }
+
+    @Test
+    @DisplayName("대기 중인 키를 중복 없이 한 번에 지우고 결과를 기록한다")
+    void sweep_DeletesDueKeysInOneBatch() {
+        // Given
+        List<S3DeletionOutbox> due = List.of(row(1L, "a.jpg"), row(2L, "b.jpg"), row(3L, "a.jpg"));
+        given(s3DeletionOutboxService.findDue()).willReturn(due);
+        given(s3Service.deleteAll(Set.of("a.jpg", "b.jpg"))).willReturn(Map.of("b.jpg", "AccessDenied: Access Denied"));
+
+        // When
+        s3DeletionSweeper.sweep();
+
+        // Then
+        verify(s3DeletionOutboxService).complete(due, Map.of("b.jpg", "AccessDenied: Access Denied"));
+    }
+
+    @Test
+    @DisplayName("대기 중인 키가 없으면 S3 를 호출하지 않는다")
+    void sweep_NothingDue_SkipsDelete() {
+        // Given
+        given(s3DeletionOutboxService.findDue()).willReturn(List.of());
+
+        // When
+        s3DeletionSweeper.sweep();
+
+        // Then
+        verify(s3Service, never()).deleteAll(anyCollection());
+        verify(s3DeletionOutboxService, never()).complete(anyList(), anyMap());
+    }
+}
@@ -0,0 +1,243 @@
+package com.cheolhyeon.diary.diary.service;
+
+import com.cheolhyeon.diary.app.exception.s3.S3Exception;
+import com.cheolhyeon.diary.app.properties.PresignedUrlProperties;
+import com.cheolhyeon.diary.app.util.UlidGenerator;
+import io.awspring.cloud.s3.S3Template;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3ServiceTest {
+    @Mock
+    S3Template s3Template;
+    @Mock
+    S3Client s3Client;
+    @Mock
+    ImageObjectService imageObjectService;
+    @Mock
+    S3DeletionOutboxService s3DeletionOutboxService;
+    @Mock
+    MultipartFile mockImage1;
+    @Mock
+    MultipartFile mockImage2;
+
+    private final String bucketName = "test-bucket";
+    private ExecutorService executor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        PresignedUrlProperties properties = new PresignedUrlProperties();
+        s3Service = new S3Service(s3Template, s3Client, new PresignedUrlCache(properties), properties,
+                imageObjectService, s3DeletionOutboxService, executor);
+        ReflectionTestUtils.setField(s3Service, "bucketName", bucketName);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void givenNewImagesAreRegistered() {
+        given(imageObjectService.register(anyLong(), any(), anyString()))
+                .willAnswer(invocation -> invocation.getArgument(2));
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 후에도 이미지 순서대로 키를 반환한다")
+    void upload_Parallel_PreservesKeyOrder() throws Exception {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        given(mockImage1.getOriginalFilename()).willReturn("photo.JPG");
+        given(mockImage1.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(new byte[]{1}));
+        given(mockImage2.getOriginalFilename()).willReturn("thumbnail_photo.png");
+        given(mockImage2.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(new byte[]{2}));
+        givenNewImagesAreRegistered();
+
+        // When
+        List<String> keys = s3Service.upload(1L, diaryId, List.of(mockImage1, mockImage2), 2025, 9, 23);
+
+        // Then
+        String prefix = "diary_service/1/" + UlidGenerator.ulidBytesToString(diaryId) + "/2025/09/23/";
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0)).startsWith(prefix + "1/").endsWith(".jpg");
+        assertThat(keys.get(1)).startsWith(prefix + "2/").doesNotContain("thumbnail_").endsWith(".png");
+        verify(s3Template).upload(eq(bucketName), eq(keys.get(0)), any(InputStream.class));
+        verify(s3Template).upload(eq(bucketName), eq(keys.get(1)), any(InputStream.class));
+        verifyNoInteractions(s3DeletionOutboxService);
+    }
+
+    @Test
+    @DisplayName("하나라도 업로드에 실패하면 모든 키를 정리 대상으로 기록하고 S3Exception 발생")
+    void upload_OneFailure_CleansUpAllKeys() throws Exception {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        given(mockImage1.getOriginalFilename()).willReturn("photo1.jpg");
+        given(mockImage1.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(new byte[]{1}));
+        given(mockImage2.getOriginalFilename()).willReturn("photo2.jpg");
+        given(mockImage2.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(new byte[]{2}));
+        given(s3Template.upload(eq(bucketName), contains("/2/"), any(InputStream.class)))
+                .willThrow(new RuntimeException("S3 PUT 실패"));
+        givenNewImagesAreRegistered();
+
+        // When & Then
+        assertThatThrownBy(() -> s3Service.upload(1L, diaryId, List.of(mockImage1, mockImage2), 2025, 9, 23))
+                .isInstanceOf(S3Exception.class);
+        // 등록된 첫 번째 이미지는 참조를 되돌리고, 실패한 두 번째 이미지는 키를 삭제 대기열에 넣는다
+        verify(imageObjectService).compensate(argThat(keys -> keys.size() == 1 && keys.get(0).contains("/1/")));
+        verify(s3DeletionOutboxService).enqueueInNewTransaction(
+                argThat(keys -> keys.size() == 1 && keys.iterator().next().contains("/2/")));
+        verify(s3Template, never()).deleteObject(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 작성자가 이미 올린 이미지면 PUT 없이 기존 키를 재사용한다")
+    void upload_SameContent_ReusesExistingKey() throws Exception {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        byte[] content = {7, 7, 7};
+        given(mockImage1.getOriginalFilename()).willReturn("photo.jpg");
+        given(mockImage1.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(content));
+        given(imageObjectService.acquireExisting(1L, MessageDigest.getInstance("SHA-256").digest(content)))
+                .willReturn("diary_service/1/OLD/2025/09/01/1/existing.jpg");
+
+        // When
+        List<String> keys = s3Service.upload(1L, diaryId, List.of(mockImage1), 2025, 9, 23);
+
+        // Then
+        assertThat(keys).containsExactly("diary_service/1/OLD/2025/09/01/1/existing.jpg");
+        verify(s3Template, never()).upload(anyString(), anyString(), any(InputStream.class));
+        verify(imageObjectService, never()).register(anyLong(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 이미지가 동시에 먼저 등록되었으면 방금 올린 객체를 삭제 대기열에 넣고 먼저 등록된 키를 사용한다")
+    void upload_ConcurrentRegistration_UsesWinnerKey() throws Exception {
+        // Given
+        byte[] diaryId = UlidGenerator.generatorUlidAsBytes();
+        given(mockImage1.getOriginalFilename()).willReturn("photo.jpg");
+        given(mockImage1.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(new byte[]{1}));
+        given(imageObjectService.register(eq(1L), any(), anyString())).willReturn("winner.jpg");
+
+        // When
+        List<String> keys = s3Service.upload(1L, diaryId, List.of(mockImage1), 2025, 9, 23);
+
+        // Then
+        assertThat(keys).containsExactly("winner.jpg");
+        ArgumentCaptor<String> uploadedKey = ArgumentCaptor.forClass(String.class);
+        verify(s3Template).upload(eq(bucketName), uploadedKey.capture(), any(InputStream.class));
+        verify(s3DeletionOutboxService).enqueueInNewTransaction(List.of(uploadedKey.getValue()));
+    }
+
+    @Test
+    @DisplayName("1000 개 이하의 객체는 한 번의 요청으로 지우고 실패한 키만 반환한다")
+    void deleteAll_ReturnsFailedKeys() {
+        // Given
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).willReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("key2").code("AccessDenied").message("Access Denied").build())
+                .build());
+
+        // When
+        Map<String, String> failures = s3Service.deleteAll(List.of("key1", "key2", "key1"));
+
+        // Then
+        assertThat(failures).containsExactly(Map.entry("key2", "AccessDenied: Access Denied"));
+        ArgumentCaptor<DeleteObjectsRequest> request = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(request.capture());
+        assertThat(request.getValue().bucket()).isEqualTo(bucketName);
+        assertThat(request.getValue().delete().quiet()).isTrue();
+        assertThat(request.getValue().delete().objects())
+                .extracting(object -> object.key())
+                .containsExactly("key1", "key2");
+    }
+
+    @Test
+    @DisplayName("1000 개씩 나눠 보내고, 요청이 실패한 묶음의 키는 모두 실패로 반환한다")
+    void deleteAll_ChunksRequests_ReportsFailedChunk() {
+        // Given
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "key" + i).toList();
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).willAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            if (request.delete().objects().get(0).key().equals("key1000")) {
+                throw new RuntimeException("timeout");
+            }
+            return DeleteObjectsResponse.builder().build();
+        });
+
+        // When
+        Map<String, String> failures = s3Service.deleteAll(keys);
+
+        // Then
+        ArgumentCaptor<DeleteObjectsRequest> requests = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(3)).deleteObjects(requests.capture());
+        assertThat(requests.getAllValues())
+                .extracting(request -> request.delete().objects().size())
+                .containsExactlyInAnyOrder(1000, 1000, 500);
+        assertThat(failures).hasSize(1000).containsEntry("key1000", "timeout").containsKey("key1999");
+    }
+
+    @Test
+    @DisplayName("캐시된 서명 URL 이 있으면 다시 서명하지 않는다")
+    void createImageUrl_CachedUrl_SkipsSigning() throws Exception {
+        // Given
+        given(s3Template.createSignedGetURL(bucketName, "key1", Duration.ofMinutes(5)))
+                .willReturn(new URL("https://s3.url/key1"));
+
+        // When
+        List<String> first = s3Service.createImageUrl(List.of("key1"));
+        List<String> second = s3Service.createImageUrl(List.of("key1"));
+
+        // Then
+        assertThat(first).containsExactly("https://s3.url/key1");
+        assertThat(second).isEqualTo(first);
+        verify(s3Template, times(1)).createSignedGetURL(bucketName, "key1", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("객체를 삭제하면 캐시된 서명 URL 도 무효화된다")
+    void deleteAll_InvalidatesCachedUrl() throws Exception {
+        // Given
+        given(s3Template.createSignedGetURL(bucketName, "key1", Duration.ofMinutes(5)))
+                .willReturn(new URL("https://s3.url/key1"));
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).willReturn(DeleteObjectsResponse.builder().build());
+        s3Service.createImageUrl(List.of("key1"));
+
+        // When
+        s3Service.deleteAll(List.of("key1"));
+        s3Service.createImageUrl(List.of("key1"));
+
+        // Then
+        verify(s3Template, times(2)).createSignedGetURL(bucketName, "key1", Duration.ofMinutes(5));
+    }
+}
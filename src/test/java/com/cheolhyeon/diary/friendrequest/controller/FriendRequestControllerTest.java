@@ -3,6 +3,8 @@ package com.cheolhyeon.diary.friendrequest.controller;
 import com.cheolhyeon.diary.auth.service.CustomUserPrincipal;
 import com.cheolhyeon.diary.friendrequest.dto.request.FriendRequestActionRequest;
 import com.cheolhyeon.diary.friendrequest.dto.response.FriendRequestActionResponse;
+import com.cheolhyeon.diary.friendrequest.dto.response.FriendRequestInboxResponse;
+import com.cheolhyeon.diary.friendrequest.dto.response.PendingFriendRequestResponse;
 import com.cheolhyeon.diary.friendrequest.dto.response.SearchShareCodeOwnerResponse;
 import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
 import com.cheolhyeon.diary.friendrequest.service.FriendRequestService;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -203,5 +206,33 @@ class FriendRequestControllerTest {
         FriendRequestActionResponse declineResponse = (FriendRequestActionResponse) declineResult.getBody();
         assertThat(Objects.requireNonNull(declineResponse).getActionResult()).isEqualTo("친구 요청을 거절하셨습니다.");
     }
-}
 
+    @Test
+    @DisplayName("받은 친구 요청 목록 조회 성공")
+    void getInbox_Success() {
+        // Given
+        String cursor = "01K5GMK22MR1DZGJ0MD191NRJ6";
+        PendingFriendRequestResponse request = PendingFriendRequestResponse.builder()
+                .requestId("01K5GMK22MR1DZGJ0MD191NRJ5")
+                .requesterUserId(2L)
+                .requesterDisplayName("요청자유저")
+                .build();
+        FriendRequestInboxResponse expectedResponse = FriendRequestInboxResponse.builder()
+                .requests(List.of(request))
+                .nextCursor("01K5GMK22MR1DZGJ0MD191NRJ5")
+                .hasNext(true)
+                .build();
+
+        given(friendRequestService.readInbox(userId, cursor, 1)).willReturn(expectedResponse);
+
+        // When
+        ResponseEntity<FriendRequestInboxResponse> result = friendRequestController.getInbox(testUser, cursor, 1);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isNotNull();
+        assertThat(result.getBody().getRequests()).hasSize(1);
+        assertThat(result.getBody().getNextCursor()).isEqualTo("01K5GMK22MR1DZGJ0MD191NRJ5");
+        verify(friendRequestService).readInbox(userId, cursor, 1);
+    }
+}
@@ -3,20 +3,26 @@ package com.cheolhyeon.diary.friendrequest.service;
 import com.cheolhyeon.diary.app.event.friendrequest.FriendRequestNotification;
 import com.cheolhyeon.diary.app.exception.friendrequest.FriendRequestErrorStatus;
 import com.cheolhyeon.diary.app.exception.friendrequest.FriendRequestException;
+import com.cheolhyeon.diary.app.exception.session.UserErrorStatus;
 import com.cheolhyeon.diary.app.exception.session.UserException;
 import com.cheolhyeon.diary.app.exception.sharecode.ShareCodeException;
+import com.cheolhyeon.diary.app.properties.PaginationProperties;
 import com.cheolhyeon.diary.auth.entity.AuthSession;
 import com.cheolhyeon.diary.auth.entity.User;
 import com.cheolhyeon.diary.auth.repository.UserRepository;
 import com.cheolhyeon.diary.auth.session.SessionRepository;
+import com.cheolhyeon.diary.friendrequest.dto.projection.PendingFriendRequestRow;
 import com.cheolhyeon.diary.friendrequest.dto.request.FriendRequestActionRequest;
+import com.cheolhyeon.diary.friendrequest.dto.response.FriendRequestInboxResponse;
+import com.cheolhyeon.diary.friendrequest.dto.response.PendingFriendRequestResponse;
 import com.cheolhyeon.diary.friendrequest.dto.response.SearchShareCodeOwnerResponse;
 import com.cheolhyeon.diary.friendrequest.entity.FriendRequest;
 import com.cheolhyeon.diary.friendrequest.enums.FriendRequestStatus;
 import com.cheolhyeon.diary.friendrequest.repository.FriendRequestRepository;
-import com.cheolhyeon.diary.sharecode.entity.ShareCode;
+import com.cheolhyeon.diary.sharecode.dto.ShareCodeOwner;
 import com.cheolhyeon.diary.sharecode.enums.ShareCodeStatus;
 import com.cheolhyeon.diary.sharecode.repository.ShareCodeRepository;
+import com.cheolhyeon.diary.sharecode.service.ShareCodeLookupCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,16 +30,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +56,9 @@ class FriendRequestServiceTest {
     @Mock
     private FriendRequestRepository friendRequestRepository;
 
+    @Mock
+    private ShareCodeLookupCache shareCodeLookupCache;
+
     @Mock
     private ShareCodeRepository shareCodeRepository;
 
@@ -58,11 +71,16 @@ class FriendRequestServiceTest {
     @Mock
     private com.cheolhyeon.diary.app.util.HashCodeGenerator hashCodeGenerator;
 
+    @Mock
+    private PendingFriendRequestCounter pendingFriendRequestCounter;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
     @InjectMocks
     private FriendRequestService friendRequestService;
 
-    private ShareCode testShareCode;
-    private User shareCodeOwner;
+    private ShareCodeOwner testShareCodeOwner;
     private User requesterUser;
     private AuthSession ownerSession;
     private Long ownerId;
@@ -77,22 +95,7 @@ class FriendRequestServiceTest {
         plainShareCode = "PLAIN_CODE_123";
         hashShareCode = "HASH_CODE_ABC123";
 
-        testShareCode = ShareCode.builder()
-                .userId(ownerId)
-                .codePlain(plainShareCode)
-                .codeHash(hashShareCode)
-                .status(ShareCodeStatus.ACTIVE)
-                .build();
-
-        shareCodeOwner = new User(
-                ownerId,
-                "owner@test.com",
-                "010-0000-0000",
-                "공유코드소유자",
-                com.cheolhyeon.diary.auth.enums.UserActiveStatus.ACTIVE,
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
+        testShareCodeOwner = new ShareCodeOwner(ownerId, "공유코드소유자");
 
         requesterUser = new User(
                 requesterId,
@@ -122,8 +125,7 @@ class FriendRequestServiceTest {
     void searchOwnerByShareCode_Success() {
         // Given
         given(hashCodeGenerator.generateShareCodeHash(plainShareCode)).willReturn(hashShareCode);
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.of(testShareCode));
-        given(userRepository.findById(ownerId)).willReturn(Optional.of(shareCodeOwner));
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.of(testShareCodeOwner));
 
         // When
         SearchShareCodeOwnerResponse response = friendRequestService.searchOwnerByShareCode(plainShareCode);
@@ -134,8 +136,7 @@ class FriendRequestServiceTest {
         assertThat(response.getShareCodeHash()).isNotNull();
 
         verify(hashCodeGenerator).generateShareCodeHash(plainShareCode);
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
-        verify(userRepository).findById(ownerId);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
     }
 
     @Test
@@ -143,14 +144,14 @@ class FriendRequestServiceTest {
     void searchOwnerByShareCode_Fail_ShareCodeNotFound() {
         // Given
         given(hashCodeGenerator.generateShareCodeHash(plainShareCode)).willReturn(hashShareCode);
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.empty());
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> friendRequestService.searchOwnerByShareCode(plainShareCode))
                 .isInstanceOf(ShareCodeException.class);
 
         verify(hashCodeGenerator).generateShareCodeHash(plainShareCode);
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
     }
 
     @Test
@@ -158,23 +159,22 @@ class FriendRequestServiceTest {
     void searchOwnerByShareCode_Fail_UserNotFound() {
         // Given
         given(hashCodeGenerator.generateShareCodeHash(plainShareCode)).willReturn(hashShareCode);
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.of(testShareCode));
-        given(userRepository.findById(ownerId)).willReturn(Optional.empty());
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willThrow(new UserException(UserErrorStatus.NOT_FOUND));
 
         // When & Then
         assertThatThrownBy(() -> friendRequestService.searchOwnerByShareCode(plainShareCode))
                 .isInstanceOf(UserException.class);
 
         verify(hashCodeGenerator).generateShareCodeHash(plainShareCode);
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
-        verify(userRepository).findById(ownerId);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
     }
 
     @Test
     @DisplayName("친구 요청 생성 성공")
     void requestFriendRequest_Success() {
         // Given
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.of(testShareCode));
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.of(testShareCodeOwner));
+        given(shareCodeRepository.existsByCodeHashAndStatus(hashShareCode, ShareCodeStatus.ACTIVE)).willReturn(true);
         given(sessionRepository.findByUserId(ownerId)).willReturn(Optional.of(ownerSession));
         given(userRepository.findById(requesterId)).willReturn(Optional.of(requesterUser));
         given(friendRequestRepository.save(any(FriendRequest.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -195,9 +195,10 @@ class FriendRequestServiceTest {
         assertThat(savedRequest.getCreatedAt()).isNotNull();
         assertThat(savedRequest.getDecidedAt()).isNull();
 
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
         verify(sessionRepository).findByUserId(ownerId);
         verify(userRepository).findById(requesterId);
+        verify(pendingFriendRequestCounter).increment(ownerId);
         verify(eventPublisher).publishEvent(any(FriendRequestNotification.class));
     }
 
@@ -205,27 +206,44 @@ class FriendRequestServiceTest {
     @DisplayName("친구 요청 생성 실패 - ShareCode가 존재하지 않음")
     void requestFriendRequest_Fail_ShareCodeNotFound() {
         // Given
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.empty());
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> friendRequestService.requestFriendRequest(hashShareCode, requesterId))
                 .isInstanceOf(ShareCodeException.class);
 
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
+    }
+
+    @Test
+    @DisplayName("친구 요청 생성 실패 - 캐시에는 남아 있지만 이미 폐기된 ShareCode")
+    void requestFriendRequest_Fail_ShareCodeRevoked() {
+        // Given
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.of(testShareCodeOwner));
+        given(shareCodeRepository.existsByCodeHashAndStatus(hashShareCode, ShareCodeStatus.ACTIVE)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> friendRequestService.requestFriendRequest(hashShareCode, requesterId))
+                .isInstanceOf(ShareCodeException.class);
+
+        verify(shareCodeLookupCache).invalidate(hashShareCode);
+        verify(friendRequestRepository, never()).save(any(FriendRequest.class));
+        verify(pendingFriendRequestCounter, never()).increment(any());
     }
 
     @Test
     @DisplayName("친구 요청 생성 실패 - 대상자 세션이 존재하지 않음")
     void requestFriendRequest_Fail_OwnerSessionNotFound() {
         // Given
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.of(testShareCode));
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.of(testShareCodeOwner));
+        given(shareCodeRepository.existsByCodeHashAndStatus(hashShareCode, ShareCodeStatus.ACTIVE)).willReturn(true);
         given(sessionRepository.findByUserId(ownerId)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> friendRequestService.requestFriendRequest(hashShareCode, requesterId))
                 .isInstanceOf(UserException.class);
 
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
         verify(sessionRepository).findByUserId(ownerId);
     }
 
@@ -233,7 +251,8 @@ class FriendRequestServiceTest {
     @DisplayName("친구 요청 생성 실패 - 요청자가 존재하지 않음")
     void requestFriendRequest_Fail_RequesterNotFound() {
         // Given
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.of(testShareCode));
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.of(testShareCodeOwner));
+        given(shareCodeRepository.existsByCodeHashAndStatus(hashShareCode, ShareCodeStatus.ACTIVE)).willReturn(true);
         given(sessionRepository.findByUserId(ownerId)).willReturn(Optional.of(ownerSession));
         given(userRepository.findById(requesterId)).willReturn(Optional.empty());
 
@@ -241,7 +260,7 @@ class FriendRequestServiceTest {
         assertThatThrownBy(() -> friendRequestService.requestFriendRequest(hashShareCode, requesterId))
                 .isInstanceOf(UserException.class);
 
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
         verify(sessionRepository).findByUserId(ownerId);
         verify(userRepository).findById(requesterId);
     }
@@ -250,7 +269,8 @@ class FriendRequestServiceTest {
     @DisplayName("친구 요청 생성 - 이벤트 발행 확인")
     void requestFriendRequest_EventPublished() {
         // Given
-        given(shareCodeRepository.findShareCodeByHashCode(hashShareCode)).willReturn(Optional.of(testShareCode));
+        given(shareCodeLookupCache.findOwner(hashShareCode)).willReturn(Optional.of(testShareCodeOwner));
+        given(shareCodeRepository.existsByCodeHashAndStatus(hashShareCode, ShareCodeStatus.ACTIVE)).willReturn(true);
         given(sessionRepository.findByUserId(ownerId)).willReturn(Optional.of(ownerSession));
         given(userRepository.findById(requesterId)).willReturn(Optional.of(requesterUser));
         given(friendRequestRepository.save(any(FriendRequest.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -259,7 +279,7 @@ class FriendRequestServiceTest {
         friendRequestService.requestFriendRequest(hashShareCode, requesterId);
 
         // Then
-        verify(shareCodeRepository).findShareCodeByHashCode(hashShareCode);
+        verify(shareCodeLookupCache).findOwner(hashShareCode);
         verify(sessionRepository).findByUserId(ownerId);
         verify(userRepository).findById(requesterId);
         verify(friendRequestRepository).save(any(FriendRequest.class));
@@ -290,6 +310,10 @@ class FriendRequestServiceTest {
         given(friendRequestRepository.findPendingById(requestId, FriendRequestStatus.PENDING.name()))
                 .willReturn(Optional.of(pendingRequest));
 
+        given(friendRequestRepository.updateStatusByUserAction(
+                eq(requestId), eq(userId), eq(FriendRequestStatus.ACCEPTED.name()), any(LocalDateTime.class)))
+                .willReturn(1);
+
         // When
         FriendRequestStatus result = friendRequestService.decide(userId, actionRequest);
 
@@ -298,6 +322,7 @@ class FriendRequestServiceTest {
         verify(friendRequestRepository).findPendingById(requestId, FriendRequestStatus.PENDING.name());
         verify(friendRequestRepository).updateStatusByUserAction(
                 anyString(), anyLong(), anyString(), any(LocalDateTime.class));
+        verify(pendingFriendRequestCounter).decrement(userId);
     }
 
     @Test
@@ -324,6 +349,10 @@ class FriendRequestServiceTest {
         given(friendRequestRepository.findPendingById(requestId, FriendRequestStatus.PENDING.name()))
                 .willReturn(Optional.of(pendingRequest));
 
+        given(friendRequestRepository.updateStatusByUserAction(
+                eq(requestId), eq(userId), eq(FriendRequestStatus.DECLINED.name()), any(LocalDateTime.class)))
+                .willReturn(1);
+
         // When
         FriendRequestStatus result = friendRequestService.decide(userId, actionRequest);
 
@@ -332,6 +361,42 @@ class FriendRequestServiceTest {
         verify(friendRequestRepository).findPendingById(requestId, FriendRequestStatus.PENDING.name());
         verify(friendRequestRepository).updateStatusByUserAction(
                 anyString(), anyLong(), anyString(), any(LocalDateTime.class));
+        verify(pendingFriendRequestCounter).decrement(userId);
+    }
+
+    @Test
+    @DisplayName("친구 요청 처리 - 동시에 먼저 처리되어 변경된 행이 없으면 대기 개수를 줄이지 않는다")
+    void decide_ConcurrentlyDecided_DoesNotDecrement() {
+        // Given
+        String requestId = "REQ_RACE_789";
+        Long userId = 1L;
+        FriendRequestActionRequest actionRequest = FriendRequestActionRequest.builder()
+                .id(requestId)
+                .decide(FriendRequestStatus.ACCEPTED.name())
+                .build();
+
+        FriendRequest pendingRequest = FriendRequest.builder()
+                .id(requestId)
+                .ownerUserId(ownerId)
+                .requesterUserId(requesterId)
+                .hashShareCode(hashShareCode)
+                .status(FriendRequestStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .decidedAt(null)
+                .build();
+
+        given(friendRequestRepository.findPendingById(requestId, FriendRequestStatus.PENDING.name()))
+                .willReturn(Optional.of(pendingRequest));
+        given(friendRequestRepository.updateStatusByUserAction(
+                eq(requestId), eq(userId), eq(FriendRequestStatus.ACCEPTED.name()), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // When
+        FriendRequestStatus result = friendRequestService.decide(userId, actionRequest);
+
+        // Then
+        assertThat(result).isEqualTo(FriendRequestStatus.ACCEPTED);
+        verify(pendingFriendRequestCounter, never()).decrement(anyLong());
     }
 
     @Test
@@ -389,5 +454,64 @@ class FriendRequestServiceTest {
         verify(friendRequestRepository).updateStatusByUserAction(
                 anyString(), anyLong(), anyString(), any(LocalDateTime.class));
     }
-}
 
+    @Test
+    @DisplayName("받은 친구 요청 첫 페이지 조회 - 다음 커서를 반환한다")
+    void readInbox_FirstPage_ReturnsSliceWithNextCursor() {
+        // Given
+        Long userId = ownerId;
+        PendingFriendRequestRow newest = new PendingFriendRequestRow(
+                "01K5GMK22MR1DZGJ0MD191NRJ8", 201L, "요청자3", LocalDateTime.of(2025, 9, 5, 12, 0));
+        PendingFriendRequestRow middle = new PendingFriendRequestRow(
+                "01K5GMK22MR1DZGJ0MD191NRJ7", 202L, "요청자2", LocalDateTime.of(2025, 9, 5, 11, 0));
+        PendingFriendRequestRow oldest = new PendingFriendRequestRow(
+                "01K5GMK22MR1DZGJ0MD191NRJ6", 203L, "요청자1", LocalDateTime.of(2025, 9, 5, 10, 0));
+
+        given(friendRequestRepository.findInbox(
+                userId, FriendRequestStatus.PENDING, "ZZZZZZZZZZZZZZZZZZZZZZZZZZ", PageRequest.of(0, 3)))
+                .willReturn(List.of(newest, middle, oldest));
+
+        // When
+        FriendRequestInboxResponse result = friendRequestService.readInbox(userId, null, 2);
+
+        // Then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getRequests())
+                .extracting(PendingFriendRequestResponse::getRequesterDisplayName)
+                .containsExactly("요청자3", "요청자2");
+        assertThat(result.getNextCursor()).isEqualTo("01K5GMK22MR1DZGJ0MD191NRJ7");
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("받은 친구 요청 마지막 페이지 조회 - 다음 커서가 없다")
+    void readInbox_LastPage_ReturnsNoNextCursor() {
+        // Given
+        Long userId = ownerId;
+        String cursor = "01k5gmk22mr1dzgj0md191nrj7";
+        PendingFriendRequestRow oldest = new PendingFriendRequestRow(
+                "01K5GMK22MR1DZGJ0MD191NRJ6", 203L, "요청자1", LocalDateTime.of(2025, 9, 5, 10, 0));
+
+        given(friendRequestRepository.findInbox(
+                userId, FriendRequestStatus.PENDING, "01K5GMK22MR1DZGJ0MD191NRJ7", PageRequest.of(0, 21)))
+                .willReturn(List.of(oldest));
+
+        // When
+        FriendRequestInboxResponse result = friendRequestService.readInbox(userId, cursor, null);
+
+        // Then
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getRequests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("받은 친구 요청 조회 실패 - 커서가 ULID 형식이 아님")
+    void readInbox_InvalidCursor_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> friendRequestService.readInbox(ownerId, "not-a-ulid", 20))
+                .isInstanceOf(FriendRequestException.class)
+                .hasFieldOrPropertyWithValue("errorStatus", FriendRequestErrorStatus.INVALID_CURSOR);
+        verify(friendRequestRepository, never()).findInbox(anyLong(), any(), anyString(), any());
+    }
+}
@@ -0,0 +1,140 @@
+package com.cheolhyeon.diary.friendrequest.service;
+
+import com.cheolhyeon.diary.friendrequest.entity.FriendRequestPendingCounter;
+import com.cheolhyeon.diary.friendrequest.repository.FriendRequestPendingCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PendingFriendRequestCounterTest {
+
+    @Mock
+    FriendRequestPendingCounterRepository counterRepository;
+
+    PendingFriendRequestCounter pendingFriendRequestCounter;
+
+    private final Long userId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        pendingFriendRequestCounter = new PendingFriendRequestCounter(counterRepository, 100, Duration.ofMinutes(1), 2);
+    }
+
+    @Test
+    @DisplayName("카운터를 한 번만 조회하고 이후에는 캐시에서 응답한다")
+    void getPendingCount_CachesResult() {
+        // Given
+        given(counterRepository.findById(userId)).willReturn(Optional.of(counter(3)));
+
+        // When
+        long first = pendingFriendRequestCounter.getPendingCount(userId);
+        long second = pendingFriendRequestCounter.getPendingCount(userId);
+
+        // Then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(3);
+        verify(counterRepository, times(1)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 대기중 요청을 세어 행을 만든 뒤 그 값을 반환한다")
+    void getPendingCount_NoRow_Backfills() {
+        // Given
+        given(counterRepository.findById(userId))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(counter(2)));
+
+        // When
+        long result = pendingFriendRequestCounter.getPendingCount(userId);
+
+        // Then
+        assertThat(result).isEqualTo(2);
+        verify(counterRepository).backfill(userId);
+    }
+
+    @Test
+    @DisplayName("증가하면 캐시를 무효화해 다음 조회에서 새 값을 읽는다")
+    void increment_InvalidatesCache() {
+        // Given
+        given(counterRepository.findById(userId))
+                .willReturn(Optional.of(counter(3)))
+                .willReturn(Optional.of(counter(4)));
+        pendingFriendRequestCounter.getPendingCount(userId);
+
+        // When
+        pendingFriendRequestCounter.increment(userId);
+        long result = pendingFriendRequestCounter.getPendingCount(userId);
+
+        // Then
+        assertThat(result).isEqualTo(4);
+        verify(counterRepository).increment(userId);
+        verify(counterRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("감소하면 캐시를 무효화해 다음 조회에서 새 값을 읽는다")
+    void decrement_InvalidatesCache() {
+        // Given
+        given(counterRepository.findById(userId))
+                .willReturn(Optional.of(counter(3)))
+                .willReturn(Optional.of(counter(2)));
+        pendingFriendRequestCounter.getPendingCount(userId);
+
+        // When
+        pendingFriendRequestCounter.decrement(userId);
+        long result = pendingFriendRequestCounter.getPendingCount(userId);
+
+        // Then
+        assertThat(result).isEqualTo(2);
+        verify(counterRepository).decrement(userId);
+    }
+
+    @Test
+    @DisplayName("reconcile 은 사용자 ID 배치마다 테이블을 다시 맞추고 캐시를 모두 비운다")
+    void reconcile_RebuildsCountsInBatchesAndClearsCache() {
+        // Given
+        given(counterRepository.findById(userId))
+                .willReturn(Optional.of(counter(7)))
+                .willReturn(Optional.of(counter(1)));
+        given(counterRepository.findPendingOwnerIds(Long.MIN_VALUE, 2)).willReturn(List.of(10L, 20L));
+        given(counterRepository.findPendingOwnerIds(20L, 2)).willReturn(List.of(30L));
+        given(counterRepository.findNonZeroCounterUserIds(Long.MIN_VALUE, 2)).willReturn(List.of(10L, 40L));
+        given(counterRepository.findNonZeroCounterUserIds(40L, 2)).willReturn(List.of());
+        pendingFriendRequestCounter.getPendingCount(userId);
+
+        // When
+        pendingFriendRequestCounter.reconcile();
+        long result = pendingFriendRequestCounter.getPendingCount(userId);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        verify(counterRepository).reconcilePendingCounts(10L, 20L);
+        verify(counterRepository).reconcilePendingCounts(30L, 30L);
+        verify(counterRepository).resetCountsWithoutPending(List.of(10L, 40L));
+        verify(counterRepository, times(2)).findPendingOwnerIds(anyLong(), anyInt());
+    }
+
+    private FriendRequestPendingCounter counter(int pendingCount) {
+        return FriendRequestPendingCounter.builder()
+                .userId(userId)
+                .pendingCount(pendingCount)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.cheolhyeon.diary.sharecode.service;
+
+import com.cheolhyeon.diary.app.cluster.ClusterBroadcaster;
+import com.cheolhyeon.diary.app.exception.session.UserException;
+import com.cheolhyeon.diary.auth.entity.User;
+import com.cheolhyeon.diary.auth.enums.UserActiveStatus;
+import com.cheolhyeon.diary.auth.repository.UserRepository;
+import com.cheolhyeon.diary.sharecode.dto.ShareCodeOwner;
+import com.cheolhyeon.diary.sharecode.entity.ShareCode;
+import com.cheolhyeon.diary.sharecode.enums.ShareCodeStatus;
+import com.cheolhyeon.diary.sharecode.repository.ShareCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ShareCodeLookupCacheTest {
+
+    @Mock
+    ShareCodeRepository shareCodeRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ClusterBroadcaster clusterBroadcaster;
+
+    ShareCodeLookupCache shareCodeLookupCache;
+
+    private final String codeHash = "HASH_CODE_ABC123";
+    private final Long ownerId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        shareCodeLookupCache = new ShareCodeLookupCache(
+                shareCodeRepository, userRepository, clusterBroadcaster, 100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("존재하는 코드는 한 번만 조회하고 이후에는 캐시에서 응답한다")
+    void findOwner_ExistingCode_CachesResult() {
+        // Given
+        given(shareCodeRepository.findShareCodeByHashCode(codeHash)).willReturn(Optional.of(shareCode()));
+        given(userRepository.findById(ownerId)).willReturn(Optional.of(owner()));
+
+        // When
+        Optional<ShareCodeOwner> first = shareCodeLookupCache.findOwner(codeHash);
+        Optional<ShareCodeOwner> second = shareCodeLookupCache.findOwner(codeHash);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second.get().getUserId()).isEqualTo(ownerId);
+        assertThat(second.get().getDisplayName()).isEqualTo("공유코드소유자");
+        verify(shareCodeRepository, times(1)).findShareCodeByHashCode(codeHash);
+        verify(userRepository, times(1)).findById(ownerId);
+        assertThat(shareCodeLookupCache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 코드도 캐싱한다")
+    void findOwner_UnknownCode_CachesNegativeResult() {
+        // Given
+        given(shareCodeRepository.findShareCodeByHashCode(codeHash)).willReturn(Optional.empty());
+
+        // When
+        shareCodeLookupCache.findOwner(codeHash);
+        Optional<ShareCodeOwner> result = shareCodeLookupCache.findOwner(codeHash);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(shareCodeRepository, times(1)).findShareCodeByHashCode(codeHash);
+    }
+
+    @Test
+    @DisplayName("코드 주인이 존재하지 않으면 예외가 발생하고 캐싱하지 않는다")
+    void findOwner_OwnerMissing_ThrowsAndDoesNotCache() {
+        // Given
+        given(shareCodeRepository.findShareCodeByHashCode(codeHash)).willReturn(Optional.of(shareCode()));
+        given(userRepository.findById(ownerId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> shareCodeLookupCache.findOwner(codeHash))
+                .isInstanceOf(UserException.class);
+        assertThatThrownBy(() -> shareCodeLookupCache.findOwner(codeHash))
+                .isInstanceOf(UserException.class);
+        verify(shareCodeRepository, times(2)).findShareCodeByHashCode(codeHash);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 DB 를 다시 확인한다")
+    void invalidate_NextLookupHitsDatabase() {
+        // Given
+        given(shareCodeRepository.findShareCodeByHashCode(codeHash))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(shareCode()));
+        given(userRepository.findById(ownerId)).willReturn(Optional.of(owner()));
+        shareCodeLookupCache.findOwner(codeHash);
+
+        // When
+        shareCodeLookupCache.invalidate(codeHash);
+        Optional<ShareCodeOwner> result = shareCodeLookupCache.findOwner(codeHash);
+
+        // Then
+        assertThat(result).isPresent();
+        verify(shareCodeRepository, times(2)).findShareCodeByHashCode(codeHash);
+        assertThat(shareCodeLookupCache.getInvalidationCount()).isEqualTo(1);
+        verify(clusterBroadcaster).broadcast("share-code-invalidation", codeHash);
+    }
+
+    private ShareCode shareCode() {
+        return ShareCode.builder()
+                .userId(ownerId)
+                .codePlain("PLAIN_CODE_123")
+                .codeHash(codeHash)
+                .status(ShareCodeStatus.ACTIVE)
+                .build();
+    }
+
+    private User owner() {
+        return new User(
+                ownerId,
+                "owner@test.com",
+                "010-0000-0000",
+                "공유코드소유자",
+                UserActiveStatus.ACTIVE,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -32,6 +32,9 @@ class ShareCodeServiceTest {
     @Mock
     private HashCodeGenerator hashCodeGenerator;
 
+    @Mock
+    private ShareCodeLookupCache shareCodeLookupCache;
+
     @InjectMocks
     private ShareCodeService shareCodeService;
 
@@ -77,6 +80,7 @@ class ShareCodeServiceTest {
         verify(hashCodeGenerator).generateShareCodeHash("TEST_CODE_123");
         verify(shareCodeRepository).findShareCodeById(testUserId);
         verify(shareCodeRepository).save(any(ShareCode.class));
+        verify(shareCodeLookupCache).invalidate("HASHED_CODE_123");
     }
 
     @Test
@@ -112,6 +116,8 @@ class ShareCodeServiceTest {
         assertThat(existingShareCode.getCodePlain()).isEqualTo(newCode);
         assertThat(existingShareCode.getCodeHash()).isNotNull();
         assertThat(existingShareCode.getUpdatedAt()).isNotNull();
+        verify(shareCodeLookupCache).invalidate("EXISTING_HASH");
+        verify(shareCodeLookupCache).invalidate("UPDATED_HASH_456");
     }
 
     @Test
@@ -167,6 +173,7 @@ class ShareCodeServiceTest {
         // Then
         verify(shareCodeRepository).findShareCodeById(testUserId);
         assertThat(existingShareCode.getStatus()).isEqualTo(ShareCodeStatus.REVOKED);
+        verify(shareCodeLookupCache).invalidate("EXISTING_HASH");
     }
 
     @Test